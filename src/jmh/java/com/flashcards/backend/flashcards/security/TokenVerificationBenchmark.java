@@ -0,0 +1,185 @@
+package com.flashcards.backend.flashcards.security;
+
+import com.flashcards.backend.flashcards.dao.JwtSigningKeyDao;
+import com.flashcards.backend.flashcards.dao.RevokedTokenDao;
+import com.flashcards.backend.flashcards.model.JwtSigningKey;
+import com.flashcards.backend.flashcards.model.RevokedToken;
+import com.flashcards.backend.flashcards.model.Role;
+import com.flashcards.backend.flashcards.model.User;
+import com.flashcards.backend.flashcards.service.JwtKeyService;
+import com.flashcards.backend.flashcards.service.JwtService;
+import com.flashcards.backend.flashcards.service.TokenRevocationService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.jasypt.encryption.StringEncryptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_ALGORITHM_EDDSA;
+import static com.flashcards.backend.flashcards.constants.SecurityConstants.SECURITY_HEADER_AUTHORIZATION;
+import static com.flashcards.backend.flashcards.constants.SecurityConstants.SECURITY_HEADER_BEARER_PREFIX;
+
+/**
+ * Cost of authenticating one bearer token: a cache hit, a full verification with the shared parser,
+ * a legacy HMAC token, the parser-per-call baseline the shared parser replaced, and the whole
+ * authentication filter per request (cache hit, revocation check and SecurityContext population).
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}; pass e.g. {@code -Djmh.args="-t 8"} for contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenVerificationBenchmark {
+    private static final String LEGACY_SECRET = "benchmark-legacy-secret-of-at-least-256-bits-length";
+    private static final long EXPIRATION_MS = 900_000;
+    private static final String ISSUER = "flashcards-app";
+
+    private JwtKeyService jwtKeyService;
+    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+    private String token;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        jwtKeyService = new JwtKeyService(new InMemorySigningKeyDao(), new PlainStringEncryptor(),
+                JWT_ALGORITHM_EDDSA, 720, 0, EXPIRATION_MS, 60_000);
+        jwtKeyService.rotateIfDue();
+        jwtService = new JwtService(jwtKeyService, LEGACY_SECRET, EXPIRATION_MS, ISSUER);
+
+        User user = User.builder()
+                .id("benchmark-user")
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .roles(Set.of(Role.USER))
+                .build();
+        token = jwtService.generateToken(user);
+        legacyToken = Jwts.builder()
+                .subject(user.getId())
+                .issuer(ISSUER)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        verifiedTokenCache = new VerifiedTokenCache(10_000);
+        verifiedTokenCache.put(token, jwtService.verify(token).orElseThrow());
+
+        // Other users' revocations, so the revocation check looks up populated maps
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(new InMemoryRevokedTokenDao(), EXPIRATION_MS);
+        for (int i = 0; i < 1_000; i++) {
+            tokenRevocationService.revokeUser("revoked-user-" + i, null);
+        }
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, verifiedTokenCache, tokenRevocationService);
+        request = new MockHttpServletRequest("GET", "/api/decks");
+        request.addHeader(SECURITY_HEADER_AUTHORIZATION, SECURITY_HEADER_BEARER_PREFIX + token);
+        response = new MockHttpServletResponse();
+        filterChain = (servletRequest, servletResponse) -> { };
+    }
+
+    @Benchmark
+    public Optional<VerifiedTokenCache.CachedToken> cachedLookup() {
+        return verifiedTokenCache.get(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifySharedParser() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyLegacyHmac() {
+        return jwtService.verify(legacyToken);
+    }
+
+    @Benchmark
+    public Object verifyParserPerCall() {
+        return Jwts.parser()
+                .verifyWith(jwtKeyService.verificationKey(jwtKeyService.signingKey().kid()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Authentication authenticationFilter() throws ServletException, IOException {
+        try {
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static final class InMemorySigningKeyDao implements JwtSigningKeyDao {
+        private final List<JwtSigningKey> keys = new CopyOnWriteArrayList<>();
+
+        @Override
+        public List<JwtSigningKey> findAllNewestFirst() {
+            return keys.stream()
+                    .sorted(Comparator.comparing(JwtSigningKey::getCreatedAt).reversed())
+                    .toList();
+        }
+
+        @Override
+        public JwtSigningKey insert(JwtSigningKey key) {
+            keys.add(key);
+            return key;
+        }
+
+        @Override
+        public JwtSigningKey save(JwtSigningKey key) {
+            keys.removeIf(existing -> existing.getId().equals(key.getId()));
+            keys.add(key);
+            return key;
+        }
+    }
+
+    private static final class InMemoryRevokedTokenDao implements RevokedTokenDao {
+        @Override
+        public RevokedToken insert(RevokedToken revokedToken) {
+            return revokedToken;
+        }
+
+        @Override
+        public List<RevokedToken> findActive(Date now) {
+            return List.of();
+        }
+    }
+
+    private static final class PlainStringEncryptor implements StringEncryptor {
+        @Override
+        public String encrypt(String message) {
+            return message;
+        }
+
+        @Override
+        public String decrypt(String encryptedMessage) {
+            return encryptedMessage;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.flashcards.backend.flashcards.annotation;
 
 import com.flashcards.backend.flashcards.dto.AIGenerateRequestDto;
+import com.flashcards.backend.flashcards.dto.AIJobDto;
+import com.flashcards.backend.flashcards.dto.AIMultiImageGenerateResponseDto;
 import com.flashcards.backend.flashcards.dto.AISummaryResponseDto;
 import com.flashcards.backend.flashcards.dto.CreateFlashcardDto;
 import com.flashcards.backend.flashcards.dto.ErrorResponse;
@@ -265,12 +267,57 @@ public @interface AIApiDocumentation {
     })
     @interface GenerateFlashcardsFromImage {}
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Generate flashcards from multiple images using AI vision",
+            description = "Analyzes several images (e.g. photographed textbook pages) concurrently and returns one merged, " +
+                    "deduplicated list of flashcards. Images that fail are reported individually instead of failing the whole request.",
+            tags = {"AI Operations"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully generated flashcards from at least one image",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AIMultiImageGenerateResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No images, too many images, or invalid request parameters",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Authentication required",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Every image failed",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @interface GenerateFlashcardsFromImages {}
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(
             summary = "Generate educational image from text description using DALL-E",
             description = "Uses DALL-E to generate educational diagrams, flowcharts, and illustrations from text descriptions. " +
-                    "Perfect for creating visual learning aids and concept diagrams.",
+                    "Perfect for creating visual learning aids and concept diagrams. Images are stored and returned with stable " +
+                    "/api/ai/images/{imageId} URLs; an identical request is served from the store without calling DALL-E.",
             tags = {"AI Operations"}
     )
     @ApiResponses(value = {
@@ -309,6 +356,80 @@ public @interface AIApiDocumentation {
     })
     @interface GenerateImageFromText {}
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Generate educational images asynchronously",
+            description = "Same request as /images/generate, but generation runs in the background. " +
+                    "Returns 202 with the queued job and a Location header; poll GET /api/jobs/{jobId} or pass an https callbackUrl " +
+                    "on an allowed host to receive the finished job. Resubmitting with the same Idempotency-Key header returns the " +
+                    "existing job instead of running the operation again.",
+            tags = {"AI Operations"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job queued",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AIJobDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Idempotency key was already used for a different operation",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Job queue is full, retry later",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @interface SubmitImageGenerationJob {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Fetch a stored generated image",
+            description = "Returns a generated PNG by its content hash (the imageId and url of an image generation response). " +
+                    "No authentication is required so the URL works in <img> tags and behind a CDN. Images are immutable, " +
+                    "so responses carry a strong ETag and a long public Cache-Control; If-None-Match returns 304 and " +
+                    "Range requests return 206.",
+            tags = {"AI Operations"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stored image",
+                    content = @Content(mediaType = "image/png")
+            ),
+            @ApiResponse(
+                    responseCode = "206",
+                    description = "Requested byte range of the image",
+                    content = @Content(mediaType = "image/png")
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Client copy is current"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Image not stored",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @interface GetGeneratedImage {}
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(
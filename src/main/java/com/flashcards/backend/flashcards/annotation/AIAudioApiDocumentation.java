@@ -1,8 +1,10 @@
 package com.flashcards.backend.flashcards.annotation;
 
+import com.flashcards.backend.flashcards.dto.AIJobDto;
 import com.flashcards.backend.flashcards.dto.AISpeechToTextResponseDto;
 import com.flashcards.backend.flashcards.dto.AITextToSpeechRequestDto;
 import com.flashcards.backend.flashcards.dto.AITextToSpeechResponseDto;
+import com.flashcards.backend.flashcards.dto.DeckAudioRenderDto;
 import com.flashcards.backend.flashcards.dto.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -225,13 +227,125 @@ public @interface AIAudioApiDocumentation {
     })
     @interface SpeechToText {}
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Submit an audio operation as a background job",
+            description = "Same request as the synchronous endpoint, but the operation runs in the background. Text-to-speech results reference the audio by clipId (GET /api/audio/clips/{clipId}). " +
+                    "Returns 202 with the queued job and a Location header; poll GET /api/jobs/{jobId} or pass an https callbackUrl " +
+                    "on an allowed host to receive the finished job. Resubmitting with the same Idempotency-Key header returns the " +
+                    "existing job instead of running the operation again.",
+            tags = {"AI Audio Operations"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job queued",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AIJobDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Idempotency key was already used for a different operation",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Job queue is full, retry later",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @interface SubmitAudioJob {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Transcribe a long recording",
+            description = "Transcribes PCM WAV recordings too large for a single Whisper call (e.g. full lectures). " +
+                    "The audio is split at pauses in speech, segments are transcribed in parallel and merged with timestamps. " +
+                    "When an action is requested, each segment is summarized or turned into flashcards as soon as it is transcribed.",
+            tags = {"AI Audio Operations"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully transcribed audio",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AISpeechToTextResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Audio is not PCM WAV, is too large, or request parameters are invalid",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Audio capacity exhausted, retry later",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @interface LongSpeechToText {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Transcribe audio and stream generated flashcards",
+            description = "Transcribes audio and streams flashcards as Server-Sent Events while the rest of the audio is still being processed. " +
+                    "PCM WAV is split at pauses and each segment's flashcards are generated as soon as it is transcribed; " +
+                    "other formats are transcribed in one call and the transcript is turned into flashcards in concurrent chunks. " +
+                    "Events: 'transcript' (a transcribed segment), 'flashcards' (newly generated, deduplicated cards), " +
+                    "'complete' (the full speech-to-text response) or 'error'. Requires deckId and flashcardCount.",
+            tags = {"AI Audio Operations"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream of transcript segments and flashcards",
+                    content = @Content(mediaType = "text/event-stream")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid audio file or request parameters",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Audio capacity exhausted, retry later",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @interface StreamSpeechToFlashcards {}
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(
             summary = "Convert text to speech and stream audio (binary)",
             description = "Converts text content to audio using OpenAI's TTS models and returns raw MP3 audio for direct playback. " +
                     "This endpoint is optimized for frontend applications - returns binary audio stream that can be played directly. " +
-                    "Same request format as /text-to-speech but returns raw MP3 instead of JSON with base64.",
+                    "Same request format as /text-to-speech but returns raw MP3 instead of JSON with base64. " +
+                    "Audio is sent with chunked transfer encoding as it is synthesized, so playback can start before synthesis completes.",
             tags = {"AI Audio Operations"}
     )
     @RequestBody(
@@ -290,4 +404,91 @@ public @interface AIAudioApiDocumentation {
             )
     })
     @interface TextToSpeechStream {}
-}
\ No newline at end of file
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Replay a cached audio clip",
+            description = "Returns a previously synthesized MP3 clip by its content hash (the clipId of a TTS response or the " +
+                    "Content-Location of a streamed recitation). Responses carry a weak ETag (a re-synthesized clip sounds the same " +
+                    "but may differ byte for byte) and a long private Cache-Control; If-None-Match returns 304. Replays are " +
+                    "not rate limited.",
+            tags = {"AI Audio Operations"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cached audio clip",
+                    content = @Content(mediaType = "audio/mpeg")
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Client copy is current"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Clip not cached",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @interface GetAudioClip {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Pre-render audio for a deck",
+            description = "Starts a background job that synthesizes front and back audio for every card in the deck. " +
+                    "Cards unchanged since the last render (same text, voice and speed) reuse their cached clips, so only " +
+                    "edited cards are synthesized again. Poll GET /api/audio/decks/{deckId} for progress.",
+            tags = {"AI Audio Operations"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Render started (or already running)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = DeckAudioRenderDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Deck not found or not owned by the caller",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @interface RenderDeckAudio {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Get deck audio render status",
+            description = "Returns progress of a running render or the result of the last one, including clip ids per card.",
+            tags = {"AI Audio Operations"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Render progress or result",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = DeckAudioRenderDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Deck not found, not owned by the caller, or not rendered yet",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @interface GetDeckAudio {}
+}
@@ -4,8 +4,10 @@ import com.flashcards.backend.flashcards.dto.AuthResponseDto;
 import com.flashcards.backend.flashcards.dto.CreateUserDto;
 import com.flashcards.backend.flashcards.dto.LoginDto;
 import com.flashcards.backend.flashcards.dto.OAuth2ProviderDto;
+import com.flashcards.backend.flashcards.dto.OAuthCodeExchangeDto;
 import com.flashcards.backend.flashcards.dto.RecoveryCodeLoginDto;
 import com.flashcards.backend.flashcards.dto.RecoveryCodesDto;
+import com.flashcards.backend.flashcards.dto.RefreshTokenRequestDto;
 import com.flashcards.backend.flashcards.dto.TotpSetupDto;
 import com.flashcards.backend.flashcards.dto.TotpVerificationDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -68,6 +70,61 @@ public class AuthApiDocumentation {
     public @interface LoginBody {
     }
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Refresh access token", description = "Exchange a refresh token for a new access token and a new refresh token. Each refresh token can be used once; reusing one ends the session.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens refreshed successfully",
+                    content = @Content(schema = @Schema(implementation = AuthResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request format or missing refresh token"),
+            @ApiResponse(responseCode = "401", description = "Refresh token invalid, expired, or already used"),
+            @ApiResponse(responseCode = "500", description = "Internal server error during token refresh")
+    })
+    public @interface RefreshToken {
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Logout", description = "Revoke the current access token and, if given, end the session of the refresh token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Logged out successfully"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated"),
+            @ApiResponse(responseCode = "500", description = "Internal server error during logout")
+    })
+    public @interface Logout {
+    }
+
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Parameter(description = "Refresh token issued with the last authentication response",
+               schema = @Schema(implementation = RefreshTokenRequestDto.class))
+    @RequestBody(description = "Refresh token",
+                 content = @Content(schema = @Schema(implementation = RefreshTokenRequestDto.class)))
+    public @interface RefreshTokenBody {
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Exchange OAuth2 login code", description = "Exchange the one-time code from the OAuth2 success redirect for an access token and a refresh token. Codes expire after a minute and can be used once.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OAuth2 login completed",
+                    content = @Content(schema = @Schema(implementation = AuthResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request format or missing code"),
+            @ApiResponse(responseCode = "401", description = "Code invalid, expired, or already used"),
+            @ApiResponse(responseCode = "500", description = "Internal server error during code exchange")
+    })
+    public @interface ExchangeOAuthCode {
+    }
+
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Parameter(description = "One-time code from the OAuth2 success redirect",
+               required = true, schema = @Schema(implementation = OAuthCodeExchangeDto.class))
+    @RequestBody(description = "OAuth2 login code",
+                 content = @Content(schema = @Schema(implementation = OAuthCodeExchangeDto.class)))
+    public @interface OAuthCodeExchangeBody {
+    }
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "Setup TOTP 2FA", description = "Generate TOTP secret and QR code for setting up two-factor authentication")
@@ -4,6 +4,11 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "ai")
@@ -12,13 +17,26 @@ public class AIConfigProperties {
     private Limits limits = new Limits();
     private Cache cache = new Cache();
     private Fallback fallback = new Fallback();
+    private Usage usage = new Usage();
+    private RateLimit rateLimit = new RateLimit();
+    private Bulkhead bulkhead = new Bulkhead();
+    private ImagePreprocessing imagePreprocessing = new ImagePreprocessing();
+    private TtsChunking ttsChunking = new TtsChunking();
+    private TtsCache ttsCache = new TtsCache();
+    private DeckAudio deckAudio = new DeckAudio();
+    private AudioUpload audioUpload = new AudioUpload();
+    private LongAudio longAudio = new LongAudio();
+    private Jobs jobs = new Jobs();
+    private ImageStore imageStore = new ImageStore();
 
     @Data
     public static class Limits {
         private int maxFlashcardsPerRequest = 20;
         private int maxTextLength = 10000;
         private int rateLimitPerMinute = 10;
-        private int maxImageSizeKb = 4096; // 4MB max image size
+        private int maxImageSizeKb = 10240; // per uploaded image on the multi-image endpoint
+        private int maxImagesPerRequest = 20;
+        private int maxConcurrentImagesPerRequest = 4;
     }
 
     @Data
@@ -33,4 +51,98 @@ public class AIConfigProperties {
         private int maxRetries = 2;
         private String[] fallbackModels = {"GPT_4O_MINI", "CLAUDE_3_5_HAIKU", "GEMINI_1_5_FLASH"};
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class Usage {
+        private boolean enabled = true;
+        private long flushIntervalMs = 60000;
+    }
+
+    @Data
+    public static class RateLimit {
+        private boolean enabled = true;
+        private String store = "memory"; // memory | mongo
+        private int defaultCost = 1;
+        private Map<String, Integer> operationCosts = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class Bulkhead {
+        private int maxConcurrent = 8;
+        private int maxQueued = 16;
+        private long maxWaitMs = 2000;
+        private long callTimeoutMs = 120000;
+        private Map<String, Integer> maxConcurrentByName = new HashMap<>(); // e.g. openai-image: 2
+    }
+
+    @Data
+    public static class ImagePreprocessing {
+        private boolean enabled = true;
+        private int maxLongSide = 2048;  // OpenAI high-detail fits within 2048x2048
+        private int maxShortSide = 768;  // then scales the short side down to 768
+        private float jpegQuality = 0.85f;
+        private long maxSourcePixels = 100_000_000L; // refuse to decode anything larger
+    }
+
+    @Data
+    public static class TtsChunking {
+        private boolean enabled = true;
+        private int targetChunkChars = 1000;
+        private int maxParallelChunks = 3;
+    }
+
+    @Data
+    public static class TtsCache {
+        private boolean enabled = true;
+        private String directory = System.getProperty("java.io.tmpdir") + "/flashcards-audio-clips";
+        private long memoryMaxBytes = 32L * 1024 * 1024;
+        private long diskMaxBytes = 1024L * 1024 * 1024;
+        private long clientMaxAgeSeconds = 31536000; // clips are immutable, browsers may keep them a year
+    }
+
+    @Data
+    public static class DeckAudio {
+        private int maxConcurrentCards = 2; // leave audio bulkhead room for interactive requests
+        private int capacityRetries = 3;
+    }
+
+    @Data
+    public static class AudioUpload {
+        private long memoryBudgetBytes = 128L * 1024 * 1024; // upload bytes in flight across all requests
+        private long maxWaitMs = 5000;
+        private String tempDirectory = System.getProperty("java.io.tmpdir") + "/flashcards-audio-uploads";
+    }
+
+    @Data
+    public static class LongAudio {
+        private int maxFileSizeMb = 500;
+        private double targetSegmentSeconds = 120;
+        private double maxSegmentSeconds = 600;
+        private long maxSegmentBytes = 24L * 1024 * 1024; // stay under Whisper's 25MB upload limit
+        private int windowMs = 50;
+        private int minSilenceMs = 400;
+        private double silenceThresholdDbfs = -40;
+        private int maxParallelSegments = 4;
+        private long streamTimeoutMs = 600000;
+    }
+
+    @Data
+    public static class Jobs {
+        private int maxConcurrent = 4;
+        private int maxQueued = 100;
+        private long resultTtlHours = 24;
+        private List<String> callbackAllowedHosts = List.of(); // callbacks are rejected unless the host is listed
+        private int callbackTimeoutMs = 5000;
+        private String instanceId = ""; // stable name of this instance; blank uses the host name
+    }
+
+    @Data
+    public static class ImageStore {
+        private boolean enabled = true;
+        private String directory = System.getProperty("java.io.tmpdir") + "/flashcards-generated-images";
+        private long diskMaxBytes = 2L * 1024 * 1024 * 1024;
+        private long maxImageBytes = 20L * 1024 * 1024;
+        private int downloadTimeoutMs = 30000;
+        private long clientMaxAgeSeconds = 31536000; // images are content-addressed and never change
+    }
+}
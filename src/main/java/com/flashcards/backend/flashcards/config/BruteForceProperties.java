@@ -0,0 +1,18 @@
+package com.flashcards.backend.flashcards.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "auth.brute-force")
+public class BruteForceProperties {
+    private boolean enabled = true;
+    private String store = "memory";
+    private long windowMs = 900_000L;
+    private int maxAccountFailures = 5;
+    private int maxClientFailures = 50;
+    private long baseLockoutMs = 30_000L;
+    private long maxLockoutMs = 3_600_000L;
+}
@@ -0,0 +1,18 @@
+package com.flashcards.backend.flashcards.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Wall clock for time-window logic (rate limits, lockouts), replaceable with a fixed clock in tests.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
@@ -1,17 +1,55 @@
 package com.flashcards.backend.flashcards.config;
 
+import com.flashcards.backend.flashcards.security.UpgradingBCryptPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_CALIBRATION_PASSWORD;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_CALIBRATION_ROUNDS;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_MAX_STRENGTH;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_MIN_STRENGTH;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_STRENGTH;
 
+@Slf4j
 @Configuration
 public class PasswordConfig {
 
+    /**
+     * BCrypt encoder with either the fixed cost or, in adaptive mode, the highest cost whose hash
+     * time on this host stays within the target. Calibration only ever raises the cost above the fixed one.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.bcrypt.adaptive:false}") boolean adaptive,
+            @Value("${password.bcrypt.target-hash-ms:250}") long targetHashMs) {
+        int strength = adaptive ? Math.max(BCRYPT_STRENGTH, calibrateStrength(targetHashMs)) : BCRYPT_STRENGTH;
+        return new UpgradingBCryptPasswordEncoder(strength);
     }
-}
\ No newline at end of file
+
+    private int calibrateStrength(long targetHashMs) {
+        UpgradingBCryptPasswordEncoder encoder = new UpgradingBCryptPasswordEncoder(BCRYPT_MIN_STRENGTH);
+        encoder.encode(BCRYPT_CALIBRATION_PASSWORD); // warm up the JIT before timing
+
+        long fastestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < BCRYPT_CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(BCRYPT_CALIBRATION_PASSWORD);
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+        }
+
+        // Each cost step doubles the work, so step up from the minimum while the doubled time fits
+        double minimumMs = fastestNanos / 1_000_000.0;
+        int strength = BCRYPT_MIN_STRENGTH;
+        double estimatedMs = minimumMs;
+        while (strength < BCRYPT_MAX_STRENGTH && estimatedMs * 2 <= targetHashMs) {
+            strength++;
+            estimatedMs *= 2;
+        }
+
+        log.info("Calibrated BCrypt cost {} (~{} ms per hash, target {} ms)", strength, Math.round(estimatedMs), targetHashMs);
+        return strength;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.config.web.PathPatternRequestMatcherBuilderFactoryBean;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -21,6 +22,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
 
+import static com.flashcards.backend.flashcards.constants.SecurityConstants.ADMIN_API_ENDPOINTS;
 import static com.flashcards.backend.flashcards.constants.SecurityConstants.ADMIN_ONLY_ENDPOINTS;
 import static com.flashcards.backend.flashcards.constants.SecurityConstants.PROTECTED_AUTH_ENDPOINTS;
 import static com.flashcards.backend.flashcards.constants.SecurityConstants.PUBLIC_AUTH_ENDPOINTS;
@@ -41,6 +43,15 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
 
+    /**
+     * Match request paths with PathPattern regardless of servlet, so string matchers keep working now
+     * that upload endpoints have their own DispatcherServlet (see UploadServletConfig).
+     */
+    @Bean
+    public PathPatternRequestMatcherBuilderFactoryBean requestMatcherBuilder() {
+        return new PathPatternRequestMatcherBuilderFactoryBean();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
@@ -55,8 +66,12 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/decks/public").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/decks/category/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/decks/search").permitAll()
+                        // Generated images are capability URLs: an unguessable content hash handed only to the
+                        // user who generated it (the request cache is per user), loadable from <img> without a token
+                        .requestMatchers(HttpMethod.GET, "/api/ai/images/*").permitAll()
                         .requestMatchers("/oauth2/**", "/login/oauth2/**").permitAll()
 //                        .requestMatchers(ADMIN_ONLY_ENDPOINTS).hasRole("ADMIN")
+                        .requestMatchers(ADMIN_API_ENDPOINTS).hasRole("ADMIN")
                         .requestMatchers(PROTECTED_AUTH_ENDPOINTS).authenticated()
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,66 @@
+package com.flashcards.backend.flashcards.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.LONG_AUDIO_UPLOAD_PATHS;
+import static com.flashcards.backend.flashcards.constants.AIConstants.LONG_AUDIO_UPLOAD_SERVLET;
+import static com.flashcards.backend.flashcards.constants.AIConstants.MULTIPART_FORM_FIELDS_MAX_BYTES;
+import static com.flashcards.backend.flashcards.constants.AIConstants.MULTI_IMAGE_UPLOAD_PATH;
+import static com.flashcards.backend.flashcards.constants.AIConstants.MULTI_IMAGE_UPLOAD_SERVLET;
+
+/**
+ * Multipart limits are enforced by the container per servlet, so endpoints that legitimately take
+ * more than spring.servlet.multipart allows are mapped to their own DispatcherServlet with limits
+ * derived from their configuration. The servlets share the application context, so handlers,
+ * interceptors and the security filter chain are the same as on the main dispatcher.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class UploadServletConfig {
+
+    private final WebApplicationContext applicationContext;
+    private final MultipartProperties multipartProperties;
+    private final AIConfigProperties aiProperties;
+
+    /**
+     * Up to max-images-per-request images of at most max-image-size-kb each.
+     */
+    @Bean
+    public ServletRegistrationBean<DispatcherServlet> multiImageUploadServlet() {
+        long maxImageBytes = aiProperties.getLimits().getMaxImageSizeKb() * 1024L;
+        long maxRequestBytes = aiProperties.getLimits().getMaxImagesPerRequest() * maxImageBytes
+                + MULTIPART_FORM_FIELDS_MAX_BYTES;
+        return uploadServlet(MULTI_IMAGE_UPLOAD_SERVLET, maxImageBytes, maxRequestBytes, MULTI_IMAGE_UPLOAD_PATH);
+    }
+
+    /**
+     * One recording of at most long-audio.max-file-size-mb, for the endpoints that split it into segments.
+     */
+    @Bean
+    public ServletRegistrationBean<DispatcherServlet> longAudioUploadServlet() {
+        long maxAudioBytes = aiProperties.getLongAudio().getMaxFileSizeMb() * 1024L * 1024L;
+        return uploadServlet(LONG_AUDIO_UPLOAD_SERVLET, maxAudioBytes, maxAudioBytes + MULTIPART_FORM_FIELDS_MAX_BYTES,
+                LONG_AUDIO_UPLOAD_PATHS);
+    }
+
+    private ServletRegistrationBean<DispatcherServlet> uploadServlet(String name, long maxFileBytes,
+                                                                     long maxRequestBytes, String... paths) {
+        ServletRegistrationBean<DispatcherServlet> registration =
+                new ServletRegistrationBean<>(new DispatcherServlet(applicationContext), paths);
+        registration.setName(name);
+        registration.setLoadOnStartup(1);
+        registration.setMultipartConfig(new MultipartConfigElement(
+                multipartProperties.getLocation(),
+                maxFileBytes,
+                maxRequestBytes,
+                (int) multipartProperties.getFileSizeThreshold().toBytes()));
+        return registration;
+    }
+}
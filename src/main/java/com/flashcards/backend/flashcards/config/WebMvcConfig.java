@@ -0,0 +1,23 @@
+package com.flashcards.backend.flashcards.config;
+
+import com.flashcards.backend.flashcards.ratelimit.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import static com.flashcards.backend.flashcards.constants.SecurityConstants.RATE_LIMITED_ENDPOINTS;
+import static com.flashcards.backend.flashcards.constants.SecurityConstants.RATE_LIMIT_EXEMPT_ENDPOINTS;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns(RATE_LIMITED_ENDPOINTS)
+                .excludePathPatterns(RATE_LIMIT_EXEMPT_ENDPOINTS);
+    }
+}
@@ -60,6 +60,14 @@ public class AIConstants {
     public static final int MAX_TEXT_LENGTH = 10000;
     public static final int RATE_LIMIT_PER_MINUTE = 10;
     public static final int CACHE_TTL_SECONDS = 3600;
+    public static final long RATE_LIMIT_REFILL_PERIOD_MS = 60_000L;
+    public static final String RATE_LIMIT_STORE_MEMORY = "memory";
+    public static final String RATE_LIMIT_STORE_MONGO = "mongo";
+    public static final String RATE_LIMIT_HEADER_LIMIT = "X-RateLimit-Limit";
+    public static final String RATE_LIMIT_HEADER_REMAINING = "X-RateLimit-Remaining";
+    public static final String RATE_LIMIT_KEY_USER_PREFIX = "user:";
+    public static final String RATE_LIMIT_KEY_IP_PREFIX = "ip:";
+    public static final int RATE_LIMIT_MAX_CAS_ATTEMPTS = 5;
 
     // AI Response Parsing
     public static final String JSON_FIELD_QUESTION = "question";
@@ -202,6 +210,39 @@ public class AIConstants {
 
     // Token Estimation
     public static final int CHARS_PER_TOKEN_ESTIMATE = 4;
+    public static final double TOKENS_PER_COST_UNIT = 1000.0;
+
+    // Provider Bulkheads
+    public static final String BULKHEAD_IMAGE_SUFFIX = "-image";
+    public static final String BULKHEAD_AUDIO_SUFFIX = "-audio";
+    public static final String METRIC_BULKHEAD_ACTIVE = "ai.bulkhead.active";
+    public static final String METRIC_BULKHEAD_QUEUED = "ai.bulkhead.queued";
+    public static final String METRIC_BULKHEAD_REJECTED = "ai.bulkhead.rejected";
+    public static final String METRIC_TAG_BULKHEAD = "bulkhead";
+    public static final String METRIC_TAG_REASON = "reason";
+
+    // Multi-Image Flashcards
+    public static final double DUPLICATE_FLASHCARD_SIMILARITY_THRESHOLD = 0.85;
+
+    // Image Preprocessing
+    public static final String PREPROCESSED_IMAGE_FORMAT = "jpeg";
+    public static final String METRIC_IMAGE_BYTES_SAVED = "ai.image.preprocess.bytes.saved";
+    public static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    public static final String JPEG_APP1_MARKER_TAG = "225";
+    public static final int EXIF_TAG_ORIENTATION = 0x0112;
+
+    // Usage Accounting
+    public static final String USAGE_ANONYMOUS_USER = "anonymous";
+    public static final String METRIC_AI_CALLS = "ai.calls";
+    public static final String METRIC_AI_TOKENS = "ai.tokens";
+    public static final String METRIC_AI_LATENCY = "ai.latency";
+    public static final String METRIC_AI_COST = "ai.cost.estimated";
+    public static final String METRIC_TAG_MODEL = "model";
+    public static final String METRIC_TAG_OPERATION = "operation";
+    public static final String METRIC_TAG_TOKEN_TYPE = "type";
+    public static final String TOKEN_TYPE_PROMPT = "prompt";
+    public static final String TOKEN_TYPE_COMPLETION = "completion";
+    public static final String TOKEN_TYPE_CACHED = "cached";
 
     // Prompts
     public static final String FLASHCARD_JSON_SCHEMA = """
@@ -354,6 +395,44 @@ public class AIConstants {
 
     // Audio Processing Limits
     public static final int MAX_AUDIO_TEXT_LENGTH = 4096;
+    public static final int MAX_CHUNKED_AUDIO_TEXT_LENGTH = 50000;
+
+    // Audio Upload Staging
+    public static final String DEFAULT_AUDIO_UPLOAD_FILENAME = "audio.mp3";
+    public static final String METRIC_AUDIO_UPLOAD_BUDGET_AVAILABLE = "ai.audio.upload.budget.available";
+
+    // Audio Clip Cache
+    public static final String AUDIO_CLIP_FILE_EXTENSION = ".mp3";
+    public static final String AUDIO_CLIP_PATH = "/api/audio/clips/";
+
+    // Dedicated Upload Servlets (multipart limits wider than the global ones)
+    public static final String MULTI_IMAGE_UPLOAD_SERVLET = "multiImageUploadServlet";
+    public static final String MULTI_IMAGE_UPLOAD_PATH = "/api/ai/flashcards/generate-images";
+    public static final String LONG_AUDIO_UPLOAD_SERVLET = "longAudioUploadServlet";
+    public static final String[] LONG_AUDIO_UPLOAD_PATHS = {
+            "/api/audio/speech-to-text/long",
+            "/api/audio/speech-to-text/stream"
+    };
+    public static final long MULTIPART_FORM_FIELDS_MAX_BYTES = 1024 * 1024; // non-file fields of an upload form
+
+    // Generated Image Store
+    public static final String GENERATED_IMAGE_FILE_EXTENSION = ".png"; // DALL-E always returns PNG
+    public static final String GENERATED_IMAGE_REQUEST_EXTENSION = ".request";
+    public static final String GENERATED_IMAGE_PATH = "/api/ai/images/";
+    public static final int DALL_E_2_MAX_IMAGES_PER_CALL = 10; // DALL-E 3 accepts only n=1
+
+    // Async AI Jobs
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String AI_JOB_PATH = "/api/jobs/";
+    public static final String AI_JOB_THREAD_PREFIX = "ai-job-";
+    public static final String AI_JOB_DEFAULT_INSTANCE_ID = "local";
+
+    // Transcript Flashcard Streaming (SSE)
+    public static final String SSE_EVENT_TRANSCRIPT = "transcript";
+    public static final String SSE_EVENT_FLASHCARDS = "flashcards";
+    public static final String SSE_EVENT_COMPLETE = "complete";
+    public static final String SSE_EVENT_ERROR = "error";
+    public static final int MIN_TRANSCRIPT_CHUNK_CHARS = 1500;
     public static final int MAX_AUDIO_FILE_SIZE_MB = 25;
 
     // Audio Summarization Template
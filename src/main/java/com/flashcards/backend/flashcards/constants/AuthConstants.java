@@ -9,11 +9,27 @@ public class AuthConstants {
 
     // BCrypt Strength
     public static final int BCRYPT_STRENGTH = 12;
+    public static final int BCRYPT_MIN_STRENGTH = 10;
+    public static final int BCRYPT_MAX_STRENGTH = 16;
+    public static final int BCRYPT_COST_OFFSET = 4;
+    public static final int BCRYPT_SALT_PREFIX_LENGTH = 29; // $2a$12$ plus the 22-character salt
+    public static final int BCRYPT_CALIBRATION_ROUNDS = 3;
+    public static final String BCRYPT_CALIBRATION_PASSWORD = "calibration-password";
+
+    // Brute-Force Protection
+    public static final String LOGIN_ATTEMPT_KEY_ACCOUNT_PREFIX = "login:account:";
+    public static final String LOGIN_ATTEMPT_KEY_CLIENT_PREFIX = "login:ip:";
+    public static final long LOGIN_ATTEMPT_CONTENDED_RETRY_SECONDS = 1L; // a reservation the store could not make
+
+    // Password Hashing Pool
+    public static final String PASSWORD_HASH_THREAD_PREFIX = "password-hash-";
 
     // TOTP Configuration
     public static final int TOTP_CODE_LENGTH = 6;
     public static final int TOTP_TIME_STEP_SECONDS = 30;
     public static final int TOTP_WINDOW = 1;
+    public static final String TOTP_HMAC_ALGORITHM = "HmacSHA1";
+    public static final int TOTP_KEY_CACHE_MAX_ENTRIES = 10_000;
 
     // Password Validation
     public static final int PASSWORD_MIN_LENGTH = 8;
@@ -66,14 +82,20 @@ public class AuthConstants {
     public static final String OAUTH_AUTHORIZATION_BASE_PATH = "/oauth2/authorization";
 
     // OAuth URL Parameters
-    public static final String OAUTH_PARAM_TOKEN = "token";
+    public static final String OAUTH_PARAM_CODE = "code";
     public static final String OAUTH_PARAM_TYPE = "type";
     public static final String OAUTH_PARAM_ERROR = "error";
     public static final String OAUTH_TYPE_VALUE = "oauth";
     public static final String OAUTH_ERROR_AUTHENTICATION_FAILED = "authentication_failed";
 
+    // OAuth Login Codes (exchanged for tokens so none appear in the redirect URL)
+    public static final int OAUTH_LOGIN_CODE_BYTES = 32;
+    public static final long OAUTH_LOGIN_CODE_TTL_MS = 60_000;
+
     // OAuth Username Generation
     public static final String OAUTH_USERNAME_FALLBACK_PREFIX = "user";
+    public static final int OAUTH_USERNAME_SUFFIXED_CANDIDATES = 4;
+    public static final int OAUTH_USERNAME_SUFFIX_BOUND = 1_000_000;
 
     private AuthConstants() {}
 }
\ No newline at end of file
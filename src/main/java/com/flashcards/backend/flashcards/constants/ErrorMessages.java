@@ -33,6 +33,7 @@ public class ErrorMessages {
     public static final String CONTROLLER_MISSING_PARAMETER = "Missing required parameter: %s";
     public static final String CONTROLLER_INVALID_PARAMETER = "Invalid parameter %s: %s";
     public static final String CONTROLLER_RESOURCE_NOT_FOUND = "Resource %s not found";
+    public static final String CONTROLLER_UPLOAD_TOO_LARGE = "Upload exceeds the size limit of this endpoint";
     public static final String CONTROLLER_UNAUTHORIZED_ACCESS = "Unauthorized access to %s";
     public static final String CONTROLLER_FORBIDDEN_ACTION = "Action %s is forbidden for current user";
 
@@ -43,10 +44,19 @@ public class ErrorMessages {
     public static final String AUTH_TOKEN_INVALID = "Invalid JWT token: %s";
     public static final String AUTH_TOKEN_EXPIRED = "JWT token has expired";
     public static final String AUTH_TOKEN_EXTRACTION_FAILED = "Failed to extract claims from token: %s";
+    public static final String AUTH_REFRESH_TOKEN_INVALID = "Invalid or expired refresh token";
+    public static final String AUTH_REFRESH_TOKEN_REUSED = "Refresh token was already used; the session has been revoked";
+    public static final String AUTH_SIGNING_KEY_UNKNOWN = "Unknown token signing key: %s";
+    public static final String AUTH_SIGNING_KEY_MISSING = "Token has no key id and legacy HMAC verification is disabled";
+    public static final String AUTH_SIGNING_ALGORITHM_UNSUPPORTED = "Unsupported token signing algorithm: %s";
+    public static final String AUTH_SIGNING_KEY_LOAD_FAILED = "Failed to load token signing key %s: %s";
+    public static final String AUTH_TOO_MANY_ATTEMPTS = "Too many failed sign-in attempts. Retry after %s seconds";
+    public static final String AUTH_PASSWORD_HASHING_BUSY = "Too many sign-in attempts in progress, please retry shortly";
     public static final String AUTH_PASSWORD_VERIFICATION_FAILED = "Password verification failed: null or empty password provided";
     public static final String AUTH_CREDENTIALS_INVALID = "Invalid username or password";
     public static final String AUTH_USER_DISABLED = "User account is disabled";
     public static final String AUTH_TOTP_CODE_INVALID = "Invalid TOTP code";
+    public static final String AUTH_TOTP_CODE_REUSED = "TOTP code has already been used";
     public static final String AUTH_TOTP_CODE_REQUIRED = "TOTP code is required for this account";
     public static final String AUTH_TOTP_SECRET_USERNAME_NULL = "Secret and username cannot be null or empty";
     public static final String AUTH_TOTP_QR_GENERATION_FAILED = "Failed to generate QR code: %s";
@@ -59,6 +69,7 @@ public class ErrorMessages {
     public static final String AUTH_OAUTH_PROVIDER_NOT_SUPPORTED = "OAuth provider '%s' is not supported";
     public static final String AUTH_OAUTH_EMAIL_NOT_FOUND = "Email not found from OAuth2 provider";
     public static final String AUTH_OAUTH_PROCESSING_FAILED = "OAuth2 authentication processing failed: %s";
+    public static final String AUTH_OAUTH_CODE_INVALID = "Invalid, expired, or already used OAuth2 login code";
 
     // Error Response Field Names
     public static final String ERROR_FIELD_TIMESTAMP = "timestamp";
@@ -79,6 +90,14 @@ public class ErrorMessages {
     public static final String ENTITY_DECK = "Deck";
     public static final String ENTITY_FLASHCARD = "Flashcard";
     public static final String ENTITY_STUDY_SESSION = "Study Session";
+    public static final String ENTITY_AI_USAGE = "AI Usage";
+    public static final String ENTITY_DECK_AUDIO_RENDER = "Deck Audio Render";
+    public static final String ENTITY_AI_JOB = "AI Job";
+    public static final String ENTITY_JWT_SIGNING_KEY = "JWT Signing Key";
+    public static final String ENTITY_REFRESH_TOKEN = "Refresh Token";
+    public static final String ENTITY_OAUTH_LOGIN_CODE = "OAuth Login Code";
+    public static final String ENTITY_REVOKED_TOKEN = "Revoked Token";
+    public static final String ENTITY_TOTP_USED_STEP = "TOTP Used Step";
 
     // Encryption Error Messages
     public static final String ENCRYPTION_FAILED = "Failed to encrypt text: %s";
@@ -127,6 +146,30 @@ public class ErrorMessages {
     public static final String AI_FLASHCARDS_INCOMPLETE = "AI generated %s flashcards but %s were requested. Some flashcards may be invalid or incomplete.";
     public static final String AI_FLASHCARDS_PARSED = "Successfully parsed %s flashcards from AI response (requested: %s)";
     public static final String AI_VISION_NOT_SUPPORTED = "Model %s does not support vision operations";
+    public static final String AI_RATE_LIMIT_EXCEEDED = "AI rate limit exceeded. Retry after %s seconds";
+    public static final String AI_CAPACITY_QUEUE_FULL = "AI provider %s is at capacity. Please retry shortly";
+    public static final String AI_CAPACITY_WAIT_EXPIRED = "AI provider %s did not become available within %s ms";
+    public static final String AI_CALL_TIMEOUT = "AI provider %s did not respond within %s ms";
+    public static final String AI_CALL_INTERRUPTED = "AI call to %s was interrupted";
+    public static final String AI_IMAGES_REQUIRED = "At least one image is required";
+    public static final String AI_IMAGE_COUNT_EXCEEDED = "Image count exceeds maximum allowed of %s";
+    public static final String AI_ALL_IMAGES_FAILED = "Failed to generate flashcards from any of the %s images";
+    public static final String AI_AUDIO_STREAM_FAILED = "Failed to stream audio to client";
+    public static final String AI_AUDIO_CLIP_NOT_FOUND = "Audio clip not found: %s";
+    public static final String AI_DECK_AUDIO_NOT_RENDERED = "Audio has not been rendered for deck: %s";
+    public static final String AI_AUDIO_UPLOAD_BUDGET_EXHAUSTED = "Too many audio uploads are being processed. Please retry shortly";
+    public static final String AI_AUDIO_UPLOAD_STAGING_FAILED = "Failed to read uploaded audio file";
+    public static final String AI_LONG_AUDIO_FORMAT_UNSUPPORTED = "Long audio transcription requires 8 or 16-bit PCM WAV audio";
+    public static final String AI_LONG_AUDIO_SIZE_EXCEEDED = "Audio file size exceeds maximum allowed size of %d MB";
+    public static final String AI_AUDIO_UNSEGMENTED_SIZE_EXCEEDED = "Only PCM WAV recordings can exceed %d MB; compressed audio is transcribed in one call";
+    public static final String AI_LONG_AUDIO_SEGMENT_FAILED = "Failed to transcribe audio segment %s";
+    public static final String AI_IMAGE_DOWNLOAD_FAILED = "Failed to download generated image: %s";
+    public static final String AI_GENERATED_IMAGE_NOT_FOUND = "Generated image not found: %s";
+    public static final String AI_JOB_QUEUE_FULL = "Too many AI jobs are queued. Please retry shortly";
+    public static final String AI_JOB_CALLBACK_NOT_ALLOWED = "Callback URL must be https and on an allowed host: %s";
+    public static final String AI_JOB_IDEMPOTENCY_CONFLICT = "Idempotency key %s was already used for a %s job";
+    public static final String AI_JOB_INTERRUPTED = "The job was interrupted by a server restart. Please submit it again";
+    public static final String AI_JOB_RESULT_NOT_SAVED = "The job result could not be saved. Please submit it again";
 
     // AI Error Detection Keywords
     public static final String AI_ERROR_RATE_LIMIT = "rate limit";
@@ -148,6 +191,7 @@ public class ErrorMessages {
     public static final String AI_IMAGE_REQUEST_INVALID_MIME = "Image MIME type must be one of: %s";
     public static final String AI_IMAGE_SIZE_ERROR = "Image size cannot exceed %s MB";
     public static final String AI_IMAGE_PROCESSING_FAILED = "Failed to process uploaded image";
+    public static final String AI_IMAGE_TOO_MANY_PIXELS = "Image dimensions %sx%s exceed the maximum of %s pixels";
     // Data Initialization Error Messages
     public static final String INIT_ADMIN_CREATION_FAILED = "Failed to initialize admin user";
     public static final String INIT_ADMIN_UPGRADE_FAILED = "Failed to upgrade user %s to admin role";
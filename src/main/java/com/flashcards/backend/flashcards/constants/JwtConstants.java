@@ -13,6 +13,27 @@ public class JwtConstants {
     public static final String JWT_HEADER_PREFIX = "Bearer ";
     public static final String JWT_HEADER_NAME = "Authorization";
 
+    // Signing Algorithms
+    public static final String JWT_ALGORITHM_EDDSA = "EdDSA";
+    public static final String JWT_ALGORITHM_RS256 = "RS256";
+    public static final String JWT_KEY_FACTORY_ED25519 = "Ed25519";
+    public static final String JWT_KEY_FACTORY_RSA = "RSA";
+    public static final int JWT_RSA_KEY_SIZE = 2048;
+    public static final int JWT_ED25519_X509_PREFIX_LENGTH = 12; // SPKI header before the raw 32-byte key
+    public static final long JWT_KEY_RELOAD_MIN_INTERVAL_MS = 10000L; // throttles reloads on unknown kids
+    public static final long JWT_KEY_CLOCK_SKEW_MS = 30000L; // margin for node clocks when retiring keys
+
+    // Refresh Tokens
+    public static final int REFRESH_TOKEN_BYTES = 32;
+
+    // JWKS
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+    public static final String JWK_KEY_TYPE_OKP = "OKP";
+    public static final String JWK_KEY_TYPE_RSA = "RSA";
+    public static final String JWK_CURVE_ED25519 = "Ed25519";
+    public static final String JWK_USE_SIGNATURE = "sig";
+    public static final long JWKS_MAX_AGE_SECONDS = 300L;
+
     // Default Configuration Values
     public static final String JWT_DEFAULT_SECRET = "mySecretKey123456789012345678901234567890";
     public static final long JWT_DEFAULT_EXPIRATION_MS = 3600000L; // 1 hour
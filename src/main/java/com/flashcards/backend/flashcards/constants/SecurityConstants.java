@@ -7,12 +7,15 @@ public class SecurityConstants {
             "/api/auth/register",
             "/api/auth/login",
             "/api/auth/login/recovery",
+            "/api/auth/refresh",
+            "/api/auth/oauth2/token",
             "/api/auth/oauth2/providers"
     };
 
     // Protected Authentication Endpoints (token required)
     public static final String[] PROTECTED_AUTH_ENDPOINTS = {
             "/api/auth/totp/**",
+            "/api/auth/logout",
             "/api/auth/recovery-codes/**"
     };
 
@@ -24,6 +27,26 @@ public class SecurityConstants {
             "/api/flashcards/admin/**" // Admin flashcard operations
     };
 
+    // Dedicated admin API endpoints (enforced in the filter chain)
+    public static final String[] ADMIN_API_ENDPOINTS = {
+            "/api/admin/**"
+    };
+
+    // Endpoints subject to per-user AI rate limiting
+    public static final String[] RATE_LIMITED_ENDPOINTS = {
+            "/api/ai/**",
+            "/api/audio/**"
+    };
+
+    // Clip and image replays and render-progress polling cost the provider nothing, so they are not rate limited.
+    // Exclusion is by path only, so each pattern must match nothing but GET endpoints.
+    public static final String[] RATE_LIMIT_EXEMPT_ENDPOINTS = {
+            "/api/audio/clips/**",
+            "/api/audio/decks/*",
+            // Image ids are SHA-256 hex, so this never matches POST /api/ai/images/generate
+            "/api/ai/images/{imageId:[0-9a-f]+}"
+    };
+
     // Swagger/OpenAPI Endpoints
     public static final String[] SWAGGER_ENDPOINTS = {
             "/swagger-ui/**",
@@ -37,6 +60,7 @@ public class SecurityConstants {
     // Public Endpoints
     public static final String[] PUBLIC_ENDPOINTS = {
             "/actuator/health",
+            "/.well-known/jwks.json",
             "/error",
             "/favicon.ico"
     };
@@ -1,23 +1,46 @@
 package com.flashcards.backend.flashcards.controller;
 
 import com.flashcards.backend.flashcards.annotation.AIAudioApiDocumentation;
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dto.AIJobDto;
 import com.flashcards.backend.flashcards.dto.AISpeechToTextRequestDto;
 import com.flashcards.backend.flashcards.dto.AISpeechToTextResponseDto;
 import com.flashcards.backend.flashcards.dto.AITextToSpeechRequestDto;
 import com.flashcards.backend.flashcards.dto.AITextToSpeechResponseDto;
+import com.flashcards.backend.flashcards.dto.DeckAudioRenderDto;
+import com.flashcards.backend.flashcards.dto.DeckAudioRenderRequestDto;
 import com.flashcards.backend.flashcards.service.ai.AIAudioService;
+import com.flashcards.backend.flashcards.service.ai.DeckAudioRenderService;
+import com.flashcards.backend.flashcards.service.ai.LongAudioTranscriptionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.AI_JOB_PATH;
+import static com.flashcards.backend.flashcards.constants.AIConstants.AUDIO_CLIP_PATH;
+import static com.flashcards.backend.flashcards.constants.AIConstants.HEADER_IDEMPOTENCY_KEY;
+import static java.util.Objects.isNull;
 
 @Slf4j
 @RestController
@@ -27,6 +50,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class AIAudioController {
 
     private final AIAudioService aiAudioService;
+    private final DeckAudioRenderService deckAudioRenderService;
+    private final LongAudioTranscriptionService longAudioTranscriptionService;
+    private final AIConfigProperties aiProperties;
 
     @PostMapping("/text-to-speech")
     @PreAuthorize("hasRole('USER')")
@@ -46,23 +72,70 @@ public class AIAudioController {
     @PostMapping(value = "/text-to-speech/stream", produces = "audio/mpeg")
     @PreAuthorize("hasRole('USER')")
     @AIAudioApiDocumentation.TextToSpeechStream
-    public ResponseEntity<byte[]> convertTextToSpeechStream(
+    public ResponseEntity<StreamingResponseBody> convertTextToSpeechStream(
             @Valid @RequestBody AITextToSpeechRequestDto request) {
 
         log.info("Streaming text to speech for user: {}, outputType: {}, voice: {}",
                 request.getUserId(), request.getOutputType(), request.getVoice());
 
-        byte[] audioBytes = aiAudioService.convertTextToSpeechStream(request);
-
+        // No Content-Length: the response is sent chunked as audio arrives from the provider
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.valueOf("audio/mpeg"));
-        headers.setContentLength(audioBytes.length);
         headers.set(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"speech.mp3\"");
+        aiAudioService.findRecitationClipId(request).ifPresent(clipId -> {
+            headers.setETag(clipETag(clipId));
+            headers.setCacheControl(clipCacheControl());
+            headers.set(HttpHeaders.CONTENT_LOCATION, AUDIO_CLIP_PATH + clipId);
+        });
 
-        log.info("Successfully streamed {} bytes of audio for user: {}", audioBytes.length, request.getUserId());
+        StreamingResponseBody body = outputStream -> aiAudioService.streamTextToSpeech(request, outputStream);
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(audioBytes);
+                .body(body);
+    }
+
+    @GetMapping(value = "/clips/{clipId}", produces = "audio/mpeg")
+    @PreAuthorize("hasRole('USER')")
+    @AIAudioApiDocumentation.GetAudioClip
+    public ResponseEntity<StreamingResponseBody> getAudioClip(@PathVariable String clipId, WebRequest webRequest) {
+        String eTag = clipETag(clipId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(clipCacheControl())
+                    .build();
+        }
+
+        long size = aiAudioService.getCachedClipSize(clipId);
+        StreamingResponseBody body = outputStream -> aiAudioService.writeCachedClip(clipId, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.valueOf("audio/mpeg"))
+                .contentLength(size)
+                .eTag(eTag)
+                .cacheControl(clipCacheControl())
+                .body(body);
+    }
+
+    @PostMapping("/decks/{deckId}/render")
+    @PreAuthorize("hasRole('USER')")
+    @AIAudioApiDocumentation.RenderDeckAudio
+    public ResponseEntity<DeckAudioRenderDto> renderDeckAudio(
+            @PathVariable String deckId,
+            @Valid @RequestBody(required = false) DeckAudioRenderRequestDto request) {
+
+        DeckAudioRenderRequestDto renderRequest = isNull(request) ? new DeckAudioRenderRequestDto() : request;
+        log.info("Starting audio render for deck: {}, voice: {}", deckId, renderRequest.getVoice());
+
+        DeckAudioRenderDto render = deckAudioRenderService.startRender(deckId, renderRequest);
+        return ResponseEntity.accepted().body(render);
+    }
+
+    @GetMapping("/decks/{deckId}")
+    @PreAuthorize("hasRole('USER')")
+    @AIAudioApiDocumentation.GetDeckAudio
+    public ResponseEntity<DeckAudioRenderDto> getDeckAudio(@PathVariable String deckId) {
+        return ResponseEntity.ok(deckAudioRenderService.getRender(deckId));
     }
 
     @PostMapping(value = "/speech-to-text", consumes = "multipart/form-data")
@@ -80,4 +153,69 @@ public class AIAudioController {
                 request.getUserId(), response.getActionPerformed());
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/text-to-speech/async")
+    @PreAuthorize("hasRole('USER')")
+    @AIAudioApiDocumentation.SubmitAudioJob
+    public ResponseEntity<AIJobDto> submitTextToSpeechJob(
+            @Valid @RequestBody AITextToSpeechRequestDto request,
+            @RequestHeader(value = HEADER_IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestParam(required = false) String callbackUrl) {
+
+        log.info("Submitting text-to-speech job for user: {}", request.getUserId());
+
+        AIJobDto job = aiAudioService.submitTextToSpeechJob(request, idempotencyKey, callbackUrl);
+        return ResponseEntity.accepted().location(URI.create(AI_JOB_PATH + job.getId())).body(job);
+    }
+
+    @PostMapping(value = "/speech-to-text/async", consumes = "multipart/form-data")
+    @PreAuthorize("hasRole('USER')")
+    @AIAudioApiDocumentation.SubmitAudioJob
+    public ResponseEntity<AIJobDto> submitSpeechToTextJob(
+            @Valid @ModelAttribute AISpeechToTextRequestDto request,
+            @RequestHeader(value = HEADER_IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestParam(required = false) String callbackUrl) {
+
+        log.info("Submitting speech-to-text job for user: {}, action: {}", request.getUserId(), request.getAction());
+
+        AIJobDto job = aiAudioService.submitSpeechToTextJob(request, idempotencyKey, callbackUrl);
+        return ResponseEntity.accepted().location(URI.create(AI_JOB_PATH + job.getId())).body(job);
+    }
+
+    @PostMapping(value = "/speech-to-text/stream", consumes = "multipart/form-data",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    @AIAudioApiDocumentation.StreamSpeechToFlashcards
+    public SseEmitter streamSpeechToFlashcards(@Valid @ModelAttribute AISpeechToTextRequestDto request) {
+        log.info("Streaming speech to flashcards for user: {}, deck: {}", request.getUserId(), request.getDeckId());
+        return aiAudioService.streamSpeechToFlashcards(request);
+    }
+
+    @PostMapping(value = "/speech-to-text/long", consumes = "multipart/form-data")
+    @PreAuthorize("hasRole('USER')")
+    @AIAudioApiDocumentation.LongSpeechToText
+    public ResponseEntity<AISpeechToTextResponseDto> convertLongSpeechToText(
+            @Valid @ModelAttribute AISpeechToTextRequestDto request) {
+
+        log.info("Converting long speech to text for user: {}, action: {}",
+                request.getUserId(), request.getAction());
+
+        AISpeechToTextResponseDto response = longAudioTranscriptionService.transcribe(request);
+
+        log.info("Successfully converted long speech to text for user: {}, {} segments",
+                request.getUserId(), response.getSegments().size());
+        return ResponseEntity.ok(response);
+    }
+
+    private String clipETag(String clipId) {
+        // Weak: the id hashes the synthesis inputs, and a re-synthesized clip may differ byte for byte
+        return "W/\"" + clipId + "\"";
+    }
+
+    private CacheControl clipCacheControl() {
+        // Clips are content-addressed, so a given URL never changes
+        return CacheControl.maxAge(Duration.ofSeconds(aiProperties.getTtsCache().getClientMaxAgeSeconds()))
+                .cachePrivate()
+                .immutable();
+    }
+}
@@ -1,8 +1,12 @@
 package com.flashcards.backend.flashcards.controller;
 
 import com.flashcards.backend.flashcards.annotation.AIApiDocumentation;
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
 import com.flashcards.backend.flashcards.dto.AIGenerateRequestDto;
 import com.flashcards.backend.flashcards.dto.AIImageGenerateRequestDto;
+import com.flashcards.backend.flashcards.dto.AIJobDto;
+import com.flashcards.backend.flashcards.dto.AIMultiImageGenerateRequestDto;
+import com.flashcards.backend.flashcards.dto.AIMultiImageGenerateResponseDto;
 import com.flashcards.backend.flashcards.dto.AIPromptGenerateRequestDto;
 import com.flashcards.backend.flashcards.dto.AISummaryRequestDto;
 import com.flashcards.backend.flashcards.dto.AISummaryResponseDto;
@@ -10,9 +14,12 @@ import com.flashcards.backend.flashcards.dto.AITextToImageRequestDto;
 import com.flashcards.backend.flashcards.dto.AITextToImageResponseDto;
 import com.flashcards.backend.flashcards.dto.CreateFlashcardDto;
 import com.flashcards.backend.flashcards.dto.FlashcardDto;
+import com.flashcards.backend.flashcards.enums.AIJobType;
 import com.flashcards.backend.flashcards.service.FlashcardService;
 import com.flashcards.backend.flashcards.service.ai.AIExecutionService;
 import com.flashcards.backend.flashcards.service.ai.AIImageGenerationService;
+import com.flashcards.backend.flashcards.service.ai.AIJobService;
+import com.flashcards.backend.flashcards.service.ai.MultiImageFlashcardService;
 import com.flashcards.backend.flashcards.service.ai.strategy.ContentToSummaryStrategy;
 import com.flashcards.backend.flashcards.service.ai.strategy.ImageToFlashcardsStrategy;
 import com.flashcards.backend.flashcards.service.ai.strategy.PromptToFlashcardsStrategy;
@@ -21,16 +28,30 @@ import com.flashcards.backend.flashcards.service.ai.strategy.TextToImageStrategy
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 
+import static com.flashcards.backend.flashcards.constants.AIConstants.AI_JOB_PATH;
+import static com.flashcards.backend.flashcards.constants.AIConstants.HEADER_IDEMPOTENCY_KEY;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/ai")
@@ -46,6 +67,9 @@ public class AIController {
     private final PromptToFlashcardsStrategy promptToFlashcardsStrategy;
     private final ContentToSummaryStrategy contentToSummaryStrategy;
     private final TextToImageStrategy textToImageStrategy;
+    private final MultiImageFlashcardService multiImageFlashcardService;
+    private final AIJobService aiJobService;
+    private final AIConfigProperties aiProperties;
 
     @PostMapping("/flashcards/generate-text")
     @PreAuthorize("hasRole('USER')")
@@ -81,6 +105,22 @@ public class AIController {
         return ResponseEntity.ok(generatedFlashcards);
     }
 
+    @PostMapping(value = "/flashcards/generate-images", consumes = "multipart/form-data")
+    @PreAuthorize("hasRole('USER')")
+    @AIApiDocumentation.GenerateFlashcardsFromImages
+    public ResponseEntity<AIMultiImageGenerateResponseDto> generateFlashcardsFromImages(
+            @Valid @ModelAttribute AIMultiImageGenerateRequestDto request) {
+
+        log.info("Generating flashcards from {} images for user: {}, deck: {}, count per image: {}",
+                request.getImages().size(), request.getUserId(), request.getDeckId(), request.getCountPerImage());
+
+        AIMultiImageGenerateResponseDto response = multiImageFlashcardService.generateFromImages(request);
+
+        log.info("Successfully generated {} flashcards from {} images",
+                response.getFlashcards().size(), response.getImagesSucceeded());
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/images/generate")
     @PreAuthorize("hasRole('USER')")
     @AIApiDocumentation.GenerateImageFromText
@@ -90,13 +130,51 @@ public class AIController {
         log.info("Generating educational image for user: {}, description: {}",
                 request.getUserId(), request.getDescription());
 
-        AITextToImageResponseDto response = aiImageGenerationService.executeImageOperation(
-                textToImageStrategy, request, request.getModel());
+        AITextToImageResponseDto response = aiImageGenerationService.generateImages(request);
 
         log.info("Successfully generated {} images", response.getImages().size());
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/images/generate/async")
+    @PreAuthorize("hasRole('USER')")
+    @AIApiDocumentation.SubmitImageGenerationJob
+    public ResponseEntity<AIJobDto> submitImageGenerationJob(
+            @Valid @RequestBody AITextToImageRequestDto request,
+            @RequestHeader(value = HEADER_IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestParam(required = false) String callbackUrl) {
+
+        log.info("Submitting image generation job for user: {}, description: {}",
+                request.getUserId(), request.getDescription());
+
+        textToImageStrategy.validateInput(request);
+        AIJobDto job = aiJobService.submit(AIJobType.IMAGE_GENERATION, idempotencyKey, callbackUrl,
+                () -> aiImageGenerationService.generateImages(request));
+
+        return ResponseEntity.accepted().location(URI.create(AI_JOB_PATH + job.getId())).body(job);
+    }
+
+    @GetMapping("/images/{imageId}")
+    @AIApiDocumentation.GetGeneratedImage
+    public ResponseEntity<Resource> getGeneratedImage(@PathVariable String imageId, WebRequest webRequest) {
+        // Resolve first so a revalidation of an evicted or unknown image gets 404, not 304
+        Resource image = aiImageGenerationService.getStoredImage(imageId);
+        String eTag = imageETag(imageId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(imageCacheControl())
+                    .build();
+        }
+
+        // A Resource body lets Spring answer Range requests with 206 Partial Content
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .eTag(eTag)
+                .cacheControl(imageCacheControl())
+                .body(image);
+    }
+
     @PostMapping("/flashcards/generate-prompt")
     @PreAuthorize("hasRole('USER')")
     @AIApiDocumentation.GenerateFlashcardsFromPrompt
@@ -129,4 +207,16 @@ public class AIController {
         return ResponseEntity.ok(response);
     }
 
-}
\ No newline at end of file
+
+    private String imageETag(String imageId) {
+        // The id is the hash of the image bytes, so it is a strong validator
+        return "\"" + imageId + "\"";
+    }
+
+    private CacheControl imageCacheControl() {
+        // Images are content-addressed, so shared caches and CDNs may keep them indefinitely
+        return CacheControl.maxAge(Duration.ofSeconds(aiProperties.getImageStore().getClientMaxAgeSeconds()))
+                .cachePublic()
+                .immutable();
+    }
+}
@@ -0,0 +1,35 @@
+package com.flashcards.backend.flashcards.controller;
+
+import com.flashcards.backend.flashcards.dto.AIJobDto;
+import com.flashcards.backend.flashcards.service.ai.AIJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('USER')")
+@Tag(name = "AI Jobs", description = "Status and results of asynchronous AI operations")
+public class AIJobController {
+
+    private final AIJobService aiJobService;
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get an AI job",
+            description = "Returns the job status; once it has succeeded the result has the same shape as the synchronous endpoint. " +
+                    "Jobs are kept for the configured result TTL after they finish.")
+    public ResponseEntity<AIJobDto> getJob(@PathVariable String jobId) {
+        log.debug("GET /api/jobs/{}", jobId);
+
+        return ResponseEntity.ok(aiJobService.getJob(jobId));
+    }
+}
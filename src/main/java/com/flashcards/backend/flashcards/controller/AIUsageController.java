@@ -0,0 +1,57 @@
+package com.flashcards.backend.flashcards.controller;
+
+import com.flashcards.backend.flashcards.dto.AIUsageDto;
+import com.flashcards.backend.flashcards.service.ai.AIUsageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/ai-usage")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "AI Usage", description = "Admin APIs for AI token usage and cost accounting")
+public class AIUsageController {
+
+    private final AIUsageService aiUsageService;
+
+    @GetMapping
+    @Operation(summary = "Get persisted AI usage", description = "Returns flushed usage aggregates, filtered by user or by period start")
+    public ResponseEntity<List<AIUsageDto>> getUsage(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        log.debug("GET /api/admin/ai-usage - userId: {}, since: {}", userId, since);
+
+        return ResponseEntity.ok(aiUsageService.getPersistedUsage(userId, since));
+    }
+
+    @GetMapping("/current")
+    @Operation(summary = "Get in-flight AI usage", description = "Returns usage accumulated in memory since the last flush")
+    public ResponseEntity<List<AIUsageDto>> getCurrentUsage() {
+        log.debug("GET /api/admin/ai-usage/current - Reading in-memory usage");
+
+        return ResponseEntity.ok(aiUsageService.getCurrentUsage());
+    }
+
+    @PostMapping("/flush")
+    @Operation(summary = "Flush AI usage", description = "Persists in-memory usage aggregates immediately")
+    public ResponseEntity<Void> flush() {
+        log.info("POST /api/admin/ai-usage/flush - Flushing usage aggregates");
+
+        aiUsageService.flush();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -5,8 +5,10 @@ import com.flashcards.backend.flashcards.dto.AuthResponseDto;
 import com.flashcards.backend.flashcards.dto.CreateUserDto;
 import com.flashcards.backend.flashcards.dto.LoginDto;
 import com.flashcards.backend.flashcards.dto.OAuth2ProviderDto;
+import com.flashcards.backend.flashcards.dto.OAuthCodeExchangeDto;
 import com.flashcards.backend.flashcards.dto.RecoveryCodeLoginDto;
 import com.flashcards.backend.flashcards.dto.RecoveryCodesDto;
+import com.flashcards.backend.flashcards.dto.RefreshTokenRequestDto;
 import com.flashcards.backend.flashcards.dto.TotpSetupDto;
 import com.flashcards.backend.flashcards.dto.TotpVerificationDto;
 import com.flashcards.backend.flashcards.service.AuthService;
@@ -21,6 +23,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -29,6 +32,9 @@ import java.util.List;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_AUTHORIZATION_BASE_PATH;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_PROVIDER_GITHUB;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_PROVIDER_GOOGLE;
+import static com.flashcards.backend.flashcards.constants.SecurityConstants.SECURITY_HEADER_AUTHORIZATION;
+import static com.flashcards.backend.flashcards.constants.SecurityConstants.SECURITY_HEADER_BEARER_PREFIX_LENGTH;
+import static java.util.Objects.nonNull;
 
 @Slf4j
 @RestController
@@ -62,6 +68,36 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/refresh")
+    @AuthApiDocumentation.RefreshToken
+    public ResponseEntity<AuthResponseDto> refresh(
+            @AuthApiDocumentation.RefreshTokenBody @Valid @RequestBody RefreshTokenRequestDto refreshTokenRequestDto) {
+        log.info("POST /api/auth/refresh - Refreshing tokens");
+
+        AuthResponseDto response = authService.refresh(refreshTokenRequestDto);
+
+        log.info("POST /api/auth/refresh - Tokens refreshed for user: {}", response.getUser().getUsername());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    @AuthApiDocumentation.Logout
+    public ResponseEntity<Void> logout(
+            @AuthApiDocumentation.RefreshTokenBody @RequestBody(required = false) RefreshTokenRequestDto refreshTokenRequestDto,
+            @RequestHeader(SECURITY_HEADER_AUTHORIZATION) String authorization,
+            Authentication authentication) {
+        String userId = authentication.getName();
+        log.info("POST /api/auth/logout - Logging out user: {}", userId);
+
+        authService.logout(
+                authorization.substring(SECURITY_HEADER_BEARER_PREFIX_LENGTH),
+                nonNull(refreshTokenRequestDto) ? refreshTokenRequestDto.getRefreshToken() : null
+        );
+
+        log.info("POST /api/auth/logout - User logged out: {}", userId);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/totp/setup")
     @AuthApiDocumentation.SetupTotp
     public ResponseEntity<TotpSetupDto> setupTotp(Authentication authentication) {
@@ -136,6 +172,18 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/oauth2/token")
+    @AuthApiDocumentation.ExchangeOAuthCode
+    public ResponseEntity<AuthResponseDto> exchangeOAuthCode(
+            @AuthApiDocumentation.OAuthCodeExchangeBody @Valid @RequestBody OAuthCodeExchangeDto oAuthCodeExchangeDto) {
+        log.info("POST /api/auth/oauth2/token - Exchanging OAuth2 login code");
+
+        AuthResponseDto response = authService.exchangeOAuthCode(oAuthCodeExchangeDto);
+
+        log.info("POST /api/auth/oauth2/token - OAuth2 login completed for user: {}", response.getUser().getUsername());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/oauth2/providers")
     @AuthApiDocumentation.GetOAuth2Providers
     public ResponseEntity<OAuth2ProviderDto> getOAuth2Providers(HttpServletRequest request) {
@@ -20,6 +20,7 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.time.LocalDateTime;
@@ -31,6 +32,7 @@ import static com.flashcards.backend.flashcards.constants.ErrorMessages.CONTROLL
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.CONTROLLER_INVALID_REQUEST;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.CONTROLLER_MISSING_PARAMETER;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.CONTROLLER_RESOURCE_NOT_FOUND;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.CONTROLLER_UPLOAD_TOO_LARGE;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -205,6 +207,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(errorResponse);
     }
 
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = buildErrorResponse(
+                HttpStatus.PAYLOAD_TOO_LARGE,
+                ErrorCode.CONTROLLER_BAD_REQUEST,
+                CONTROLLER_UPLOAD_TOO_LARGE,
+                request.getRequestURI()
+        );
+
+        log.warn("Upload too large for {}: {}", request.getRequestURI(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+    }
+
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<ErrorResponse> handleNoHandlerFoundException(
             NoHandlerFoundException ex,
@@ -323,8 +341,11 @@ public class GlobalExceptionHandler {
             case SERVICE_VALIDATION_ERROR, CONTROLLER_BAD_REQUEST -> HttpStatus.BAD_REQUEST;
             case SERVICE_NOT_FOUND, CONTROLLER_NOT_FOUND -> HttpStatus.NOT_FOUND;
             case SERVICE_DUPLICATE_ERROR -> HttpStatus.CONFLICT;
-            case SERVICE_AUTHORIZATION_ERROR, CONTROLLER_UNAUTHORIZED -> HttpStatus.UNAUTHORIZED;
+            case SERVICE_AUTHORIZATION_ERROR, CONTROLLER_UNAUTHORIZED, AUTH_TOKEN_INVALID, AUTH_TOKEN_EXPIRED -> HttpStatus.UNAUTHORIZED;
             case CONTROLLER_FORBIDDEN -> HttpStatus.FORBIDDEN;
+            case SERVICE_AI_RATE_LIMIT_EXCEEDED, SERVICE_AI_QUOTA_EXCEEDED, AUTH_TOO_MANY_ATTEMPTS -> HttpStatus.TOO_MANY_REQUESTS;
+            case SERVICE_AI_CAPACITY_EXCEEDED, SERVICE_AI_SERVICE_UNAVAILABLE, AUTH_CAPACITY_EXCEEDED -> HttpStatus.SERVICE_UNAVAILABLE;
+            case SERVICE_AI_PROCESSING_TIMEOUT -> HttpStatus.GATEWAY_TIMEOUT;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
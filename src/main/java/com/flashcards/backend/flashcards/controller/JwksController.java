@@ -0,0 +1,35 @@
+package com.flashcards.backend.flashcards.controller;
+
+import com.flashcards.backend.flashcards.dto.JwksDto;
+import com.flashcards.backend.flashcards.service.JwtKeyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWKS_MAX_AGE_SECONDS;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWKS_PATH;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "User authentication and registration endpoints with JWT token support")
+public class JwksController {
+
+    private final JwtKeyService jwtKeyService;
+
+    @GetMapping(JWKS_PATH)
+    @Operation(summary = "Get token verification keys",
+            description = "Public keys for verifying access tokens, selected by the token's kid header. " +
+                    "New keys appear here before they sign, so verifiers caching this set for its max-age never miss one.")
+    public ResponseEntity<JwksDto> getJwks() {
+        return ResponseEntity.ok()
+                // Shorter than the activation delay, so caches refresh before a new key signs
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(JWKS_MAX_AGE_SECONDS)).cachePublic())
+                .body(jwtKeyService.jwks());
+    }
+}
@@ -0,0 +1,18 @@
+package com.flashcards.backend.flashcards.dao;
+
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.model.AIJob;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+
+public interface AIJobDao {
+    Optional<AIJob> findById(String id);
+    Optional<AIJob> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey);
+    AIJob insert(AIJob job);
+    AIJob save(AIJob job);
+    void deleteById(String id);
+    long failUnfinished(String instanceId, LocalDateTime createdBefore, ErrorCode errorCode, String errorMessage,
+                        LocalDateTime completedAt, Date expiresAt);
+}
@@ -0,0 +1,14 @@
+package com.flashcards.backend.flashcards.dao;
+
+import com.flashcards.backend.flashcards.model.AIUsage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AIUsageDao {
+    List<AIUsage> findByUserId(String userId);
+    List<AIUsage> findByPeriodStartAfter(LocalDateTime since);
+    List<AIUsage> findByUserIdAndPeriodStartAfter(String userId, LocalDateTime since);
+    List<AIUsage> findAll();
+    List<AIUsage> saveAll(List<AIUsage> usages);
+}
@@ -0,0 +1,11 @@
+package com.flashcards.backend.flashcards.dao;
+
+import com.flashcards.backend.flashcards.model.DeckAudioRender;
+
+import java.util.Optional;
+
+public interface DeckAudioRenderDao {
+    Optional<DeckAudioRender> findByDeckId(String deckId);
+    DeckAudioRender save(DeckAudioRender render);
+    void deleteByDeckId(String deckId);
+}
@@ -0,0 +1,11 @@
+package com.flashcards.backend.flashcards.dao;
+
+import com.flashcards.backend.flashcards.model.JwtSigningKey;
+
+import java.util.List;
+
+public interface JwtSigningKeyDao {
+    List<JwtSigningKey> findAllNewestFirst();
+    JwtSigningKey insert(JwtSigningKey key);
+    JwtSigningKey save(JwtSigningKey key);
+}
@@ -0,0 +1,10 @@
+package com.flashcards.backend.flashcards.dao;
+
+import com.flashcards.backend.flashcards.model.OAuthLoginCode;
+
+import java.util.Optional;
+
+public interface OAuthLoginCodeDao {
+    OAuthLoginCode insert(OAuthLoginCode loginCode);
+    Optional<OAuthLoginCode> consume(String id);
+}
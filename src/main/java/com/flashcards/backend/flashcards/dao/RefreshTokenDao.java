@@ -0,0 +1,13 @@
+package com.flashcards.backend.flashcards.dao;
+
+import com.flashcards.backend.flashcards.model.RefreshToken;
+
+import java.util.Optional;
+
+public interface RefreshTokenDao {
+    Optional<RefreshToken> findById(String id);
+    RefreshToken insert(RefreshToken refreshToken);
+    boolean markUsed(String id);
+    void deleteByFamilyId(String familyId);
+    void deleteByUserId(String userId);
+}
@@ -0,0 +1,11 @@
+package com.flashcards.backend.flashcards.dao;
+
+import com.flashcards.backend.flashcards.model.RevokedToken;
+
+import java.util.Date;
+import java.util.List;
+
+public interface RevokedTokenDao {
+    RevokedToken insert(RevokedToken revokedToken);
+    List<RevokedToken> findActive(Date now);
+}
@@ -0,0 +1,7 @@
+package com.flashcards.backend.flashcards.dao;
+
+import java.util.Date;
+
+public interface TotpUsedStepDao {
+    boolean markStepUsed(String userId, long step, Date expiresAt);
+}
@@ -3,21 +3,30 @@ package com.flashcards.backend.flashcards.dao;
 import com.flashcards.backend.flashcards.model.Role;
 import com.flashcards.backend.flashcards.model.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserDao {
     Optional<User> findById(String id);
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+    Optional<User> findByUsernameOrEmail(String usernameOrEmail);
     List<User> findAll();
     List<User> findByRole(Role role);
     User save(User user);
     User update(User user);
+    void updatePassword(String id, String password);
+    void updateLastLoginAt(Map<String, LocalDateTime> lastLoginAtByUserId);
     void deleteById(String id);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     Optional<User> findByOauthProviderAndOauthId(String oauthProvider, String oauthId);
+    Optional<User> findByOauthIdentityOrEmail(String oauthProvider, String oauthId, String email);
+    Set<String> findExistingUsernames(Collection<String> usernames);
     long count();
     long countByRole(Role role);
 }
\ No newline at end of file
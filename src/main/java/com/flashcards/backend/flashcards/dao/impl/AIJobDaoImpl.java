@@ -0,0 +1,133 @@
+package com.flashcards.backend.flashcards.dao.impl;
+
+import com.flashcards.backend.flashcards.dao.AIJobDao;
+import com.flashcards.backend.flashcards.enums.AIJobStatus;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.model.AIJob;
+import com.flashcards.backend.flashcards.repository.AIJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_DELETE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_DUPLICATE_ENTRY;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_ENTITY_NULL;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_FIND_BY_FIELD_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_FIND_BY_ID_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_SAVE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_UPDATE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_AI_JOB;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AIJobDaoImpl implements AIJobDao {
+    private final AIJobRepository aiJobRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<AIJob> findById(String id) {
+        return executeWithExceptionHandling(() ->
+                isBlank(id) ? Optional.<AIJob>empty() : aiJobRepository.findById(id),
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_ID_ERROR.formatted(ENTITY_AI_JOB, id)
+        );
+    }
+
+    @Override
+    public Optional<AIJob> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey) {
+        return executeWithExceptionHandling(() ->
+                aiJobRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey),
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_FIELD_ERROR.formatted(ENTITY_AI_JOB, "idempotencyKey", idempotencyKey)
+        );
+    }
+
+    @Override
+    public AIJob insert(AIJob job) {
+        return executeWithExceptionHandling(() -> {
+                    requireNonNull(job, DAO_ENTITY_NULL.formatted(ENTITY_AI_JOB));
+                    return aiJobRepository.insert(job);
+                },
+                ErrorCode.DAO_SAVE_ERROR,
+                DAO_SAVE_ERROR.formatted(ENTITY_AI_JOB)
+        );
+    }
+
+    @Override
+    public AIJob save(AIJob job) {
+        return executeWithExceptionHandling(() -> {
+                    requireNonNull(job, DAO_ENTITY_NULL.formatted(ENTITY_AI_JOB));
+                    return aiJobRepository.save(job);
+                },
+                ErrorCode.DAO_SAVE_ERROR,
+                DAO_SAVE_ERROR.formatted(ENTITY_AI_JOB)
+        );
+    }
+
+    @Override
+    public void deleteById(String id) {
+        executeWithExceptionHandling(() -> {
+                    aiJobRepository.deleteById(id);
+                    return null;
+                },
+                ErrorCode.DAO_DELETE_ERROR,
+                DAO_DELETE_ERROR.formatted(ENTITY_AI_JOB, id)
+        );
+    }
+
+    /**
+     * Fail queued and running jobs of an instance (or of no recorded instance) created before the given time.
+     *
+     * @return Number of jobs failed
+     */
+    @Override
+    public long failUnfinished(String instanceId, LocalDateTime createdBefore, ErrorCode errorCode, String errorMessage,
+                               LocalDateTime completedAt, Date expiresAt) {
+        return executeWithExceptionHandling(() ->
+                mongoTemplate.updateMulti(
+                        Query.query(where("status").in(AIJobStatus.QUEUED, AIJobStatus.RUNNING)
+                                .and("createdAt").lt(createdBefore)
+                                .orOperator(where("instanceId").is(instanceId), where("instanceId").exists(false))),
+                        new Update()
+                                .set("status", AIJobStatus.FAILED)
+                                .set("errorCode", errorCode)
+                                .set("errorMessage", errorMessage)
+                                .set("completedAt", completedAt)
+                                .set("expiresAt", expiresAt),
+                        AIJob.class
+                ).getModifiedCount(),
+                ErrorCode.DAO_UPDATE_ERROR,
+                DAO_UPDATE_ERROR.formatted(ENTITY_AI_JOB, "instance " + instanceId)
+        );
+    }
+
+    private <T> T executeWithExceptionHandling(Supplier<T> operation, ErrorCode errorCode, String errorMessage) {
+        try {
+            return operation.get();
+        } catch (DuplicateKeyException e) {
+            log.debug("Duplicate key error: {}", e.getMessage());
+            throw new DaoException(DAO_DUPLICATE_ENTRY.formatted(ENTITY_AI_JOB), ErrorCode.DAO_DUPLICATE_ERROR, e);
+        } catch (DataAccessException e) {
+            log.error("{}: {}", errorMessage, e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        }
+    }
+}
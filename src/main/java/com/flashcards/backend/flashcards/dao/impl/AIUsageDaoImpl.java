@@ -0,0 +1,94 @@
+package com.flashcards.backend.flashcards.dao.impl;
+
+import com.flashcards.backend.flashcards.dao.AIUsageDao;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.model.AIUsage;
+import com.flashcards.backend.flashcards.repository.AIUsageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_FIND_ALL_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_FIND_BY_FIELD_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_SAVE_MULTIPLE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_AI_USAGE;
+import static java.util.Objects.isNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AIUsageDaoImpl implements AIUsageDao {
+    private final AIUsageRepository aiUsageRepository;
+
+    @Override
+    public List<AIUsage> findByUserId(String userId) {
+        return executeWithExceptionHandling(() ->
+                isBlank(userId) ? Collections.<AIUsage>emptyList() : aiUsageRepository.findByUserId(userId),
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_FIELD_ERROR.formatted(ENTITY_AI_USAGE, "userId", userId)
+        );
+    }
+
+    @Override
+    public List<AIUsage> findByPeriodStartAfter(LocalDateTime since) {
+        return executeWithExceptionHandling(() ->
+                isNull(since) ? aiUsageRepository.findAll() : aiUsageRepository.findByPeriodStartAfter(since),
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_FIELD_ERROR.formatted(ENTITY_AI_USAGE, "periodStart", since)
+        );
+    }
+
+    @Override
+    public List<AIUsage> findByUserIdAndPeriodStartAfter(String userId, LocalDateTime since) {
+        return executeWithExceptionHandling(() -> {
+                    if (isBlank(userId)) {
+                        return Collections.<AIUsage>emptyList();
+                    }
+                    return isNull(since)
+                            ? aiUsageRepository.findByUserId(userId)
+                            : aiUsageRepository.findByUserIdAndPeriodStartAfter(userId, since);
+                },
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_FIELD_ERROR.formatted(ENTITY_AI_USAGE, "userId and periodStart", userId + ", " + since)
+        );
+    }
+
+    @Override
+    public List<AIUsage> findAll() {
+        return executeWithExceptionHandling(
+                aiUsageRepository::findAll,
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_ALL_ERROR.formatted(ENTITY_AI_USAGE)
+        );
+    }
+
+    @Override
+    public List<AIUsage> saveAll(List<AIUsage> usages) {
+        return executeWithExceptionHandling(() ->
+                isEmpty(usages) ? Collections.<AIUsage>emptyList() : aiUsageRepository.saveAll(usages),
+                ErrorCode.DAO_SAVE_ERROR,
+                DAO_SAVE_MULTIPLE_ERROR.formatted(ENTITY_AI_USAGE)
+        );
+    }
+
+    private <T> T executeWithExceptionHandling(Supplier<T> operation, ErrorCode errorCode, String errorMessage) {
+        try {
+            return operation.get();
+        } catch (DataAccessException e) {
+            log.error("{}: {}", errorMessage, e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        }
+    }
+}
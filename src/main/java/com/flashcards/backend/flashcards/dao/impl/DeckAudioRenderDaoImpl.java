@@ -0,0 +1,72 @@
+package com.flashcards.backend.flashcards.dao.impl;
+
+import com.flashcards.backend.flashcards.dao.DeckAudioRenderDao;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.model.DeckAudioRender;
+import com.flashcards.backend.flashcards.repository.DeckAudioRenderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_DELETE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_ENTITY_NULL;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_FIND_BY_ID_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_SAVE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_DECK_AUDIO_RENDER;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeckAudioRenderDaoImpl implements DeckAudioRenderDao {
+    private final DeckAudioRenderRepository deckAudioRenderRepository;
+
+    @Override
+    public Optional<DeckAudioRender> findByDeckId(String deckId) {
+        return executeWithExceptionHandling(() ->
+                isBlank(deckId) ? Optional.<DeckAudioRender>empty() : deckAudioRenderRepository.findById(deckId),
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_ID_ERROR.formatted(ENTITY_DECK_AUDIO_RENDER, deckId)
+        );
+    }
+
+    @Override
+    public DeckAudioRender save(DeckAudioRender render) {
+        return executeWithExceptionHandling(() -> {
+                    requireNonNull(render, DAO_ENTITY_NULL.formatted(ENTITY_DECK_AUDIO_RENDER));
+                    return deckAudioRenderRepository.save(render);
+                },
+                ErrorCode.DAO_SAVE_ERROR,
+                DAO_SAVE_ERROR.formatted(ENTITY_DECK_AUDIO_RENDER)
+        );
+    }
+
+    @Override
+    public void deleteByDeckId(String deckId) {
+        executeWithExceptionHandling(() -> {
+                    deckAudioRenderRepository.deleteById(deckId);
+                    return null;
+                },
+                ErrorCode.DAO_DELETE_ERROR,
+                DAO_DELETE_ERROR.formatted(ENTITY_DECK_AUDIO_RENDER, deckId)
+        );
+    }
+
+    private <T> T executeWithExceptionHandling(Supplier<T> operation, ErrorCode errorCode, String errorMessage) {
+        try {
+            return operation.get();
+        } catch (DataAccessException e) {
+            log.error("{}: {}", errorMessage, e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.flashcards.backend.flashcards.dao.impl;
+
+import com.flashcards.backend.flashcards.dao.JwtSigningKeyDao;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.model.JwtSigningKey;
+import com.flashcards.backend.flashcards.repository.JwtSigningKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_DUPLICATE_ENTRY;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_ENTITY_NULL;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_FIND_ALL_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_SAVE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_JWT_SIGNING_KEY;
+import static java.util.Objects.requireNonNull;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtSigningKeyDaoImpl implements JwtSigningKeyDao {
+    private final JwtSigningKeyRepository jwtSigningKeyRepository;
+
+    @Override
+    public List<JwtSigningKey> findAllNewestFirst() {
+        return executeWithExceptionHandling(
+                jwtSigningKeyRepository::findAllByOrderByCreatedAtDesc,
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_ALL_ERROR.formatted(ENTITY_JWT_SIGNING_KEY)
+        );
+    }
+
+    @Override
+    public JwtSigningKey insert(JwtSigningKey key) {
+        return executeWithExceptionHandling(() -> {
+                    requireNonNull(key, DAO_ENTITY_NULL.formatted(ENTITY_JWT_SIGNING_KEY));
+                    return jwtSigningKeyRepository.insert(key);
+                },
+                ErrorCode.DAO_SAVE_ERROR,
+                DAO_SAVE_ERROR.formatted(ENTITY_JWT_SIGNING_KEY)
+        );
+    }
+
+    @Override
+    public JwtSigningKey save(JwtSigningKey key) {
+        return executeWithExceptionHandling(() -> {
+                    requireNonNull(key, DAO_ENTITY_NULL.formatted(ENTITY_JWT_SIGNING_KEY));
+                    return jwtSigningKeyRepository.save(key);
+                },
+                ErrorCode.DAO_SAVE_ERROR,
+                DAO_SAVE_ERROR.formatted(ENTITY_JWT_SIGNING_KEY)
+        );
+    }
+
+    private <T> T executeWithExceptionHandling(Supplier<T> operation, ErrorCode errorCode, String errorMessage) {
+        try {
+            return operation.get();
+        } catch (DuplicateKeyException e) {
+            log.debug("Duplicate key error: {}", e.getMessage());
+            throw new DaoException(DAO_DUPLICATE_ENTRY.formatted(ENTITY_JWT_SIGNING_KEY), ErrorCode.DAO_DUPLICATE_ERROR, e);
+        } catch (DataAccessException e) {
+            log.error("{}: {}", errorMessage, e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        }
+    }
+}
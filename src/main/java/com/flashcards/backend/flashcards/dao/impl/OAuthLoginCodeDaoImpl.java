@@ -0,0 +1,71 @@
+package com.flashcards.backend.flashcards.dao.impl;
+
+import com.flashcards.backend.flashcards.dao.OAuthLoginCodeDao;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.model.OAuthLoginCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_DELETE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_ENTITY_NULL;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_SAVE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_OAUTH_LOGIN_CODE;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OAuthLoginCodeDaoImpl implements OAuthLoginCodeDao {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public OAuthLoginCode insert(OAuthLoginCode loginCode) {
+        return executeWithExceptionHandling(() -> {
+                    requireNonNull(loginCode, DAO_ENTITY_NULL.formatted(ENTITY_OAUTH_LOGIN_CODE));
+                    return mongoTemplate.insert(loginCode);
+                },
+                ErrorCode.DAO_SAVE_ERROR,
+                DAO_SAVE_ERROR.formatted(ENTITY_OAUTH_LOGIN_CODE)
+        );
+    }
+
+    /**
+     * Atomically remove an unexpired code.
+     *
+     * @return The code if this call consumed it, empty if it was already used, expired, or never existed
+     */
+    @Override
+    public Optional<OAuthLoginCode> consume(String id) {
+        return executeWithExceptionHandling(() -> isBlank(id)
+                        ? Optional.<OAuthLoginCode>empty()
+                        : Optional.ofNullable(mongoTemplate.findAndRemove(
+                                Query.query(where("_id").is(id).and("expiresAt").gt(new Date())),
+                                OAuthLoginCode.class)),
+                ErrorCode.DAO_DELETE_ERROR,
+                DAO_DELETE_ERROR.formatted(ENTITY_OAUTH_LOGIN_CODE, id)
+        );
+    }
+
+    private <T> T executeWithExceptionHandling(Supplier<T> operation, ErrorCode errorCode, String errorMessage) {
+        try {
+            return operation.get();
+        } catch (DataAccessException e) {
+            log.error("{}: {}", errorMessage, e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        }
+    }
+}
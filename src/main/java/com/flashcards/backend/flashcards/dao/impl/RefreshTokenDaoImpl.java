@@ -0,0 +1,113 @@
+package com.flashcards.backend.flashcards.dao.impl;
+
+import com.flashcards.backend.flashcards.dao.RefreshTokenDao;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.model.RefreshToken;
+import com.flashcards.backend.flashcards.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_DELETE_BY_FIELD_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_DUPLICATE_ENTRY;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_ENTITY_NULL;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_FIND_BY_ID_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_SAVE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_UPDATE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_REFRESH_TOKEN;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenDaoImpl implements RefreshTokenDao {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<RefreshToken> findById(String id) {
+        return executeWithExceptionHandling(() ->
+                isBlank(id) ? Optional.<RefreshToken>empty() : refreshTokenRepository.findById(id),
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_ID_ERROR.formatted(ENTITY_REFRESH_TOKEN, id)
+        );
+    }
+
+    @Override
+    public RefreshToken insert(RefreshToken refreshToken) {
+        return executeWithExceptionHandling(() -> {
+                    requireNonNull(refreshToken, DAO_ENTITY_NULL.formatted(ENTITY_REFRESH_TOKEN));
+                    return refreshTokenRepository.insert(refreshToken);
+                },
+                ErrorCode.DAO_SAVE_ERROR,
+                DAO_SAVE_ERROR.formatted(ENTITY_REFRESH_TOKEN)
+        );
+    }
+
+    /**
+     * Atomically mark an unused token as used.
+     *
+     * @return true if this call used the token, false if it was already used or does not exist
+     */
+    @Override
+    public boolean markUsed(String id) {
+        return executeWithExceptionHandling(() ->
+                mongoTemplate.updateFirst(
+                        Query.query(where("_id").is(id).and("usedAt").is(null)),
+                        new Update().set("usedAt", LocalDateTime.now()),
+                        RefreshToken.class
+                ).getModifiedCount() == 1,
+                ErrorCode.DAO_UPDATE_ERROR,
+                DAO_UPDATE_ERROR.formatted(ENTITY_REFRESH_TOKEN, id)
+        );
+    }
+
+    @Override
+    public void deleteByFamilyId(String familyId) {
+        executeWithExceptionHandling(() -> {
+                    refreshTokenRepository.deleteByFamilyId(familyId);
+                    return null;
+                },
+                ErrorCode.DAO_DELETE_ERROR,
+                DAO_DELETE_BY_FIELD_ERROR.formatted(ENTITY_REFRESH_TOKEN, "familyId", familyId)
+        );
+    }
+
+    @Override
+    public void deleteByUserId(String userId) {
+        executeWithExceptionHandling(() -> {
+                    refreshTokenRepository.deleteByUserId(userId);
+                    return null;
+                },
+                ErrorCode.DAO_DELETE_ERROR,
+                DAO_DELETE_BY_FIELD_ERROR.formatted(ENTITY_REFRESH_TOKEN, "userId", userId)
+        );
+    }
+
+    private <T> T executeWithExceptionHandling(Supplier<T> operation, ErrorCode errorCode, String errorMessage) {
+        try {
+            return operation.get();
+        } catch (DuplicateKeyException e) {
+            log.debug("Duplicate key error: {}", e.getMessage());
+            throw new DaoException(DAO_DUPLICATE_ENTRY.formatted(ENTITY_REFRESH_TOKEN), ErrorCode.DAO_DUPLICATE_ERROR, e);
+        } catch (DataAccessException e) {
+            log.error("{}: {}", errorMessage, e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        }
+    }
+}
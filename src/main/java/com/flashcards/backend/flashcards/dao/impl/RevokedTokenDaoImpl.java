@@ -0,0 +1,65 @@
+package com.flashcards.backend.flashcards.dao.impl;
+
+import com.flashcards.backend.flashcards.dao.RevokedTokenDao;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.model.RevokedToken;
+import com.flashcards.backend.flashcards.repository.RevokedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_DUPLICATE_ENTRY;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_ENTITY_NULL;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_FIND_BY_FIELD_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_SAVE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_REVOKED_TOKEN;
+import static java.util.Objects.requireNonNull;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenDaoImpl implements RevokedTokenDao {
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Override
+    public RevokedToken insert(RevokedToken revokedToken) {
+        return executeWithExceptionHandling(() -> {
+                    requireNonNull(revokedToken, DAO_ENTITY_NULL.formatted(ENTITY_REVOKED_TOKEN));
+                    return revokedTokenRepository.insert(revokedToken);
+                },
+                ErrorCode.DAO_SAVE_ERROR,
+                DAO_SAVE_ERROR.formatted(ENTITY_REVOKED_TOKEN)
+        );
+    }
+
+    @Override
+    public List<RevokedToken> findActive(Date now) {
+        return executeWithExceptionHandling(() ->
+                revokedTokenRepository.findByExpiresAtAfter(now),
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_FIELD_ERROR.formatted(ENTITY_REVOKED_TOKEN, "expiresAt", now)
+        );
+    }
+
+    private <T> T executeWithExceptionHandling(Supplier<T> operation, ErrorCode errorCode, String errorMessage) {
+        try {
+            return operation.get();
+        } catch (DuplicateKeyException e) {
+            log.debug("Duplicate key error: {}", e.getMessage());
+            throw new DaoException(DAO_DUPLICATE_ENTRY.formatted(ENTITY_REVOKED_TOKEN), ErrorCode.DAO_DUPLICATE_ERROR, e);
+        } catch (DataAccessException e) {
+            log.error("{}: {}", errorMessage, e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.flashcards.backend.flashcards.dao.impl;
+
+import com.flashcards.backend.flashcards.dao.TotpUsedStepDao;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.model.TotpUsedStep;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_UPDATE_ERROR;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_TOTP_USED_STEP;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TotpUsedStepDaoImpl implements TotpUsedStepDao {
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Atomically record a step as used if it is later than the last used step.
+     *
+     * @return true if the step was recorded, false if it or a later step was already used
+     */
+    @Override
+    public boolean markStepUsed(String userId, long step, Date expiresAt) {
+        return executeWithExceptionHandling(() -> {
+                    try {
+                        mongoTemplate.upsert(
+                                Query.query(where("_id").is(userId).and("lastUsedStep").lt(step)),
+                                new Update().set("lastUsedStep", step).set("expiresAt", expiresAt),
+                                TotpUsedStep.class);
+                        return true;
+                    } catch (DuplicateKeyException e) {
+                        // The document exists with this or a later step, so the upsert tried to insert a second one
+                        return false;
+                    }
+                },
+                ErrorCode.DAO_UPDATE_ERROR,
+                DAO_UPDATE_ERROR.formatted(ENTITY_TOTP_USED_STEP, userId)
+        );
+    }
+
+    private <T> T executeWithExceptionHandling(Supplier<T> operation, ErrorCode errorCode, String errorMessage) {
+        try {
+            return operation.get();
+        } catch (DataAccessException e) {
+            log.error("{}: {}", errorMessage, e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            throw new DaoException(errorMessage, errorCode, e);
+        }
+    }
+}
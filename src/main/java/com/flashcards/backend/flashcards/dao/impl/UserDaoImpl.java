@@ -11,11 +11,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.function.Supplier;
 
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_COUNT_BY_FIELD_ERROR;
@@ -34,12 +43,14 @@ import static com.flashcards.backend.flashcards.constants.ErrorMessages.DAO_UPDA
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_USER;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserDaoImpl implements UserDao {
     private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public Optional<User> findById(String id) {
@@ -74,6 +85,27 @@ public class UserDaoImpl implements UserDao {
         );
     }
 
+    /**
+     * Look up a user by username or email in one $or query served by both unique indexes.
+     * If the value is one user's username and another's email, the username match wins.
+     */
+    @Override
+    public Optional<User> findByUsernameOrEmail(String usernameOrEmail) {
+        return executeWithExceptionHandling(() -> {
+                    if (StringUtils.isBlank(usernameOrEmail)) {
+                        return Optional.<User>empty();
+                    }
+                    List<User> users = userRepository.findByUsernameOrEmail(usernameOrEmail, usernameOrEmail);
+                    return users.stream()
+                            .filter(user -> usernameOrEmail.equals(user.getUsername()))
+                            .findFirst()
+                            .or(() -> users.stream().findFirst());
+                },
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_FIELD_ERROR.formatted(ENTITY_USER, "username or email", usernameOrEmail)
+        );
+    }
+
     @Override
     public List<User> findAll() {
         return executeWithExceptionHandling(
@@ -118,6 +150,38 @@ public class UserDaoImpl implements UserDao {
         }, ErrorCode.DAO_UPDATE_ERROR, DAO_UPDATE_ERROR.formatted(ENTITY_USER, user.getId()));
     }
 
+    @Override
+    public void updatePassword(String id, String password) {
+        executeWithExceptionHandling(() -> mongoTemplate.updateFirst(
+                        Query.query(where("_id").is(id)),
+                        new Update().set("password", password).set("updatedAt", LocalDateTime.now()),
+                        User.class),
+                ErrorCode.DAO_UPDATE_ERROR,
+                DAO_UPDATE_ERROR.formatted(ENTITY_USER, id)
+        );
+    }
+
+    /**
+     * Set lastLoginAt for many users in one unordered bulk write. $max keeps the latest time when
+     * several instances flush logins of the same user.
+     */
+    @Override
+    public void updateLastLoginAt(Map<String, LocalDateTime> lastLoginAtByUserId) {
+        if (lastLoginAtByUserId.isEmpty()) {
+            return;
+        }
+        executeWithExceptionHandling(() -> {
+                    BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+                    lastLoginAtByUserId.forEach((userId, lastLoginAt) -> bulk.updateOne(
+                            Query.query(where("_id").is(userId)),
+                            new Update().max("lastLoginAt", lastLoginAt)));
+                    return bulk.execute();
+                },
+                ErrorCode.DAO_UPDATE_ERROR,
+                DAO_UPDATE_ERROR.formatted(ENTITY_USER, lastLoginAtByUserId.keySet())
+        );
+    }
+
     @Override
     public void deleteById(String id) {
         executeWithExceptionHandling(() -> {
@@ -165,6 +229,42 @@ public class UserDaoImpl implements UserDao {
         );
     }
 
+    /**
+     * Resolve an OAuth login in one $or query served by the oauth identity and email indexes.
+     * A user already linked to the identity wins over one that only shares the email.
+     */
+    @Override
+    public Optional<User> findByOauthIdentityOrEmail(String oauthProvider, String oauthId, String email) {
+        return executeWithExceptionHandling(() -> {
+                    List<User> users = userRepository.findByOauthProviderAndOauthIdOrEmail(oauthProvider, oauthId, email);
+                    return users.stream()
+                            .filter(user -> Objects.equals(oauthProvider, user.getOauthProvider())
+                                    && Objects.equals(oauthId, user.getOauthId()))
+                            .findFirst()
+                            .or(() -> users.stream().findFirst());
+                },
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_FIELD_ERROR.formatted(ENTITY_USER, "oauth identity or email", oauthProvider + ":" + oauthId)
+        );
+    }
+
+    /**
+     * Which of the given usernames are taken, in one $in query covered by the username index.
+     */
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return executeWithExceptionHandling(() -> {
+                    Query query = Query.query(where("username").in(usernames));
+                    query.fields().include("username").exclude("_id");
+                    return mongoTemplate.find(query, User.class).stream()
+                            .map(User::getUsername)
+                            .collect(Collectors.toSet());
+                },
+                ErrorCode.DAO_FIND_ERROR,
+                DAO_FIND_BY_FIELD_ERROR.formatted(ENTITY_USER, "usernames", usernames)
+        );
+    }
+
     @Override
     public List<User> findByRole(Role role) {
         return executeWithExceptionHandling(
@@ -0,0 +1,51 @@
+package com.flashcards.backend.flashcards.dto;
+
+import com.flashcards.backend.flashcards.enums.AIJobStatus;
+import com.flashcards.backend.flashcards.enums.AIJobType;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Status and result of an asynchronous AI job")
+public class AIJobDto {
+
+    @Schema(description = "ID of the job", example = "65f1c2a9e4b0a1b2c3d4e5f6")
+    private String id;
+
+    @Schema(description = "Operation the job runs", example = "IMAGE_GENERATION")
+    private AIJobType type;
+
+    @Schema(description = "Job status", example = "RUNNING")
+    private AIJobStatus status;
+
+    @Schema(description = "Client-supplied idempotency key, or the job id if none was given", example = "lecture-42-summary")
+    private String idempotencyKey;
+
+    @Schema(description = "Operation response once the job has succeeded; the same shape as the synchronous endpoint. " +
+            "Audio is referenced by clipId instead of being embedded.")
+    private Object result;
+
+    @Schema(description = "Error code if the job failed", example = "SVC_006")
+    private ErrorCode errorCode;
+
+    @Schema(description = "Error message if the job failed")
+    private String errorMessage;
+
+    @Schema(description = "When the job was submitted")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "When the job started running")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When the job finished")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,63 @@
+package com.flashcards.backend.flashcards.dto;
+
+import com.flashcards.backend.flashcards.enums.AIModelEnum;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request DTO for generating flashcards from several images (e.g. textbook pages) in one call")
+public class AIMultiImageGenerateRequestDto {
+
+    @NotBlank(message = "Deck ID is required")
+    @Schema(description = "ID of the deck to add flashcards to", example = "507f1f77bcf86cd799439011")
+    private String deckId;
+
+    @NotBlank(message = "User ID is required")
+    @Schema(description = "ID of the user making the request", example = "507f191e810c19729de860ea")
+    private String userId;
+
+    @Schema(description = "Optional prompt applied to every image",
+            example = "Focus on definitions and formulas")
+    @Size(max = 1000, message = "Prompt must not exceed 1000 characters")
+    private String prompt;
+
+    @Min(value = 1, message = "Count per image must be at least 1")
+    @Max(value = 20, message = "Maximum 20 flashcards can be generated per image")
+    @Builder.Default
+    @Schema(description = "Number of flashcards to generate from each image", example = "5", defaultValue = "5")
+    private int countPerImage = 5;
+
+    @Schema(description = "Difficulty level for generated flashcards", example = "INTERMEDIATE")
+    @Size(max = 20, message = "Difficulty must not exceed 20 characters")
+    private String difficulty;
+
+    @Schema(description = "Category for the flashcards", example = "Biology")
+    @Size(max = 500, message = "Category must not exceed 500 characters")
+    private String category;
+
+    @Schema(description = "AI model to use for generation (must support vision). Use enum constant name.",
+            type = "string",
+            example = "GPT_4O",
+            defaultValue = "GPT_4O")
+    private AIModelEnum model;
+
+    @NotEmpty(message = "At least one image is required")
+    @ArraySchema(schema = @Schema(type = "string", format = "binary"),
+            arraySchema = @Schema(description = "Image files to analyze, processed concurrently"))
+    private List<MultipartFile> images;
+}
@@ -0,0 +1,48 @@
+package com.flashcards.backend.flashcards.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Merged flashcards generated from several images")
+public class AIMultiImageGenerateResponseDto {
+
+    @Schema(description = "Deduplicated flashcards in image order")
+    private List<CreateFlashcardDto> flashcards;
+
+    @Schema(description = "Number of images submitted", example = "12")
+    private int imagesSubmitted;
+
+    @Schema(description = "Number of images that produced flashcards", example = "11")
+    private int imagesSucceeded;
+
+    @Schema(description = "Near-duplicate flashcards removed across images", example = "4")
+    private int duplicatesRemoved;
+
+    @Schema(description = "Images that failed, if any")
+    private List<ImageFailure> failures;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Failure details for a single image")
+    public static class ImageFailure {
+        @Schema(description = "Zero-based index of the image in the request", example = "3")
+        private int index;
+
+        @Schema(description = "Original filename", example = "page-4.jpg")
+        private String filename;
+
+        @Schema(description = "Failure reason", example = "AI provider openai is at capacity. Please retry shortly")
+        private String message;
+    }
+}
@@ -35,4 +35,7 @@ public class AISpeechToTextResponseDto {
 
     @Schema(description = "Action performed on the transcribed text", example = "SUMMARY")
     private String actionPerformed;
+
+    @Schema(description = "Timestamped transcript segments (long audio transcription only)")
+    private List<TranscriptSegmentDto> segments;
 }
\ No newline at end of file
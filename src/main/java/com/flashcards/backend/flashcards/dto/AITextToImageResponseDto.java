@@ -26,6 +26,9 @@ public class AITextToImageResponseDto {
     @Schema(description = "AI model used for generation", example = "DALL_E_3")
     private AIModelEnum modelUsed;
 
+    @Schema(description = "Number of images requested; fewer are returned if some generations failed", example = "4")
+    private Integer imagesRequested;
+
     @Schema(description = "Original description prompt",
             example = "A flowchart showing the lifecycle of a Spring Boot application")
     private String originalDescription;
@@ -39,6 +42,9 @@ public class AITextToImageResponseDto {
     @Schema(description = "Time taken to generate images in milliseconds", example = "3450")
     private Long generationTimeMs;
 
+    @Schema(description = "Whether the images were served from the store for an identical earlier request", example = "false")
+    private boolean cached;
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -46,9 +52,12 @@ public class AITextToImageResponseDto {
     @Schema(description = "Information about a single generated image")
     public static class GeneratedImage {
 
-        @Schema(description = "URL to access the generated image")
+        @Schema(description = "URL to access the generated image; a stable /api/ai/images/{imageId} URL once stored")
         private String url;
 
+        @Schema(description = "Content hash of the stored image", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+        private String imageId;
+
         @Schema(description = "Base64-encoded image data (if requested)")
         private String b64Json;
 
@@ -13,6 +13,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import static com.flashcards.backend.flashcards.constants.AIConstants.MAX_CHUNKED_AUDIO_TEXT_LENGTH;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -25,8 +27,9 @@ public class AITextToSpeechRequestDto {
     private String userId;
 
     @NotBlank(message = "Text is required")
-    @Size(max = 10000, message = "Text must not exceed 10000 characters")
-    @Schema(description = "Text content to convert to speech", example = "This is the content I want to listen to")
+    @Size(max = MAX_CHUNKED_AUDIO_TEXT_LENGTH, message = "Text must not exceed 50000 characters")
+    @Schema(description = "Text content to convert to speech. Text longer than 4096 characters is only supported by the stream endpoint",
+            example = "This is the content I want to listen to")
     private String text;
 
     @NotNull(message = "Output type is required")
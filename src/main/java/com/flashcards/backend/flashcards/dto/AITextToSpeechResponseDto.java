@@ -35,4 +35,8 @@ public class AITextToSpeechResponseDto {
 
     @Schema(description = "Model used for TTS", example = "tts-1")
     private String model;
+
+    @Schema(description = "Content hash of the clip; replay it from GET /api/audio/clips/{clipId}",
+            example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String clipId;
 }
\ No newline at end of file
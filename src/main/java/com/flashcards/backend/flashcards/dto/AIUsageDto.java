@@ -0,0 +1,50 @@
+package com.flashcards.backend.flashcards.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Aggregated AI token usage for a user, model and operation")
+public class AIUsageDto {
+
+    @Schema(description = "ID of the user who triggered the calls", example = "507f1f77bcf86cd799439013")
+    private String userId;
+
+    @Schema(description = "Model ID used for the calls", example = "gpt-4o-mini")
+    private String model;
+
+    @Schema(description = "Operation name", example = "Text to Flashcards")
+    private String operation;
+
+    @Schema(description = "Number of AI calls in the period", example = "12")
+    private long callCount;
+
+    @Schema(description = "Prompt (input) tokens consumed", example = "18250")
+    private long promptTokens;
+
+    @Schema(description = "Completion (output) tokens consumed", example = "6400")
+    private long completionTokens;
+
+    @Schema(description = "Prompt tokens served from the provider cache", example = "1024")
+    private long cachedTokens;
+
+    @Schema(description = "Total wall time spent waiting on the provider in milliseconds", example = "38400")
+    private long totalLatencyMs;
+
+    @Schema(description = "Estimated cost in USD", example = "0.0049")
+    private double estimatedCost;
+
+    @Schema(description = "Start of the aggregation period")
+    private LocalDateTime periodStart;
+
+    @Schema(description = "End of the aggregation period")
+    private LocalDateTime periodEnd;
+}
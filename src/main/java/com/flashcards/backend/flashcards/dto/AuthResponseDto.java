@@ -18,9 +18,15 @@ public class AuthResponseDto {
     @Schema(description = "Token type", example = "Bearer")
     private String tokenType;
 
-    @Schema(description = "Token expiration time in seconds", example = "3600")
+    @Schema(description = "Token expiration time in seconds", example = "900")
     private long expiresIn;
 
+    @Schema(description = "Single-use refresh token for obtaining a new access token", example = "q3Xv9mB2...")
+    private String refreshToken;
+
+    @Schema(description = "Refresh token expiration time in seconds", example = "2592000")
+    private long refreshExpiresIn;
+
     @Schema(description = "User information")
     private UserDto user;
 
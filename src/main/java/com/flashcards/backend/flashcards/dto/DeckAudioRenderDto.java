@@ -0,0 +1,66 @@
+package com.flashcards.backend.flashcards.dto;
+
+import com.flashcards.backend.flashcards.enums.AudioRenderStatus;
+import com.flashcards.backend.flashcards.enums.TTSVoice;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress and result of a deck audio pre-render")
+public class DeckAudioRenderDto {
+
+    @Schema(description = "ID of the deck", example = "507f1f77bcf86cd799439011")
+    private String deckId;
+
+    @Schema(description = "Voice used for the render", example = "ALLOY")
+    private TTSVoice voice;
+
+    @Schema(description = "Speech speed used for the render", example = "1.0")
+    private double speed;
+
+    @Schema(description = "Render status", example = "RUNNING")
+    private AudioRenderStatus status;
+
+    @Schema(description = "Number of cards in the deck", example = "40")
+    private int totalCards;
+
+    @Schema(description = "Cards synthesized by this render", example = "6")
+    private int renderedCards;
+
+    @Schema(description = "Unchanged cards whose audio was reused from the last render", example = "30")
+    private int reusedCards;
+
+    @Schema(description = "Cards that failed to render", example = "0")
+    private int failedCards;
+
+    @Schema(description = "Clip ids per flashcard id; play them from GET /api/audio/clips/{clipId}")
+    private Map<String, CardAudioDto> cards;
+
+    @Schema(description = "When the render started")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When the render finished (null while running)")
+    private LocalDateTime completedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Audio clips for one flashcard")
+    public static class CardAudioDto {
+        @Schema(description = "Clip id of the front side (null if the side has no text)")
+        private String frontClipId;
+
+        @Schema(description = "Clip id of the back side (null if the side has no text)")
+        private String backClipId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.flashcards.backend.flashcards.dto;
+
+import com.flashcards.backend.flashcards.enums.TTSVoice;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to pre-render audio for every card in a deck")
+public class DeckAudioRenderRequestDto {
+
+    @Schema(description = "Voice to use for speech synthesis", example = "ALLOY")
+    @Builder.Default
+    private TTSVoice voice = TTSVoice.ALLOY;
+
+    @DecimalMin(value = "0.25", message = "Speed must be at least 0.25")
+    @DecimalMax(value = "4.0", message = "Speed must not exceed 4.0")
+    @Schema(description = "Speech speed (0.25 to 4.0, default 1.0)", example = "1.0")
+    @Builder.Default
+    private Double speed = 1.0;
+}
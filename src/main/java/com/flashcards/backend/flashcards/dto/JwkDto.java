@@ -0,0 +1,45 @@
+package com.flashcards.backend.flashcards.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Public half of a token signing key in JSON Web Key form (RFC 7517).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Public token verification key")
+public class JwkDto {
+
+    @Schema(description = "Key type", example = "OKP")
+    private String kty;
+
+    @Schema(description = "Key id, matching the kid header of tokens it verifies",
+            example = "3f6c2a4e-9b1d-4f0a-8c8e-2d6f1b7a9e55")
+    private String kid;
+
+    @Schema(description = "Signing algorithm", example = "EdDSA")
+    private String alg;
+
+    @Schema(description = "Intended use", example = "sig")
+    private String use;
+
+    @Schema(description = "Curve (OKP keys)", example = "Ed25519")
+    private String crv;
+
+    @Schema(description = "Base64url public key (OKP keys)")
+    private String x;
+
+    @Schema(description = "Base64url modulus (RSA keys)")
+    private String n;
+
+    @Schema(description = "Base64url public exponent (RSA keys)", example = "AQAB")
+    private String e;
+}
@@ -0,0 +1,20 @@
+package com.flashcards.backend.flashcards.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "JSON Web Key Set of every key that may have signed a live token")
+public class JwksDto {
+
+    @Schema(description = "Verification keys, newest first")
+    private List<JwkDto> keys;
+}
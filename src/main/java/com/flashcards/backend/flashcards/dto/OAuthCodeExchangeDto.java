@@ -0,0 +1,19 @@
+package com.flashcards.backend.flashcards.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "OAuth2 login code exchange request")
+public class OAuthCodeExchangeDto {
+    @Schema(description = "Code from the OAuth2 success redirect", example = "Zr8kP1wQ...")
+    @NotBlank(message = "Code is required")
+    private String code;
+}
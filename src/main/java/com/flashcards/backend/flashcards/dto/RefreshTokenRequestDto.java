@@ -0,0 +1,19 @@
+package com.flashcards.backend.flashcards.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Refresh token request")
+public class RefreshTokenRequestDto {
+    @Schema(description = "Refresh token from the last authentication response", example = "q3Xv9mB2...")
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
@@ -0,0 +1,30 @@
+package com.flashcards.backend.flashcards.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A transcribed segment of a long recording")
+public class TranscriptSegmentDto {
+
+    @Schema(description = "Position of the segment in the recording", example = "0")
+    private int index;
+
+    @Schema(description = "Start of the segment in seconds", example = "0.0")
+    private Double startSeconds;
+
+    @Schema(description = "End of the segment in seconds", example = "118.4")
+    private Double endSeconds;
+
+    @Schema(description = "Transcribed text of the segment", example = "Today we'll cover dependency injection...")
+    private String text;
+
+    @Schema(description = "Summary of the segment (if action was SUMMARY)", example = "Introduces dependency injection.")
+    private String summary;
+}
@@ -0,0 +1,15 @@
+package com.flashcards.backend.flashcards.enums;
+
+/**
+ * Lifecycle of an asynchronous AI job.
+ */
+public enum AIJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,10 @@
+package com.flashcards.backend.flashcards.enums;
+
+/**
+ * Operations that can be submitted as asynchronous AI jobs.
+ */
+public enum AIJobType {
+    TEXT_TO_SPEECH,
+    SPEECH_TO_TEXT,
+    IMAGE_GENERATION
+}
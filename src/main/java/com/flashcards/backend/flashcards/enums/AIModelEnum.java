@@ -26,6 +26,27 @@ import static com.flashcards.backend.flashcards.constants.AIConstants.CONTEXT_TO
 import static com.flashcards.backend.flashcards.constants.AIConstants.CONTEXT_TOKENS_GPT_4O_MINI;
 import static com.flashcards.backend.flashcards.constants.AIConstants.CONTEXT_TOKENS_GPT_4_TURBO;
 import static com.flashcards.backend.flashcards.constants.AIConstants.CONTEXT_TOKENS_O1_PREVIEW;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_CLAUDE_35_HAIKU;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_CLAUDE_35_SONNET;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_CLAUDE_3_HAIKU;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_CLAUDE_3_OPUS;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_CLAUDE_3_SONNET;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_CLAUDE_OPUS_4_1;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_CLAUDE_SONNET_4;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GEMINI_15_FLASH;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GEMINI_15_PRO;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GEMINI_20_FLASH;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GEMINI_25_FLASH;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GEMINI_PRO;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GEMINI_PRO_VISION;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GPT_35_TURBO;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GPT_4;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GPT_4O;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GPT_4O_MINI;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GPT_4_1;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GPT_4_TURBO;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_GPT_5_NANO;
+import static com.flashcards.backend.flashcards.constants.AIConstants.COST_O1_PREVIEW;
 import static com.flashcards.backend.flashcards.constants.AIConstants.DISPLAY_CLAUDE_35_SONNET;
 import static com.flashcards.backend.flashcards.constants.AIConstants.DISPLAY_CLAUDE_3_HAIKU;
 import static com.flashcards.backend.flashcards.constants.AIConstants.DISPLAY_CLAUDE_3_OPUS;
@@ -120,35 +141,35 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @Getter
 public enum AIModelEnum {
     // OpenAI Models
-    GPT_4O(MODEL_GPT_4O, AIProviderEnum.OPENAI, DISPLAY_GPT_4O, SUPPORTS_VISION_GPT_4O, CONTEXT_TOKENS_GPT_4O, OUTPUT_TOKENS_GPT_4O),
-    GPT_4O_MINI(MODEL_GPT_4O_MINI, AIProviderEnum.OPENAI, DISPLAY_GPT_4O_MINI, SUPPORTS_VISION_GPT_4O_MINI, CONTEXT_TOKENS_GPT_4O_MINI, OUTPUT_TOKENS_GPT_4O_MINI),
-    GPT_4_1(MODEL_GPT_4_1, AIProviderEnum.OPENAI, DISPLAY_GPT_4_1, SUPPORTS_VISION_GPT_4_1, CONTEXT_TOKENS_GPT_4_1, OUTPUT_TOKENS_GPT_4_1),
-    GPT_4_TURBO(MODEL_GPT_4_TURBO, AIProviderEnum.OPENAI, DISPLAY_GPT_4_TURBO, SUPPORTS_VISION_GPT_4_TURBO, CONTEXT_TOKENS_GPT_4_TURBO, OUTPUT_TOKENS_GPT_4_TURBO),
-    GPT_4(MODEL_GPT_4, AIProviderEnum.OPENAI, DISPLAY_GPT_4, SUPPORTS_VISION_GPT_4, CONTEXT_TOKENS_GPT_4, OUTPUT_TOKENS_GPT_4),
-    O1_PREVIEW(MODEL_O1_PREVIEW, AIProviderEnum.OPENAI, DISPLAY_O1_PREVIEW, SUPPORTS_VISION_O1_PREVIEW, CONTEXT_TOKENS_O1_PREVIEW, OUTPUT_TOKENS_O1_PREVIEW),
-    GPT_3_5_TURBO(MODEL_GPT_35_TURBO, AIProviderEnum.OPENAI, DISPLAY_GPT_35_TURBO, SUPPORTS_VISION_GPT_35_TURBO, CONTEXT_TOKENS_GPT_35_TURBO, OUTPUT_TOKENS_GPT_35_TURBO),
-    GPT_5_NANO(MODEL_GPT_5_NANO, AIProviderEnum.OPENAI, DISPLAY_GPT_5_NANO, SUPPORTS_VISION_GPT_5_NANO, CONTEXT_TOKENS_GPT_5_NANO, OUTPUT_TOKENS_GPT_5_NANO),
+    GPT_4O(MODEL_GPT_4O, AIProviderEnum.OPENAI, DISPLAY_GPT_4O, SUPPORTS_VISION_GPT_4O, CONTEXT_TOKENS_GPT_4O, OUTPUT_TOKENS_GPT_4O, COST_GPT_4O),
+    GPT_4O_MINI(MODEL_GPT_4O_MINI, AIProviderEnum.OPENAI, DISPLAY_GPT_4O_MINI, SUPPORTS_VISION_GPT_4O_MINI, CONTEXT_TOKENS_GPT_4O_MINI, OUTPUT_TOKENS_GPT_4O_MINI, COST_GPT_4O_MINI),
+    GPT_4_1(MODEL_GPT_4_1, AIProviderEnum.OPENAI, DISPLAY_GPT_4_1, SUPPORTS_VISION_GPT_4_1, CONTEXT_TOKENS_GPT_4_1, OUTPUT_TOKENS_GPT_4_1, COST_GPT_4_1),
+    GPT_4_TURBO(MODEL_GPT_4_TURBO, AIProviderEnum.OPENAI, DISPLAY_GPT_4_TURBO, SUPPORTS_VISION_GPT_4_TURBO, CONTEXT_TOKENS_GPT_4_TURBO, OUTPUT_TOKENS_GPT_4_TURBO, COST_GPT_4_TURBO),
+    GPT_4(MODEL_GPT_4, AIProviderEnum.OPENAI, DISPLAY_GPT_4, SUPPORTS_VISION_GPT_4, CONTEXT_TOKENS_GPT_4, OUTPUT_TOKENS_GPT_4, COST_GPT_4),
+    O1_PREVIEW(MODEL_O1_PREVIEW, AIProviderEnum.OPENAI, DISPLAY_O1_PREVIEW, SUPPORTS_VISION_O1_PREVIEW, CONTEXT_TOKENS_O1_PREVIEW, OUTPUT_TOKENS_O1_PREVIEW, COST_O1_PREVIEW),
+    GPT_3_5_TURBO(MODEL_GPT_35_TURBO, AIProviderEnum.OPENAI, DISPLAY_GPT_35_TURBO, SUPPORTS_VISION_GPT_35_TURBO, CONTEXT_TOKENS_GPT_35_TURBO, OUTPUT_TOKENS_GPT_35_TURBO, COST_GPT_35_TURBO),
+    GPT_5_NANO(MODEL_GPT_5_NANO, AIProviderEnum.OPENAI, DISPLAY_GPT_5_NANO, SUPPORTS_VISION_GPT_5_NANO, CONTEXT_TOKENS_GPT_5_NANO, OUTPUT_TOKENS_GPT_5_NANO, COST_GPT_5_NANO),
 
     // OpenAI DALL-E Image Generation Models
-    DALL_E_3("dall-e-3", AIProviderEnum.OPENAI, "DALL-E 3", false, 0, 0),
-    DALL_E_2("dall-e-2", AIProviderEnum.OPENAI, "DALL-E 2", false, 0, 0),
+    DALL_E_3("dall-e-3", AIProviderEnum.OPENAI, "DALL-E 3", false, 0, 0, 0),
+    DALL_E_2("dall-e-2", AIProviderEnum.OPENAI, "DALL-E 2", false, 0, 0, 0),
 
     // Anthropic Claude Models
-    CLAUDE_SONNET_4(MODEL_CLAUDE_SONNET_4_20250514, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_SONNET_4, SUPPORTS_VISION_CLAUDE_SONNET_4, CONTEXT_TOKENS_CLAUDE_SONNET_4, OUTPUT_TOKENS_CLAUDE_SONNET_4),
-    CLAUDE_OPUS_4_1(MODEL_CLAUDE_OPUS_4_1_20250805, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_OPUS_4_1, SUPPORTS_VISION_CLAUDE_OPUS_4_1, CONTEXT_TOKENS_CLAUDE_OPUS_4_1, OUTPUT_TOKENS_CLAUDE_OPUS_4_1),
-    CLAUDE_3_5_SONNET(MODEL_CLAUDE_35_SONNET_20241022, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_35_SONNET, SUPPORTS_VISION_CLAUDE_35_SONNET, CONTEXT_TOKENS_CLAUDE_35_SONNET, OUTPUT_TOKENS_CLAUDE_35_SONNET),
-    CLAUDE_3_5_HAIKU(MODEL_CLAUDE_35_HAIKU_20241022, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_35_HAIKU, SUPPORTS_VISION_CLAUDE_35_HAIKU, CONTEXT_TOKENS_CLAUDE_35_HAIKU, OUTPUT_TOKENS_CLAUDE_35_HAIKU),
-    CLAUDE_3_OPUS(MODEL_CLAUDE_3_OPUS_20240229, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_3_OPUS, SUPPORTS_VISION_CLAUDE_3_OPUS, CONTEXT_TOKENS_CLAUDE_3_OPUS, OUTPUT_TOKENS_CLAUDE_3_OPUS),
-    CLAUDE_3_SONNET(MODEL_CLAUDE_3_SONNET_20240229, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_3_SONNET, SUPPORTS_VISION_CLAUDE_3_SONNET, CONTEXT_TOKENS_CLAUDE_3_SONNET, OUTPUT_TOKENS_CLAUDE_3_SONNET),
-    CLAUDE_3_HAIKU(MODEL_CLAUDE_3_HAIKU_20240307, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_3_HAIKU, SUPPORTS_VISION_CLAUDE_3_HAIKU, CONTEXT_TOKENS_CLAUDE_3_HAIKU, OUTPUT_TOKENS_CLAUDE_3_HAIKU),
+    CLAUDE_SONNET_4(MODEL_CLAUDE_SONNET_4_20250514, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_SONNET_4, SUPPORTS_VISION_CLAUDE_SONNET_4, CONTEXT_TOKENS_CLAUDE_SONNET_4, OUTPUT_TOKENS_CLAUDE_SONNET_4, COST_CLAUDE_SONNET_4),
+    CLAUDE_OPUS_4_1(MODEL_CLAUDE_OPUS_4_1_20250805, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_OPUS_4_1, SUPPORTS_VISION_CLAUDE_OPUS_4_1, CONTEXT_TOKENS_CLAUDE_OPUS_4_1, OUTPUT_TOKENS_CLAUDE_OPUS_4_1, COST_CLAUDE_OPUS_4_1),
+    CLAUDE_3_5_SONNET(MODEL_CLAUDE_35_SONNET_20241022, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_35_SONNET, SUPPORTS_VISION_CLAUDE_35_SONNET, CONTEXT_TOKENS_CLAUDE_35_SONNET, OUTPUT_TOKENS_CLAUDE_35_SONNET, COST_CLAUDE_35_SONNET),
+    CLAUDE_3_5_HAIKU(MODEL_CLAUDE_35_HAIKU_20241022, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_35_HAIKU, SUPPORTS_VISION_CLAUDE_35_HAIKU, CONTEXT_TOKENS_CLAUDE_35_HAIKU, OUTPUT_TOKENS_CLAUDE_35_HAIKU, COST_CLAUDE_35_HAIKU),
+    CLAUDE_3_OPUS(MODEL_CLAUDE_3_OPUS_20240229, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_3_OPUS, SUPPORTS_VISION_CLAUDE_3_OPUS, CONTEXT_TOKENS_CLAUDE_3_OPUS, OUTPUT_TOKENS_CLAUDE_3_OPUS, COST_CLAUDE_3_OPUS),
+    CLAUDE_3_SONNET(MODEL_CLAUDE_3_SONNET_20240229, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_3_SONNET, SUPPORTS_VISION_CLAUDE_3_SONNET, CONTEXT_TOKENS_CLAUDE_3_SONNET, OUTPUT_TOKENS_CLAUDE_3_SONNET, COST_CLAUDE_3_SONNET),
+    CLAUDE_3_HAIKU(MODEL_CLAUDE_3_HAIKU_20240307, AIProviderEnum.ANTHROPIC, DISPLAY_CLAUDE_3_HAIKU, SUPPORTS_VISION_CLAUDE_3_HAIKU, CONTEXT_TOKENS_CLAUDE_3_HAIKU, OUTPUT_TOKENS_CLAUDE_3_HAIKU, COST_CLAUDE_3_HAIKU),
 
     // Google Vertex AI Gemini Models
-    GEMINI_PRO(MODEL_GEMINI_PRO, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_PRO, SUPPORTS_VISION_GEMINI_PRO, CONTEXT_TOKENS_GEMINI_PRO, OUTPUT_TOKENS_GEMINI_PRO),
-    GEMINI_PRO_VISION("gemini-pro-vision", AIProviderEnum.GOOGLE, DISPLAY_GEMINI_PRO_VISION, SUPPORTS_VISION_GEMINI_PRO_VISION, CONTEXT_TOKENS_GEMINI_PRO_VISION, OUTPUT_TOKENS_GEMINI_PRO_VISION),
-    GEMINI_1_5_PRO(MODEL_GEMINI_15_PRO, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_15_PRO, SUPPORTS_VISION_GEMINI_15_PRO, CONTEXT_TOKENS_GEMINI_15_PRO, OUTPUT_TOKENS_GEMINI_15_PRO),
-    GEMINI_1_5_FLASH(MODEL_GEMINI_15_FLASH, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_15_FLASH, SUPPORTS_VISION_GEMINI_15_FLASH, CONTEXT_TOKENS_GEMINI_15_FLASH, OUTPUT_TOKENS_GEMINI_15_FLASH),
-    GEMINI_2_0_FLASH(MODEL_GEMINI_20_FLASH, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_20_FLASH, SUPPORTS_VISION_GEMINI_20_FLASH, CONTEXT_TOKENS_GEMINI_20_FLASH, OUTPUT_TOKENS_GEMINI_20_FLASH),
-    GEMINI_2_5_FLASH(MODEL_GEMINI_25_FLASH, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_25_FLASH, SUPPORTS_VISION_GEMINI_25_FLASH, CONTEXT_TOKENS_GEMINI_25_FLASH, OUTPUT_TOKENS_GEMINI_25_FLASH);
+    GEMINI_PRO(MODEL_GEMINI_PRO, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_PRO, SUPPORTS_VISION_GEMINI_PRO, CONTEXT_TOKENS_GEMINI_PRO, OUTPUT_TOKENS_GEMINI_PRO, COST_GEMINI_PRO),
+    GEMINI_PRO_VISION("gemini-pro-vision", AIProviderEnum.GOOGLE, DISPLAY_GEMINI_PRO_VISION, SUPPORTS_VISION_GEMINI_PRO_VISION, CONTEXT_TOKENS_GEMINI_PRO_VISION, OUTPUT_TOKENS_GEMINI_PRO_VISION, COST_GEMINI_PRO_VISION),
+    GEMINI_1_5_PRO(MODEL_GEMINI_15_PRO, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_15_PRO, SUPPORTS_VISION_GEMINI_15_PRO, CONTEXT_TOKENS_GEMINI_15_PRO, OUTPUT_TOKENS_GEMINI_15_PRO, COST_GEMINI_15_PRO),
+    GEMINI_1_5_FLASH(MODEL_GEMINI_15_FLASH, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_15_FLASH, SUPPORTS_VISION_GEMINI_15_FLASH, CONTEXT_TOKENS_GEMINI_15_FLASH, OUTPUT_TOKENS_GEMINI_15_FLASH, COST_GEMINI_15_FLASH),
+    GEMINI_2_0_FLASH(MODEL_GEMINI_20_FLASH, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_20_FLASH, SUPPORTS_VISION_GEMINI_20_FLASH, CONTEXT_TOKENS_GEMINI_20_FLASH, OUTPUT_TOKENS_GEMINI_20_FLASH, COST_GEMINI_20_FLASH),
+    GEMINI_2_5_FLASH(MODEL_GEMINI_25_FLASH, AIProviderEnum.GOOGLE, DISPLAY_GEMINI_25_FLASH, SUPPORTS_VISION_GEMINI_25_FLASH, CONTEXT_TOKENS_GEMINI_25_FLASH, OUTPUT_TOKENS_GEMINI_25_FLASH, COST_GEMINI_25_FLASH);
 
     private final String modelId;
     private final AIProviderEnum provider;
@@ -156,15 +177,17 @@ public enum AIModelEnum {
     private final boolean supportsVision;
     private final int maxContextTokens;
     private final int maxOutputTokens;
+    private final double costPer1kTokens;
 
     AIModelEnum(String modelId, AIProviderEnum provider, String displayName,
-                boolean supportsVision, int maxContextTokens, int maxOutputTokens) {
+                boolean supportsVision, int maxContextTokens, int maxOutputTokens, double costPer1kTokens) {
         this.modelId = modelId;
         this.provider = provider;
         this.displayName = displayName;
         this.supportsVision = supportsVision;
         this.maxContextTokens = maxContextTokens;
         this.maxOutputTokens = maxOutputTokens;
+        this.costPer1kTokens = costPer1kTokens;
     }
 
     /**
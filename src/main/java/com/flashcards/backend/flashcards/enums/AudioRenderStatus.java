@@ -0,0 +1,11 @@
+package com.flashcards.backend.flashcards.enums;
+
+/**
+ * Lifecycle of a deck audio pre-render job.
+ */
+public enum AudioRenderStatus {
+    RUNNING,
+    COMPLETED,
+    COMPLETED_WITH_ERRORS,
+    FAILED
+}
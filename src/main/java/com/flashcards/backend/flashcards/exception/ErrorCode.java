@@ -24,6 +24,7 @@ public enum ErrorCode {
     SERVICE_AI_INVALID_IMAGE("SVC_012", "AI invalid image"),
     SERVICE_AI_PROCESSING_TIMEOUT("SVC_013", "AI processing timeout"),
     SERVICE_AI_PROVIDER_UNKNOWN("SVC_014", "Unknown AI provider"),
+    SERVICE_AI_CAPACITY_EXCEEDED("SVC_015", "AI provider capacity exceeded"),
 
     // Controller Layer Error Codes
     CONTROLLER_BAD_REQUEST("CTL_001", "Bad request"),
@@ -42,6 +43,8 @@ public enum ErrorCode {
     AUTH_RECOVERY_CODE_INVALID("AUTH_008", "Invalid recovery code"),
     AUTH_RECOVERY_CODES_EXHAUSTED("AUTH_009", "All recovery codes have been used"),
     AUTH_RECOVERY_CODES_NOT_ENABLED("AUTH_010", "Recovery codes are not enabled"),
+    AUTH_CAPACITY_EXCEEDED("AUTH_011", "Authentication capacity exceeded"),
+    AUTH_TOO_MANY_ATTEMPTS("AUTH_012", "Too many failed sign-in attempts"),
 
     // Configuration Error Codes
     CONFIG_MISSING_API_KEY("CFG_001", "API key is required but not configured"),
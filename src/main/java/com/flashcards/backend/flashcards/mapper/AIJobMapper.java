@@ -0,0 +1,17 @@
+package com.flashcards.backend.flashcards.mapper;
+
+import com.flashcards.backend.flashcards.dto.AIJobDto;
+import com.flashcards.backend.flashcards.model.AIJob;
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE,
+    nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE
+)
+public interface AIJobMapper {
+
+    AIJobDto toDto(AIJob job);
+}
@@ -0,0 +1,21 @@
+package com.flashcards.backend.flashcards.mapper;
+
+import com.flashcards.backend.flashcards.dto.AIUsageDto;
+import com.flashcards.backend.flashcards.model.AIUsage;
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE,
+    nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE
+)
+public interface AIUsageMapper {
+
+    AIUsageDto toDto(AIUsage aiUsage);
+
+    List<AIUsageDto> toDtoList(List<AIUsage> aiUsages);
+}
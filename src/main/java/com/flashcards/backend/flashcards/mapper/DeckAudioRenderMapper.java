@@ -0,0 +1,19 @@
+package com.flashcards.backend.flashcards.mapper;
+
+import com.flashcards.backend.flashcards.dto.DeckAudioRenderDto;
+import com.flashcards.backend.flashcards.model.DeckAudioRender;
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE,
+    nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE
+)
+public interface DeckAudioRenderMapper {
+
+    DeckAudioRenderDto toDto(DeckAudioRender render);
+
+    DeckAudioRenderDto.CardAudioDto toDto(DeckAudioRender.CardAudio cardAudio);
+}
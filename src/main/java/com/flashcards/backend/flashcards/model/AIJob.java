@@ -0,0 +1,52 @@
+package com.flashcards.backend.flashcards.model;
+
+import com.flashcards.backend.flashcards.enums.AIJobStatus;
+import com.flashcards.backend.flashcards.enums.AIJobType;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * An AI operation submitted for background execution.
+ * Idempotency keys are unique per user so a retried submit returns the original job; jobs submitted
+ * without a key use their own id. Documents expire after the configured result TTL.
+ * Jobs run in the memory of the instance that accepted them, which is recorded so a restarted
+ * instance can fail the jobs it lost.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "ai_jobs")
+@CompoundIndex(name = "user_idempotency_idx", def = "{'userId': 1, 'idempotencyKey': 1}", unique = true)
+public class AIJob {
+    @Id
+    private String id;
+
+    private String userId;
+    private AIJobType type;
+    private AIJobStatus status;
+    private String idempotencyKey;
+    private String callbackUrl;
+    private String instanceId;
+
+    private Object result; // operation response DTO; binary output is referenced by content id, not embedded
+    private ErrorCode errorCode;
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
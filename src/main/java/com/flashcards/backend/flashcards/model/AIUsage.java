@@ -0,0 +1,39 @@
+package com.flashcards.backend.flashcards.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregated AI token usage for a single (user, model, operation) over one flush period.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "ai_usage")
+@CompoundIndex(name = "user_period_idx", def = "{'userId': 1, 'periodStart': -1}")
+public class AIUsage {
+    @Id
+    private String id;
+
+    private String userId;
+    private String model;
+    private String operation;
+
+    private long callCount;
+    private long promptTokens;
+    private long completionTokens;
+    private long cachedTokens;
+    private long totalLatencyMs;
+    private double estimatedCost;
+
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+}
@@ -0,0 +1,52 @@
+package com.flashcards.backend.flashcards.model;
+
+import com.flashcards.backend.flashcards.enums.AudioRenderStatus;
+import com.flashcards.backend.flashcards.enums.TTSVoice;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Result of the last audio pre-render of a deck.
+ * Clip ids are content hashes of the spoken text, so comparing them against the current card text
+ * tells which cards changed since the last render.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "deck_audio_renders")
+public class DeckAudioRender {
+    @Id
+    private String deckId;
+
+    private String userId;
+    private TTSVoice voice;
+    private double speed;
+    private AudioRenderStatus status;
+
+    private int totalCards;
+    private int renderedCards;
+    private int reusedCards;
+    private int failedCards;
+
+    private Map<String, CardAudio> cards; // keyed by flashcard id
+
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CardAudio {
+        private String frontClipId;
+        private String backClipId;
+    }
+}
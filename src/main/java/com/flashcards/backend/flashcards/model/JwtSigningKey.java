@@ -0,0 +1,42 @@
+package com.flashcards.backend.flashcards.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * An asymmetric key pair used to sign access tokens; the id is the JWT {@code kid}.
+ * The newest active key signs, every stored key verifies. Once superseded a key is kept until
+ * the last token it signed has expired, then removed by the TTL index. The generation is unique, so
+ * when several nodes rotate at once only one of them can insert the next key.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "jwt_signing_keys")
+public class JwtSigningKey {
+    @Id
+    private String id;
+
+    @Indexed(unique = true, sparse = true) // keys created before generations were tracked have none
+    private Long generation;
+
+    private String algorithm;
+    private String publicKey;  // Base64 X.509
+    private String privateKey; // Base64 PKCS#8, encrypted with the application encryptor
+
+    @Indexed
+    private LocalDateTime createdAt;
+    private LocalDateTime activatesAt; // published in the JWKS before it signs, so verifiers can fetch it first
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
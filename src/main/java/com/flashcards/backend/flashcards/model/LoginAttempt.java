@@ -0,0 +1,35 @@
+package com.flashcards.backend.flashcards.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Failed-login window for the distributed login attempt store.
+ * Documents expire once the key has been quiet long enough to be indistinguishable from a new one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "login_attempts")
+public class LoginAttempt {
+    @Id
+    private String id;
+
+    private long windowStart;
+    private int currentCount;
+    private int previousCount;
+    private int lockouts;
+    private long lockedUntil;
+    private long version;
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
@@ -0,0 +1,30 @@
+package com.flashcards.backend.flashcards.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * A single-use code handed to the frontend after an OAuth2 login, exchanged for the access and refresh
+ * tokens so neither appears in a redirect URL. Only the SHA-256 of the code is stored, as the id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "oauth_login_codes")
+public class OAuthLoginCode {
+    @Id
+    private String id;
+
+    private String userId;
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
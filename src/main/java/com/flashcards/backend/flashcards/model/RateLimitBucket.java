@@ -0,0 +1,32 @@
+package com.flashcards.backend.flashcards.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Token bucket state for the distributed rate limit store.
+ * Documents expire once the bucket would have refilled completely.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "rate_limit_buckets")
+public class RateLimitBucket {
+    @Id
+    private String id;
+
+    private double tokens;
+    private long lastRefillAt;
+    private long version;
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
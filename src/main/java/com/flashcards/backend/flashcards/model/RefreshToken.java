@@ -0,0 +1,39 @@
+package com.flashcards.backend.flashcards.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * A single-use refresh token. Only the SHA-256 of the opaque token is stored, as the id.
+ * Each use replaces it with a new token in the same family; presenting a used token again means it
+ * was copied, so the whole family is revoked. Documents expire with the token.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "refresh_tokens")
+public class RefreshToken {
+    @Id
+    private String id;
+
+    @Indexed
+    private String userId;
+
+    @Indexed
+    private String familyId; // one login session, shared by every rotation of its token
+
+    private LocalDateTime createdAt;
+    private LocalDateTime usedAt;
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
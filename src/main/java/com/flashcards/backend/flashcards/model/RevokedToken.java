@@ -0,0 +1,36 @@
+package com.flashcards.backend.flashcards.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Revocation of access tokens before their expiry: a single token by jti, or, when jti is null,
+ * every token of the user issued before revokedAt except the replacement token named by exemptJti.
+ * Kept only as long as the longest-lived access token it can affect.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "revoked_tokens")
+public class RevokedToken {
+    @Id
+    private String id;
+
+    private String jti;
+    private String userId;
+    private String exemptJti;
+
+    private Instant revokedAt;
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
@@ -0,0 +1,31 @@
+package com.flashcards.backend.flashcards.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * The last TOTP time step accepted for a user, keyed by user id. Codes for this step or earlier are
+ * rejected, so a code cannot be replayed on any instance. Expires once that step is outside the
+ * verification window.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "totp_used_steps")
+public class TotpUsedStep {
+    @Id
+    private String id;
+
+    private long lastUsedStep;
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
@@ -5,12 +5,14 @@ import com.flashcards.backend.flashcards.exception.ErrorCode;
 import com.flashcards.backend.flashcards.exception.ServiceException;
 import com.flashcards.backend.flashcards.model.Role;
 import com.flashcards.backend.flashcards.model.User;
-import com.flashcards.backend.flashcards.service.JwtService;
+import com.flashcards.backend.flashcards.service.LastLoginRecorder;
+import com.flashcards.backend.flashcards.service.OAuthLoginCodeService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
@@ -21,18 +23,23 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_ERROR_AUTHENTICATION_FAILED;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_PARAM_CODE;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_PARAM_ERROR;
-import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_PARAM_TOKEN;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_PARAM_TYPE;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_TYPE_VALUE;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_USERNAME_FALLBACK_PREFIX;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_USERNAME_SUFFIXED_CANDIDATES;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_USERNAME_SUFFIX_BOUND;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_OAUTH_EMAIL_NOT_FOUND;
-import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -42,7 +49,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final UserDao userDao;
-    private final JwtService jwtService;
+    private final OAuthLoginCodeService oAuthLoginCodeService;
+    private final LastLoginRecorder lastLoginRecorder;
 
     @Value("${oauth.success-redirect-url}")
     private String successRedirectUrl;
@@ -87,34 +95,41 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         }
 
         User user = findOrCreateUser(userInfo, registrationId);
-        String jwtToken = jwtService.generateToken(user);
+        // Tokens in a URL leak through history, logs and Referer, so the frontend exchanges this code for them
+        String code = oAuthLoginCodeService.issue(user.getId());
 
         log.debug("OAuth2 authentication successful for user: {}", user.getUsername());
 
         return UriComponentsBuilder.fromUriString(successRedirectUrl)
-                .queryParam(OAUTH_PARAM_TOKEN, jwtToken)
+                .queryParam(OAUTH_PARAM_CODE, code)
                 .queryParam(OAUTH_PARAM_TYPE, OAUTH_TYPE_VALUE)
                 .build().toUriString();
     }
 
     private User findOrCreateUser(OAuth2UserInfo userInfo, String provider) {
-        Optional<User> existingOAuthUser = userDao.findByOauthProviderAndOauthId(provider, userInfo.getId());
-        if (existingOAuthUser.isPresent()) {
-            User user = existingOAuthUser.get();
-            updateUserFromOAuth(user, userInfo);
-            return userDao.save(user);
+        Optional<User> existingUser = userDao.findByOauthIdentityOrEmail(provider, userInfo.getId(), userInfo.getEmail());
+        if (existingUser.isEmpty()) {
+            return createNewOAuthUser(userInfo, provider);
         }
 
-        Optional<User> existingEmailUser = userDao.findByEmail(userInfo.getEmail());
-        if (existingEmailUser.isPresent()) {
-            User user = existingEmailUser.get();
+        User user = existingUser.get();
+        boolean linked = Objects.equals(provider, user.getOauthProvider()) && Objects.equals(userInfo.getId(), user.getOauthId());
+        if (isFalse(linked)) {
             user.setOauthProvider(provider);
             user.setOauthId(userInfo.getId());
-            updateUserFromOAuth(user, userInfo);
-            return userDao.save(user);
         }
+        boolean profileChanged = updateUserFromOAuth(user, userInfo);
+
+        LocalDateTime now = LocalDateTime.now();
+        user.setLastLoginAt(now);
+        lastLoginRecorder.record(user.getId(), now);
 
-        return createNewOAuthUser(userInfo, provider);
+        // An unchanged profile only needs its login time, which the recorder batches
+        if (isFalse(linked) || profileChanged) {
+            user.setUpdatedAt(now);
+            return userDao.save(user);
+        }
+        return user;
     }
 
     private User createNewOAuthUser(OAuth2UserInfo userInfo, String provider) {
@@ -144,31 +159,47 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         return userDao.save(newUser);
     }
 
-    private void updateUserFromOAuth(User user, OAuth2UserInfo userInfo) {
-        if (isNotBlank(userInfo.getFirstName())) {
+    /**
+     * Copy provider profile fields onto the user.
+     *
+     * @return true if any field changed
+     */
+    private boolean updateUserFromOAuth(User user, OAuth2UserInfo userInfo) {
+        boolean changed = false;
+        if (isNotBlank(userInfo.getFirstName()) && isFalse(userInfo.getFirstName().equals(user.getFirstName()))) {
             user.setFirstName(userInfo.getFirstName());
+            changed = true;
         }
-        if (isNotBlank(userInfo.getLastName())) {
+        if (isNotBlank(userInfo.getLastName()) && isFalse(userInfo.getLastName().equals(user.getLastName()))) {
             user.setLastName(userInfo.getLastName());
+            changed = true;
         }
-        if (isNotBlank(userInfo.getImageUrl())) {
+        if (isNotBlank(userInfo.getImageUrl()) && isFalse(userInfo.getImageUrl().equals(user.getProfileImageUrl()))) {
             user.setProfileImageUrl(userInfo.getImageUrl());
+            changed = true;
         }
-        user.setLastLoginAt(LocalDateTime.now());
-        user.setUpdatedAt(LocalDateTime.now());
+        return changed;
     }
 
+    /**
+     * The base username if free, otherwise the base with a random numeric suffix.
+     * All candidates are checked in one query; random suffixes keep concurrent sign-ups with the
+     * same name from racing for the same sequential number.
+     */
     private String generateUniqueUsername(OAuth2UserInfo userInfo) {
         String baseUsername = extractBaseUsername(userInfo);
-        String username = baseUsername;
-        int counter = 1;
 
-        while (isTrue(userDao.existsByUsername(username))) {
-            username = baseUsername + counter;
-            counter++;
+        Set<String> candidates = new LinkedHashSet<>();
+        candidates.add(baseUsername);
+        while (candidates.size() <= OAUTH_USERNAME_SUFFIXED_CANDIDATES) {
+            candidates.add(baseUsername + ThreadLocalRandom.current().nextInt(OAUTH_USERNAME_SUFFIX_BOUND));
         }
 
-        return username;
+        Set<String> taken = userDao.findExistingUsernames(candidates);
+        return candidates.stream()
+                .filter(candidate -> isFalse(taken.contains(candidate)))
+                .findFirst()
+                .orElseGet(() -> OAUTH_USERNAME_FALLBACK_PREFIX + new ObjectId().toHexString());
     }
 
     private String extractBaseUsername(OAuth2UserInfo userInfo) {
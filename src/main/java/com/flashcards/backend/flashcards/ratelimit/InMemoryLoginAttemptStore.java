@@ -0,0 +1,76 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import com.flashcards.backend.flashcards.config.BruteForceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Default single-instance store. Updates run inside ConcurrentHashMap.compute, so they are atomic
+ * per key and a check costs one map lookup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auth.brute-force", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private final BruteForceProperties bruteForceProperties;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, LoginAttemptWindow> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<LoginAttemptWindow> find(String key) {
+        return Optional.ofNullable(windows.get(key));
+    }
+
+    @Override
+    public LoginAttemptWindow update(String key, UnaryOperator<LoginAttemptWindow> change, long retentionMs) {
+        long now = clock.millis();
+        return windows.compute(key, (k, current) -> change.apply(nonNull(current) ? current : LoginAttemptWindow.empty(now)));
+    }
+
+    @Override
+    public LoginAttemptWindow reserve(String key, long now, int maxFailures, long retentionMs) {
+        AtomicReference<LoginAttemptWindow> previous = new AtomicReference<>();
+        windows.compute(key, (k, current) -> {
+            previous.set(nonNull(current) ? current : LoginAttemptWindow.empty(now));
+            return previous.get().reserve(now, bruteForceProperties.getWindowMs(), maxFailures,
+                    bruteForceProperties.getBaseLockoutMs(), bruteForceProperties.getMaxLockoutMs());
+        });
+        return previous.get();
+    }
+
+    @Override
+    public void delete(String key) {
+        windows.remove(key);
+    }
+
+    /**
+     * Drop windows with no recent failures and no lockout; they are indistinguishable from new ones.
+     */
+    @Scheduled(fixedDelayString = "${auth.brute-force.eviction-interval-ms:300000}")
+    public void evictIdleWindows() {
+        long now = clock.millis();
+        long windowMs = bruteForceProperties.getWindowMs();
+        int before = windows.size();
+
+        windows.forEach((key, window) -> {
+            if (window.isIdle(now, windowMs)) {
+                windows.remove(key, window);
+            }
+        });
+
+        log.debug("Evicted {} idle login attempt windows", before - windows.size());
+    }
+}
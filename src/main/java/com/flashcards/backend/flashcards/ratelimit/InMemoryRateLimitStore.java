@@ -0,0 +1,69 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.RATE_LIMIT_REFILL_PERIOD_MS;
+
+/**
+ * Default single-instance store. Each bucket is an AtomicReference updated with a CAS loop,
+ * so concurrent requests for the same user never block each other.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ai.rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final AIConfigProperties aiProperties;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, AtomicReference<TokenBucket>> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public RateLimitResult tryConsume(String key, int cost, int capacity, long refillPeriodMs) {
+        long now = clock.millis();
+        AtomicReference<TokenBucket> bucketRef = buckets.computeIfAbsent(
+                key, k -> new AtomicReference<>(TokenBucket.full(capacity, now)));
+
+        while (true) {
+            TokenBucket current = bucketRef.get();
+            TokenBucket refilled = current.refill(now, capacity, refillPeriodMs);
+
+            if (!refilled.canTake(cost)) {
+                return RateLimitResult.denied(
+                        (long) refilled.tokens(), refilled.retryAfterSeconds(cost, capacity, refillPeriodMs));
+            }
+
+            TokenBucket next = refilled.take(cost);
+            if (bucketRef.compareAndSet(current, next)) {
+                return RateLimitResult.allowed((long) next.tokens());
+            }
+        }
+    }
+
+    /**
+     * Drop buckets that have refilled completely; they are indistinguishable from new ones.
+     */
+    @Scheduled(fixedDelayString = "${ai.rate-limit.eviction-interval-ms:300000}")
+    public void evictIdleBuckets() {
+        int capacity = aiProperties.getLimits().getRateLimitPerMinute();
+        long now = clock.millis();
+        int before = buckets.size();
+
+        buckets.forEach((key, bucketRef) -> {
+            if (bucketRef.get().refill(now, capacity, RATE_LIMIT_REFILL_PERIOD_MS).isFull(capacity)) {
+                buckets.remove(key, bucketRef);
+            }
+        });
+
+        log.debug("Evicted {} idle rate limit buckets", before - buckets.size());
+    }
+}
@@ -0,0 +1,42 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Storage abstraction for failed-login windows.
+ * Implementations must apply updates atomically per key.
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * Current state of the key, if any failures were recorded.
+     */
+    Optional<LoginAttemptWindow> find(String key);
+
+    /**
+     * Atomically replace the state of the key.
+     *
+     * @param key Attempt key (account or client address)
+     * @param change Applied to the current state, or to an empty window for a new key
+     * @param retentionMs How long the state must be kept after this update
+     * @return The stored state
+     */
+    LoginAttemptWindow update(String key, UnaryOperator<LoginAttemptWindow> change, long retentionMs);
+
+    /**
+     * Count an attempt against the key unless it is locked (see {@link LoginAttemptWindow#reserve}), as a
+     * single atomic step so that concurrent attempts cannot all pass the lock check.
+     *
+     * @param key Attempt key (account or client address)
+     * @param now Time of the attempt in epoch millis
+     * @param maxFailures Failures within the window that lock the key
+     * @param retentionMs How long the state must be kept after this update
+     * @return The state before the reservation, or an empty window for a new key
+     * @throws com.flashcards.backend.flashcards.exception.ServiceException with AUTH_TOO_MANY_ATTEMPTS if the
+     *         reservation could not be made
+     */
+    LoginAttemptWindow reserve(String key, long now, int maxFailures, long retentionMs);
+
+    void delete(String key);
+}
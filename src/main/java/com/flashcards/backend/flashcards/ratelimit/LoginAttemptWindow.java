@@ -0,0 +1,91 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+/**
+ * Immutable failed-login state shared by all store implementations.
+ * Failures are counted with a sliding window approximated from the current and previous fixed
+ * windows. Reaching the limit locks the key; each further lockout while failures continue doubles
+ * its length up to the maximum. The lockout count resets once the key has been quiet for two windows.
+ *
+ * @param windowStart start of the current fixed window
+ * @param currentCount failures in the current window
+ * @param previousCount failures in the previous window
+ * @param lockouts lockouts since the key was last quiet
+ * @param lockedUntil epoch millis until which attempts are rejected
+ */
+public record LoginAttemptWindow(long windowStart, int currentCount, int previousCount, int lockouts, long lockedUntil) {
+
+    public static LoginAttemptWindow empty(long now) {
+        return new LoginAttemptWindow(now, 0, 0, 0, 0);
+    }
+
+    public LoginAttemptWindow roll(long now, long windowMs) {
+        long elapsed = now - windowStart;
+        if (elapsed < windowMs) {
+            return this;
+        }
+        if (elapsed < 2 * windowMs) {
+            return new LoginAttemptWindow(windowStart + windowMs, 0, currentCount, lockouts, lockedUntil);
+        }
+        return new LoginAttemptWindow(now, 0, 0, isLocked(now) ? lockouts : 0, lockedUntil);
+    }
+
+    public double failures(long now, long windowMs) {
+        LoginAttemptWindow rolled = roll(now, windowMs);
+        double previousWeight = 1.0 - (double) (now - rolled.windowStart) / windowMs;
+        return rolled.currentCount + rolled.previousCount * Math.max(0.0, previousWeight);
+    }
+
+    public LoginAttemptWindow recordFailure(long now, long windowMs, int maxFailures, long baseLockoutMs, long maxLockoutMs) {
+        LoginAttemptWindow rolled = roll(now, windowMs);
+        LoginAttemptWindow next = new LoginAttemptWindow(
+                rolled.windowStart, rolled.currentCount + 1, rolled.previousCount, rolled.lockouts, rolled.lockedUntil);
+        if (next.failures(now, windowMs) < maxFailures) {
+            return next;
+        }
+
+        int lockouts = next.lockouts + 1;
+        long lockoutMs = Math.min(maxLockoutMs, baseLockoutMs << Math.min(lockouts - 1, 30));
+        return new LoginAttemptWindow(next.windowStart, next.currentCount, next.previousCount, lockouts, now + lockoutMs);
+    }
+
+    /**
+     * Count an attempt in advance, unless the key is locked in which case it is left unchanged.
+     */
+    public LoginAttemptWindow reserve(long now, long windowMs, int maxFailures, long baseLockoutMs, long maxLockoutMs) {
+        return isLocked(now) ? this : recordFailure(now, windowMs, maxFailures, baseLockoutMs, maxLockoutMs);
+    }
+
+    /**
+     * Give back an attempt counted in advance that turned out not to be a failure, and the lockout
+     * it triggered if any.
+     */
+    public LoginAttemptWindow release(long now, long windowMs, boolean undoLockout) {
+        LoginAttemptWindow rolled = roll(now, windowMs);
+        int current = rolled.currentCount;
+        int previous = rolled.previousCount;
+        if (current > 0) {
+            current--;
+        } else if (previous > 0) {
+            previous--;
+        }
+        return undoLockout
+                ? new LoginAttemptWindow(rolled.windowStart, current, previous, Math.max(0, rolled.lockouts - 1), 0)
+                : new LoginAttemptWindow(rolled.windowStart, current, previous, rolled.lockouts, rolled.lockedUntil);
+    }
+
+    public boolean isLocked(long now) {
+        return lockedUntil > now;
+    }
+
+    public long retryAfterSeconds(long now) {
+        return Math.max(1, (long) Math.ceil((lockedUntil - now) / 1000.0));
+    }
+
+    /**
+     * No failures left in the window and not locked, so indistinguishable from a new key.
+     */
+    public boolean isIdle(long now, long windowMs) {
+        LoginAttemptWindow rolled = roll(now, windowMs);
+        return !isLocked(now) && rolled.currentCount == 0 && rolled.previousCount == 0 && rolled.lockouts == 0;
+    }
+}
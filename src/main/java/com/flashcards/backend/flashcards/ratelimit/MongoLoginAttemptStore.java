@@ -0,0 +1,225 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import com.flashcards.backend.flashcards.config.BruteForceProperties;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.model.LoginAttempt;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.RATE_LIMIT_MAX_CAS_ATTEMPTS;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.LOGIN_ATTEMPT_CONTENDED_RETRY_SECONDS;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOO_MANY_ATTEMPTS;
+import static java.util.Objects.isNull;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Distributed store shared by all instances, so an attacker cannot spread guesses across nodes.
+ * Reservations run as one findAndModify with an update pipeline that mirrors
+ * {@link LoginAttemptWindow#reserve}; other updates use an optimistic version check. Fails open if
+ * Mongo is unreachable so sign-in never depends on this store being available, but a reservation
+ * that cannot be made against a reachable store is rejected.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auth.brute-force", name = "store", havingValue = "mongo")
+public class MongoLoginAttemptStore implements LoginAttemptStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final BruteForceProperties bruteForceProperties;
+    private final Clock clock;
+
+    @Override
+    public Optional<LoginAttemptWindow> find(String key) {
+        try {
+            return Optional.ofNullable(mongoTemplate.findById(key, LoginAttempt.class)).map(this::toWindow);
+        } catch (Exception e) {
+            log.warn("Login attempt store unavailable, allowing attempt for {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public LoginAttemptWindow update(String key, UnaryOperator<LoginAttemptWindow> change, long retentionMs) {
+        long now = clock.millis();
+        try {
+            for (int attempt = 0; attempt < RATE_LIMIT_MAX_CAS_ATTEMPTS; attempt++) {
+                LoginAttempt stored = mongoTemplate.findById(key, LoginAttempt.class);
+                LoginAttemptWindow next = change.apply(isNull(stored) ? LoginAttemptWindow.empty(now) : toWindow(stored));
+                Date expiresAt = new Date(Math.max(now + retentionMs, next.lockedUntil()));
+
+                if (isNull(stored)) {
+                    if (insert(key, next, expiresAt)) {
+                        return next;
+                    }
+                    continue;
+                }
+
+                UpdateResult result = mongoTemplate.updateFirst(
+                        Query.query(where("_id").is(key).and("version").is(stored.getVersion())),
+                        new Update()
+                                .set("windowStart", next.windowStart())
+                                .set("currentCount", next.currentCount())
+                                .set("previousCount", next.previousCount())
+                                .set("lockouts", next.lockouts())
+                                .set("lockedUntil", next.lockedUntil())
+                                .set("expiresAt", expiresAt)
+                                .inc("version", 1),
+                        LoginAttempt.class);
+
+                if (result.getModifiedCount() == 1) {
+                    return next;
+                }
+            }
+            log.warn("Login attempt window {} is highly contended, skipping update", key);
+        } catch (Exception e) {
+            log.warn("Login attempt store unavailable, not recording attempt for {}: {}", key, e.getMessage());
+        }
+        return LoginAttemptWindow.empty(now);
+    }
+
+    @Override
+    public LoginAttemptWindow reserve(String key, long now, int maxFailures, long retentionMs) {
+        AggregationUpdate reservation = reservation(now, maxFailures, retentionMs);
+        try {
+            for (int attempt = 0; attempt < RATE_LIMIT_MAX_CAS_ATTEMPTS; attempt++) {
+                try {
+                    LoginAttempt previous = mongoTemplate.findAndModify(
+                            Query.query(where("_id").is(key)),
+                            reservation,
+                            FindAndModifyOptions.options().upsert(true).returnNew(false),
+                            LoginAttempt.class);
+                    return isNull(previous) ? LoginAttemptWindow.empty(now) : toWindow(previous);
+                } catch (DuplicateKeyException e) {
+                    // Concurrent first reservations of a key raced to insert it; the retry updates the winner's document
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Login attempt store unavailable, allowing attempt for {}: {}", key, e.getMessage());
+            return LoginAttemptWindow.empty(now);
+        }
+        log.warn("Login attempt window {} is highly contended, rejecting attempt", key);
+        throw new ServiceException(AUTH_TOO_MANY_ATTEMPTS.formatted(LOGIN_ATTEMPT_CONTENDED_RETRY_SECONDS),
+                ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            mongoTemplate.remove(Query.query(where("_id").is(key)), LoginAttempt.class);
+        } catch (Exception e) {
+            log.warn("Failed to clear login attempts for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private LoginAttemptWindow toWindow(LoginAttempt stored) {
+        return new LoginAttemptWindow(stored.getWindowStart(), stored.getCurrentCount(), stored.getPreviousCount(),
+                stored.getLockouts(), stored.getLockedUntil());
+    }
+
+    /**
+     * Update pipeline applying {@link LoginAttemptWindow#reserve} to the stored window, or to an empty
+     * one for a new key: roll the window, count the attempt and lock the key once it reaches the limit,
+     * all skipped while the key is locked. Temporary fields carry values between stages.
+     */
+    private AggregationUpdate reservation(long now, int maxFailures, long retentionMs) {
+        long windowMs = bruteForceProperties.getWindowMs();
+        Document elapsedUnderOneWindow = new Document("$lt", List.of("$elapsed", windowMs));
+        Document elapsedUnderTwoWindows = new Document("$lt", List.of("$elapsed", 2 * windowMs));
+        Document previousWeight = new Document("$max", List.of(0, new Document("$subtract", List.of(1,
+                new Document("$divide", List.of(new Document("$subtract", List.of(now, "$windowStart")), windowMs))))));
+
+        return AggregationUpdate.from(List.of(
+                stage("$set", new Document()
+                        .append("windowStart", new Document("$ifNull", List.of("$windowStart", now)))
+                        .append("currentCount", new Document("$ifNull", List.of("$currentCount", 0)))
+                        .append("previousCount", new Document("$ifNull", List.of("$previousCount", 0)))
+                        .append("lockouts", new Document("$ifNull", List.of("$lockouts", 0)))
+                        .append("lockedUntil", new Document("$ifNull", List.of("$lockedUntil", 0L)))
+                        .append("version", new Document("$ifNull", List.of("$version", 0L)))),
+                stage("$set", new Document()
+                        .append("locked", new Document("$gt", List.of("$lockedUntil", now)))
+                        .append("elapsed", new Document("$subtract", List.of(now, "$windowStart")))),
+                // Roll the window and count the attempt
+                stage("$set", new Document()
+                        .append("windowStart", unlessLocked("$windowStart", new Document("$switch", new Document()
+                                .append("branches", List.of(
+                                        new Document("case", elapsedUnderOneWindow).append("then", "$windowStart"),
+                                        new Document("case", elapsedUnderTwoWindows)
+                                                .append("then", new Document("$add", List.of("$windowStart", windowMs)))))
+                                .append("default", now))))
+                        .append("previousCount", unlessLocked("$previousCount", new Document("$switch", new Document()
+                                .append("branches", List.of(
+                                        new Document("case", elapsedUnderOneWindow).append("then", "$previousCount"),
+                                        new Document("case", elapsedUnderTwoWindows).append("then", "$currentCount")))
+                                .append("default", 0))))
+                        .append("currentCount", unlessLocked("$currentCount", new Document("$add", List.of(
+                                new Document("$cond", List.of(elapsedUnderOneWindow, "$currentCount", 0)), 1))))
+                        .append("lockouts", unlessLocked("$lockouts",
+                                new Document("$cond", List.of(elapsedUnderTwoWindows, "$lockouts", 0))))),
+                stage("$set", new Document("lockout", new Document("$and", List.of(
+                        new Document("$not", List.of("$locked")),
+                        new Document("$gte", List.of(new Document("$add", List.of("$currentCount",
+                                new Document("$multiply", List.of("$previousCount", previousWeight)))), maxFailures)))))),
+                // Lock for the base lockout doubled per earlier lockout, up to the maximum
+                stage("$set", new Document()
+                        .append("lockouts", new Document("$cond", List.of(
+                                "$lockout", new Document("$add", List.of("$lockouts", 1)), "$lockouts")))
+                        .append("lockedUntil", new Document("$cond", List.of("$lockout",
+                                new Document("$add", List.of(now, new Document("$min", List.of(
+                                        bruteForceProperties.getMaxLockoutMs(),
+                                        new Document("$multiply", List.of(bruteForceProperties.getBaseLockoutMs(),
+                                                new Document("$pow", List.of(2, new Document("$min", List.of("$lockouts", 30)))))))))),
+                                "$lockedUntil")))),
+                stage("$set", new Document()
+                        .append("expiresAt", new Document("$toDate",
+                                new Document("$max", List.of(now + retentionMs, "$lockedUntil"))))
+                        .append("version", new Document("$add", List.of("$version", 1)))),
+                stage("$unset", List.of("locked", "elapsed", "lockout"))));
+    }
+
+    private static Document unlessLocked(String field, Document whenUnlocked) {
+        return new Document("$cond", List.of("$locked", field, whenUnlocked));
+    }
+
+    private static AggregationOperation stage(String operator, Object specification) {
+        Document stage = new Document(operator, specification);
+        return context -> stage;
+    }
+
+    private boolean insert(String key, LoginAttemptWindow window, Date expiresAt) {
+        try {
+            mongoTemplate.insert(LoginAttempt.builder()
+                    .id(key)
+                    .windowStart(window.windowStart())
+                    .currentCount(window.currentCount())
+                    .previousCount(window.previousCount())
+                    .lockouts(window.lockouts())
+                    .lockedUntil(window.lockedUntil())
+                    .version(0)
+                    .expiresAt(expiresAt)
+                    .build());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
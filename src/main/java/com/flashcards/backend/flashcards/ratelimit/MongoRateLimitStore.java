@@ -0,0 +1,97 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import com.flashcards.backend.flashcards.model.RateLimitBucket;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Date;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.RATE_LIMIT_MAX_CAS_ATTEMPTS;
+import static java.util.Objects.isNull;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Distributed store shared by all instances. Buckets are updated with an optimistic
+ * version check so concurrent consumers on different nodes cannot double-spend tokens.
+ * Fails open if Mongo is unreachable so rate limiting never takes the API down.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ai.rate-limit", name = "store", havingValue = "mongo")
+public class MongoRateLimitStore implements RateLimitStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+
+    @Override
+    public RateLimitResult tryConsume(String key, int cost, int capacity, long refillPeriodMs) {
+        try {
+            for (int attempt = 0; attempt < RATE_LIMIT_MAX_CAS_ATTEMPTS; attempt++) {
+                long now = clock.millis();
+                RateLimitBucket stored = mongoTemplate.findById(key, RateLimitBucket.class);
+
+                TokenBucket refilled = isNull(stored)
+                        ? TokenBucket.full(capacity, now)
+                        : new TokenBucket(stored.getTokens(), stored.getLastRefillAt()).refill(now, capacity, refillPeriodMs);
+
+                if (!refilled.canTake(cost)) {
+                    return RateLimitResult.denied(
+                            (long) refilled.tokens(), refilled.retryAfterSeconds(cost, capacity, refillPeriodMs));
+                }
+
+                TokenBucket next = refilled.take(cost);
+                Date expiresAt = new Date(now + refillPeriodMs);
+
+                if (isNull(stored)) {
+                    if (insert(key, next, expiresAt)) {
+                        return RateLimitResult.allowed((long) next.tokens());
+                    }
+                    continue;
+                }
+
+                UpdateResult result = mongoTemplate.updateFirst(
+                        Query.query(where("_id").is(key).and("version").is(stored.getVersion())),
+                        new Update()
+                                .set("tokens", next.tokens())
+                                .set("lastRefillAt", next.lastRefillAt())
+                                .set("expiresAt", expiresAt)
+                                .inc("version", 1),
+                        RateLimitBucket.class);
+
+                if (result.getModifiedCount() == 1) {
+                    return RateLimitResult.allowed((long) next.tokens());
+                }
+            }
+
+            log.warn("Rate limit bucket {} is highly contended, rejecting request", key);
+            return RateLimitResult.denied(0, 1);
+        } catch (Exception e) {
+            log.warn("Rate limit store unavailable, allowing request for {}: {}", key, e.getMessage());
+            return RateLimitResult.allowed(capacity);
+        }
+    }
+
+    private boolean insert(String key, TokenBucket bucket, Date expiresAt) {
+        try {
+            mongoTemplate.insert(RateLimitBucket.builder()
+                    .id(key)
+                    .tokens(bucket.tokens())
+                    .lastRefillAt(bucket.lastRefillAt())
+                    .version(0)
+                    .expiresAt(expiresAt)
+                    .build());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.RATE_LIMIT_HEADER_LIMIT;
+import static com.flashcards.backend.flashcards.constants.AIConstants.RATE_LIMIT_HEADER_REMAINING;
+import static com.flashcards.backend.flashcards.constants.AIConstants.RATE_LIMIT_KEY_IP_PREFIX;
+import static com.flashcards.backend.flashcards.constants.AIConstants.RATE_LIMIT_KEY_USER_PREFIX;
+import static com.flashcards.backend.flashcards.constants.AIConstants.RATE_LIMIT_REFILL_PERIOD_MS;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_RATE_LIMIT_EXCEEDED;
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+
+/**
+ * Per-user token bucket limiter for AI and audio endpoints.
+ * Capacity is ai.limits.rate-limit-per-minute; expensive operations consume more tokens
+ * according to ai.rate-limit.operation-costs (Ant path pattern to token cost).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimitStore rateLimitStore;
+    private final AIConfigProperties aiProperties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isFalse(aiProperties.getRateLimit().isEnabled())
+                || HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+
+        int capacity = aiProperties.getLimits().getRateLimitPerMinute();
+        int cost = Math.min(resolveCost(request.getRequestURI()), capacity);
+        String key = resolveKey(request);
+
+        RateLimitResult result = rateLimitStore.tryConsume(key, cost, capacity, RATE_LIMIT_REFILL_PERIOD_MS);
+
+        response.setHeader(RATE_LIMIT_HEADER_LIMIT, String.valueOf(capacity));
+        response.setHeader(RATE_LIMIT_HEADER_REMAINING, String.valueOf(result.remaining()));
+
+        if (result.allowed()) {
+            return true;
+        }
+
+        log.warn("Rate limit exceeded for {} on {} (cost {}), retry after {}s",
+                key, request.getRequestURI(), cost, result.retryAfterSeconds());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(result.retryAfterSeconds()));
+        throw new ServiceException(
+                AI_RATE_LIMIT_EXCEEDED.formatted(result.retryAfterSeconds()),
+                ErrorCode.SERVICE_AI_RATE_LIMIT_EXCEEDED
+        );
+    }
+
+    private int resolveCost(String path) {
+        for (Map.Entry<String, Integer> entry : aiProperties.getRateLimit().getOperationCosts().entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                return Math.max(1, entry.getValue());
+            }
+        }
+        return Math.max(1, aiProperties.getRateLimit().getDefaultCost());
+    }
+
+    private String resolveKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (isNull(authentication) || isFalse(authentication.isAuthenticated()) || isNull(authentication.getName())) {
+            return RATE_LIMIT_KEY_IP_PREFIX + request.getRemoteAddr();
+        }
+        return RATE_LIMIT_KEY_USER_PREFIX + authentication.getName();
+    }
+}
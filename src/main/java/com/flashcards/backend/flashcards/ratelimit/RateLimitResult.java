@@ -0,0 +1,19 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+/**
+ * Outcome of a token bucket consume attempt.
+ *
+ * @param allowed whether the request may proceed
+ * @param remaining whole tokens left in the bucket after the attempt
+ * @param retryAfterSeconds seconds until enough tokens are available (0 when allowed)
+ */
+public record RateLimitResult(boolean allowed, long remaining, long retryAfterSeconds) {
+
+    public static RateLimitResult allowed(long remaining) {
+        return new RateLimitResult(true, remaining, 0);
+    }
+
+    public static RateLimitResult denied(long remaining, long retryAfterSeconds) {
+        return new RateLimitResult(false, remaining, retryAfterSeconds);
+    }
+}
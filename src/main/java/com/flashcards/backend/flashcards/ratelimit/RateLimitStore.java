@@ -0,0 +1,19 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+/**
+ * Storage abstraction for per-key token buckets.
+ * Implementations must make consume attempts atomic per key.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Try to take {@code cost} tokens from the bucket identified by {@code key}.
+     *
+     * @param key Bucket key (user or client address)
+     * @param cost Tokens required by the request
+     * @param capacity Bucket capacity, also the number of tokens refilled per period
+     * @param refillPeriodMs Time to refill an empty bucket in milliseconds
+     * @return The consume result including remaining tokens and retry delay
+     */
+    RateLimitResult tryConsume(String key, int cost, int capacity, long refillPeriodMs);
+}
@@ -0,0 +1,36 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+/**
+ * Immutable token bucket state shared by all store implementations.
+ * Tokens refill continuously at capacity / refillPeriodMs.
+ */
+public record TokenBucket(double tokens, long lastRefillAt) {
+
+    public static TokenBucket full(int capacity, long now) {
+        return new TokenBucket(capacity, now);
+    }
+
+    public TokenBucket refill(long now, int capacity, long refillPeriodMs) {
+        long elapsed = Math.max(0, now - lastRefillAt);
+        double refilled = Math.min(capacity, tokens + elapsed * ((double) capacity / refillPeriodMs));
+        return new TokenBucket(refilled, Math.max(now, lastRefillAt));
+    }
+
+    public TokenBucket take(int cost) {
+        return new TokenBucket(tokens - cost, lastRefillAt);
+    }
+
+    public boolean canTake(int cost) {
+        return tokens >= cost;
+    }
+
+    public long retryAfterSeconds(int cost, int capacity, long refillPeriodMs) {
+        double missing = cost - tokens;
+        double millis = missing * refillPeriodMs / capacity;
+        return Math.max(1, (long) Math.ceil(millis / 1000.0));
+    }
+
+    public boolean isFull(int capacity) {
+        return tokens >= capacity;
+    }
+}
@@ -0,0 +1,12 @@
+package com.flashcards.backend.flashcards.repository;
+
+import com.flashcards.backend.flashcards.model.AIJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AIJobRepository extends MongoRepository<AIJob, String> {
+    Optional<AIJob> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey);
+}
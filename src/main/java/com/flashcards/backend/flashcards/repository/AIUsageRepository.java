@@ -0,0 +1,15 @@
+package com.flashcards.backend.flashcards.repository;
+
+import com.flashcards.backend.flashcards.model.AIUsage;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AIUsageRepository extends MongoRepository<AIUsage, String> {
+    List<AIUsage> findByUserId(String userId);
+    List<AIUsage> findByPeriodStartAfter(LocalDateTime since);
+    List<AIUsage> findByUserIdAndPeriodStartAfter(String userId, LocalDateTime since);
+}
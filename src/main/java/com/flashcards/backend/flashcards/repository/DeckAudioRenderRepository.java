@@ -0,0 +1,9 @@
+package com.flashcards.backend.flashcards.repository;
+
+import com.flashcards.backend.flashcards.model.DeckAudioRender;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeckAudioRenderRepository extends MongoRepository<DeckAudioRender, String> {
+}
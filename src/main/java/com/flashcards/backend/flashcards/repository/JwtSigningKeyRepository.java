@@ -0,0 +1,12 @@
+package com.flashcards.backend.flashcards.repository;
+
+import com.flashcards.backend.flashcards.model.JwtSigningKey;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JwtSigningKeyRepository extends MongoRepository<JwtSigningKey, String> {
+    List<JwtSigningKey> findAllByOrderByCreatedAtDesc();
+}
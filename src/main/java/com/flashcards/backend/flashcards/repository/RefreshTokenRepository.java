@@ -0,0 +1,11 @@
+package com.flashcards.backend.flashcards.repository;
+
+import com.flashcards.backend.flashcards.model.RefreshToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RefreshTokenRepository extends MongoRepository<RefreshToken, String> {
+    void deleteByFamilyId(String familyId);
+    void deleteByUserId(String userId);
+}
@@ -12,9 +12,11 @@ import java.util.Optional;
 public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+    List<User> findByUsernameOrEmail(String username, String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     Optional<User> findByOauthProviderAndOauthId(String oauthProvider, String oauthId);
+    List<User> findByOauthProviderAndOauthIdOrEmail(String oauthProvider, String oauthId, String email);
     List<User> findByRolesContaining(Role role);
     long countByRolesContaining(Role role);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.flashcards.backend.flashcards.security;
 
 import com.flashcards.backend.flashcards.service.JwtService;
+import com.flashcards.backend.flashcards.service.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +9,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -16,13 +16,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 import static com.flashcards.backend.flashcards.constants.SecurityConstants.SECURITY_HEADER_AUTHORIZATION;
 import static com.flashcards.backend.flashcards.constants.SecurityConstants.SECURITY_HEADER_BEARER_PREFIX;
 import static com.flashcards.backend.flashcards.constants.SecurityConstants.SECURITY_HEADER_BEARER_PREFIX_LENGTH;
 import static java.util.Objects.isNull;
-import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 @Slf4j
@@ -30,6 +30,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -40,19 +42,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = authHeader.substring(SECURITY_HEADER_BEARER_PREFIX_LENGTH);
 
             try {
-                if (isTrue(jwtService.isTokenValid(token)) && isNull(SecurityContextHolder.getContext().getAuthentication())) {
-                    String userId = jwtService.extractUserId(token);
-                    String username = jwtService.extractUsername(token);
-                    List<String> authorities = jwtService.extractAuthorities(token);
+                // A cache hit skips signature verification; misses are verified once and cached
+                Optional<VerifiedTokenCache.CachedToken> cachedToken = isNull(SecurityContextHolder.getContext().getAuthentication())
+                        ? verifiedTokenCache.get(token)
+                                .or(() -> jwtService.verify(token).map(verified -> verifiedTokenCache.put(token, verified)))
+                        : Optional.empty();
+                cachedToken = cachedToken.filter(cached -> isFalse(tokenRevocationService.isRevoked(cached.token())));
 
-                    if (isNotBlank(userId) && isNotBlank(username)) {
-                        // Convert string authorities to Spring Security GrantedAuthority objects
-                        List<SimpleGrantedAuthority> grantedAuthorities = authorities.stream()
-                                .map(SimpleGrantedAuthority::new)
-                                .collect(Collectors.toList());
+                if (cachedToken.isPresent()) {
+                    String userId = cachedToken.get().token().userId();
+                    String username = cachedToken.get().token().username();
+                    List<String> authorities = cachedToken.get().token().authorities();
 
+                    if (isNotBlank(userId) && isNotBlank(username)) {
+                        // A new token object per request, since the details below are request-specific
                         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                                userId, null, grantedAuthorities
+                                userId, null, cachedToken.get().grantedAuthorities()
                         );
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -0,0 +1,38 @@
+package com.flashcards.backend.flashcards.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_COST_OFFSET;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * BCrypt encoder that asks for a rehash when a stored hash was made with a lower cost, so a raised
+ * cost is rolled out on the next login of each user. Hashes with a higher cost are kept: a slower
+ * host or a recalibration must never weaken them. Unlike the parent, a malformed hash is not an error.
+ */
+public class UpgradingBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private final int strength;
+
+    public UpgradingBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (isBlank(encodedPassword) || encodedPassword.length() < BCRYPT_COST_OFFSET + 2) {
+            return false;
+        }
+        try {
+            // $2a$12$... : the two digits after the version prefix are the cost
+            int cost = Integer.parseInt(encodedPassword.substring(BCRYPT_COST_OFFSET, BCRYPT_COST_OFFSET + 2));
+            return cost < strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.flashcards.backend.flashcards.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of an access token whose signature and expiry have been checked.
+ * Produced once per request so callers never re-parse or re-verify the token.
+ */
+public record VerifiedToken(
+        String userId,
+        String username,
+        String email,
+        List<String> authorities,
+        boolean totpEnabled,
+        String tokenId,    // jti; null for tokens issued before it was added
+        Instant issuedAt,
+        Instant expiresAt
+) {
+}
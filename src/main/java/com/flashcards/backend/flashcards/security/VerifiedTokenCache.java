@@ -0,0 +1,133 @@
+package com.flashcards.backend.flashcards.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.flashcards.backend.flashcards.util.HashUtils.sha256Hex;
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+
+/**
+ * Bounded cache of verified access tokens, so repeated requests with the same bearer token skip
+ * signature verification and authority conversion. Keyed by the SHA-256 of the token so raw tokens
+ * are never held in memory. Lookups are lock-free; entries expire with the token, and when the cache
+ * overflows the entries closest to expiry are dropped first. Entries are also dropped for a user
+ * whenever their security state changes.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    /**
+     * A verified token with its authorities already converted for Spring Security.
+     */
+    public record CachedToken(VerifiedToken token, List<SimpleGrantedAuthority> grantedAuthorities) {
+    }
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, CachedToken> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public VerifiedTokenCache(@Value("${jwt.token-cache.max-entries}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Previously verified claims for the token, if cached and not yet expired.
+     */
+    public Optional<CachedToken> get(String token) {
+        String key = sha256Hex(token);
+        CachedToken cached = entries.get(key);
+        if (isNull(cached)) {
+            return Optional.empty();
+        }
+        if (isExpired(cached, Instant.now())) {
+            entries.remove(key, cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached);
+    }
+
+    /**
+     * Cache a freshly verified token, trimming the cache when it is full.
+     */
+    public CachedToken put(String token, VerifiedToken verifiedToken) {
+        List<SimpleGrantedAuthority> grantedAuthorities = verifiedToken.authorities().stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        CachedToken cached = new CachedToken(verifiedToken, grantedAuthorities);
+
+        entries.put(sha256Hex(token), cached);
+        if (entries.size() > maxEntries) {
+            trim();
+        }
+        return cached;
+    }
+
+    /**
+     * Drop a single token, e.g. on logout.
+     */
+    public void evict(String token) {
+        entries.remove(sha256Hex(token));
+    }
+
+    /**
+     * Drop every cached token of a user, e.g. after a TOTP change.
+     */
+    public void evictUser(String userId) {
+        entries.values().removeIf(cached -> Objects.equals(cached.token().userId(), userId));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.token-cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int purged = removeExpired(Instant.now());
+        if (purged > 0) {
+            log.debug("Purged {} expired tokens from the verified token cache", purged);
+        }
+    }
+
+    /**
+     * Bring the cache back under its bound: drop expired entries, then those expiring soonest.
+     * Trims down to 90% of the bound so a full cache is not re-scanned on every insert; only one
+     * thread trims at a time, the others carry on since the cache may briefly exceed its bound.
+     */
+    private void trim() {
+        if (isFalse(trimming.compareAndSet(false, true))) {
+            return;
+        }
+        try {
+            removeExpired(Instant.now());
+            int excess = entries.size() - maxEntries + maxEntries / 10;
+            if (excess > 0) {
+                entries.entrySet().stream()
+                        .sorted(Comparator.comparing(entry -> entry.getValue().token().expiresAt()))
+                        .limit(excess)
+                        .toList()
+                        .forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private int removeExpired(Instant now) {
+        int before = entries.size();
+        entries.values().removeIf(cached -> isExpired(cached, now));
+        return Math.max(0, before - entries.size());
+    }
+
+    private boolean isExpired(CachedToken cached, Instant now) {
+        return isFalse(cached.token().expiresAt().isAfter(now));
+    }
+}
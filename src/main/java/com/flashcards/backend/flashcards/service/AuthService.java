@@ -4,8 +4,10 @@ import com.flashcards.backend.flashcards.dao.UserDao;
 import com.flashcards.backend.flashcards.dto.AuthResponseDto;
 import com.flashcards.backend.flashcards.dto.CreateUserDto;
 import com.flashcards.backend.flashcards.dto.LoginDto;
+import com.flashcards.backend.flashcards.dto.OAuthCodeExchangeDto;
 import com.flashcards.backend.flashcards.dto.RecoveryCodeLoginDto;
 import com.flashcards.backend.flashcards.dto.RecoveryCodesDto;
+import com.flashcards.backend.flashcards.dto.RefreshTokenRequestDto;
 import com.flashcards.backend.flashcards.dto.TotpSetupDto;
 import com.flashcards.backend.flashcards.dto.UserDto;
 import com.flashcards.backend.flashcards.exception.ErrorCode;
@@ -13,15 +15,18 @@ import com.flashcards.backend.flashcards.exception.ServiceException;
 import com.flashcards.backend.flashcards.mapper.UserMapper;
 import com.flashcards.backend.flashcards.model.Role;
 import com.flashcards.backend.flashcards.model.User;
+import com.flashcards.backend.flashcards.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.flashcards.backend.flashcards.constants.AuthConstants.RECOVERY_CODE_INSTRUCTIONS;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.RECOVERY_CODE_LOW_WARNING;
@@ -31,9 +36,11 @@ import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_ALR
 import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_NOT_ENABLED;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_SETUP_REQUIRED;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_CREDENTIALS_INVALID;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_OAUTH_CODE_INVALID;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_RECOVERY_CODE_INVALID;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_RECOVERY_CODES_EXHAUSTED;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_RECOVERY_CODES_NOT_ENABLED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_REFRESH_TOKEN_INVALID;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOTP_CODE_REQUIRED;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_USER_DISABLED;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.SERVICE_DUPLICATE_EXISTS;
@@ -48,12 +55,21 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @Service
 @RequiredArgsConstructor
 public class AuthService {
+    private static final Set<ErrorCode> FAILED_ATTEMPT_ERROR_CODES = EnumSet.of(
+            ErrorCode.AUTH_INVALID_CREDENTIALS, ErrorCode.AUTH_TOTP_INVALID, ErrorCode.AUTH_RECOVERY_CODE_INVALID);
+
     private final UserDao userDao;
     private final UserMapper userMapper;
     private final PasswordService passwordService;
     private final JwtService jwtService;
     private final TotpService totpService;
     private final RecoveryCodeService recoveryCodeService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenService refreshTokenService;
+    private final OAuthLoginCodeService oAuthLoginCodeService;
+    private final TokenRevocationService tokenRevocationService;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final LoginAttemptService loginAttemptService;
 
     public AuthResponseDto register(CreateUserDto createUserDto) {
         log.debug("Registering new user: {}", createUserDto.getUsername());
@@ -67,30 +83,82 @@ public class AuthService {
         UserDto userDto = userMapper.toDto(savedUser);
 
         log.debug("User registered successfully: {}", savedUser.getUsername());
-        return buildAuthResponse(accessToken, userDto, savedUser.isTotpEnabled());
+        return buildAuthResponse(accessToken, refreshTokenService.issue(savedUser.getId()), userDto, savedUser.isTotpEnabled());
     }
 
     public AuthResponseDto login(LoginDto loginDto) {
         log.debug("Authenticating user: {}", loginDto.getUsernameOrEmail());
 
+        loginAttemptService.checkClient();
         User user = findUserByUsernameOrEmail(loginDto.getUsernameOrEmail());
-        validateUserCredentials(user, loginDto);
-        validateUserAccount(user);
+        LoginAttemptService.Reservation attempt = loginAttemptService.reserve(user.getId());
 
-        if (isTrue(user.isTotpEnabled())) {
-            if (isTrue(isBlank(loginDto.getTotpCode()))) {
-                throw new ServiceException(AUTH_TOTP_CODE_REQUIRED, ErrorCode.AUTH_TOTP_REQUIRED);
+        verifyAttempt(attempt, () -> {
+            validateUserCredentials(user, loginDto);
+            validateUserAccount(user);
+
+            if (isTrue(user.isTotpEnabled())) {
+                if (isTrue(isBlank(loginDto.getTotpCode()))) {
+                    throw new ServiceException(AUTH_TOTP_CODE_REQUIRED, ErrorCode.AUTH_TOTP_REQUIRED);
+                }
+                validateTotpCode(user, loginDto.getTotpCode());
             }
-            validateTotpCode(user, loginDto.getTotpCode());
-        }
+            return user;
+        });
+        loginAttemptService.recordSuccess(attempt);
 
         updateLastLogin(user);
         String accessToken = jwtService.generateToken(user);
         UserDto userDto = userMapper.toDto(user);
 
         log.debug("User authenticated successfully: {}", user.getUsername());
-        return buildAuthResponse(accessToken, userDto, user.isTotpEnabled());
+        return buildAuthResponse(accessToken, refreshTokenService.issue(user.getId()), userDto, user.isTotpEnabled());
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token.
+     */
+    public AuthResponseDto refresh(RefreshTokenRequestDto refreshTokenRequestDto) {
+        RefreshTokenService.RotatedToken rotated = refreshTokenService.rotate(refreshTokenRequestDto.getRefreshToken());
+
+        User user = userDao.findById(rotated.userId())
+                .orElseThrow(() -> new ServiceException(AUTH_REFRESH_TOKEN_INVALID, ErrorCode.AUTH_TOKEN_INVALID));
+        validateUserAccount(user);
+
+        String accessToken = jwtService.generateToken(user);
+        UserDto userDto = userMapper.toDto(user);
+
+        log.debug("Tokens refreshed for user: {}", user.getUsername());
+        return buildAuthResponse(accessToken, rotated.refreshToken(), userDto, user.isTotpEnabled());
+    }
+
+    /**
+     * Start a session for an OAuth2 login by exchanging the one-time code from the success redirect.
+     */
+    public AuthResponseDto exchangeOAuthCode(OAuthCodeExchangeDto oAuthCodeExchangeDto) {
+        String userId = oAuthLoginCodeService.redeem(oAuthCodeExchangeDto.getCode());
+
+        User user = userDao.findById(userId)
+                .orElseThrow(() -> new ServiceException(AUTH_OAUTH_CODE_INVALID, ErrorCode.AUTH_TOKEN_INVALID));
+        validateUserAccount(user);
+
+        String accessToken = jwtService.generateToken(user);
+        UserDto userDto = userMapper.toDto(user);
+
+        log.debug("OAuth2 login code exchanged for user: {}", user.getUsername());
+        return buildAuthResponse(accessToken, refreshTokenService.issue(user.getId()), userDto, user.isTotpEnabled());
+    }
+
+    /**
+     * Revoke the presented access token and end the session of the refresh token, if given.
+     */
+    public void logout(String accessToken, String refreshToken) {
+        jwtService.verify(accessToken).ifPresent(tokenRevocationService::revokeAccessToken);
+        verifiedTokenCache.evict(accessToken);
+        refreshTokenService.revokeSession(refreshToken);
+        log.debug("Session logged out");
     }
+
     private void validateUserDoesNotExist(CreateUserDto createUserDto) {
         if (isTrue(userDao.existsByUsername(createUserDto.getUsername()))) {
             throw new ServiceException(
@@ -128,21 +196,41 @@ public class AuthService {
     }
 
     private User findUserByUsernameOrEmail(String usernameOrEmail) {
-        Optional<User> userOpt = userDao.findByUsername(usernameOrEmail);
-        if (userOpt.isEmpty()) {
-            userOpt = userDao.findByEmail(usernameOrEmail);
+        Optional<User> user = userDao.findByUsernameOrEmail(usernameOrEmail);
+        if (user.isEmpty()) {
+            loginAttemptService.recordFailure(null);
+            throw new ServiceException(AUTH_CREDENTIALS_INVALID, ErrorCode.AUTH_INVALID_CREDENTIALS);
         }
+        return user.get();
+    }
 
-        return userOpt.orElseThrow(() -> new ServiceException(
-                AUTH_CREDENTIALS_INVALID,
-                ErrorCode.AUTH_INVALID_CREDENTIALS
-        ));
+    /**
+     * Run a credential check under a reserved attempt. A wrong password, TOTP code or recovery code
+     * leaves the attempt counted as a failure; any other error gives the reservation back.
+     */
+    private <T> T verifyAttempt(LoginAttemptService.Reservation attempt, Supplier<T> check) {
+        try {
+            return check.get();
+        } catch (ServiceException e) {
+            if (isFalse(FAILED_ATTEMPT_ERROR_CODES.contains(e.getErrorCode()))) {
+                loginAttemptService.release(attempt);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            loginAttemptService.release(attempt);
+            throw e;
+        }
     }
 
     private void validateUserCredentials(User user, LoginDto loginDto) {
         if (isFalse(passwordService.verifyPassword(loginDto.getPassword(), user.getPassword()))) {
             throw new ServiceException(AUTH_CREDENTIALS_INVALID, ErrorCode.AUTH_INVALID_CREDENTIALS);
         }
+        if (passwordService.needsRehash(user.getPassword())) {
+            user.setPassword(passwordService.encryptPassword(loginDto.getPassword()));
+            userDao.updatePassword(user.getId(), user.getPassword());
+            log.debug("Password rehashed with the current cost for user: {}", user.getUsername());
+        }
     }
 
     private void validateUserAccount(User user) {
@@ -153,7 +241,7 @@ public class AuthService {
 
     private void validateTotpCode(User user, String totpCode) {
         if (isNotBlank(user.getTotpSecret())) {
-            totpService.validateTotpCode(user.getTotpSecret(), totpCode);
+            totpService.validateTotpCode(user.getId(), user.getTotpSecret(), totpCode);
             log.debug("TOTP validation successful for user: {}", user.getUsername());
         } else {
             log.warn("TOTP validation attempted but no secret found for user: {}", user.getUsername());
@@ -161,9 +249,13 @@ public class AuthService {
         }
     }
 
+    /**
+     * Queue the last-login write instead of saving the whole user on the login path.
+     */
     private void updateLastLogin(User user) {
-        user.setLastLoginAt(LocalDateTime.now());
-        userDao.save(user);
+        LocalDateTime now = LocalDateTime.now();
+        user.setLastLoginAt(now);
+        lastLoginRecorder.record(user.getId(), now);
     }
 
     public TotpSetupDto setupTotp(String userId) {
@@ -224,17 +316,23 @@ public class AuthService {
             );
         }
 
-        totpService.validateTotpCode(user.getTotpSecret(), totpCode);
+        LoginAttemptService.Reservation attempt = loginAttemptService.reserve(userId);
+        verifyAttempt(attempt, () -> {
+            totpService.validateTotpCode(userId, user.getTotpSecret(), totpCode);
+            return user;
+        });
+        loginAttemptService.recordSuccess(attempt);
 
         user.setTotpEnabled(true);
         user.setUpdatedAt(LocalDateTime.now());
         User savedUser = userDao.save(user);
 
         String accessToken = jwtService.generateToken(savedUser);
+        revokeAllSessions(userId, accessToken);
         UserDto userDto = userMapper.toDto(savedUser);
 
         log.debug("TOTP enabled successfully for user: {}", userId);
-        return buildAuthResponse(accessToken, userDto, true);
+        return buildAuthResponse(accessToken, refreshTokenService.issue(userId), userDto, true);
     }
 
     public AuthResponseDto disableTotp(String userId) {
@@ -259,45 +357,51 @@ public class AuthService {
         User savedUser = userDao.save(user);
 
         String accessToken = jwtService.generateToken(savedUser);
+        revokeAllSessions(userId, accessToken);
         UserDto userDto = userMapper.toDto(savedUser);
 
         log.debug("TOTP disabled successfully for user: {}", userId);
-        return buildAuthResponse(accessToken, userDto, false);
+        return buildAuthResponse(accessToken, refreshTokenService.issue(userId), userDto, false);
     }
 
     public AuthResponseDto loginWithRecoveryCode(RecoveryCodeLoginDto recoveryCodeLoginDto) {
         log.debug("Authenticating user with recovery code: {}", recoveryCodeLoginDto.getUsernameOrEmail());
 
+        loginAttemptService.checkClient();
         User user = findUserByUsernameOrEmail(recoveryCodeLoginDto.getUsernameOrEmail());
-        validateUserCredentials(user, convertToLoginDto(recoveryCodeLoginDto));
-        validateUserAccount(user);
+        LoginAttemptService.Reservation attempt = loginAttemptService.reserve(user.getId());
 
-        if (isFalse(user.isTotpEnabled())) {
-            throw new ServiceException(AUTH_RECOVERY_CODES_NOT_ENABLED, ErrorCode.AUTH_RECOVERY_CODES_NOT_ENABLED);
-        }
+        String usedHash = verifyAttempt(attempt, () -> {
+            validateUserCredentials(user, convertToLoginDto(recoveryCodeLoginDto));
+            validateUserAccount(user);
 
-        if (recoveryCodeService.getRemainingCodesCount(user.getRecoveryCodeHashes()) == 0) {
-            throw new ServiceException(AUTH_RECOVERY_CODES_EXHAUSTED, ErrorCode.AUTH_RECOVERY_CODES_EXHAUSTED);
-        }
+            if (isFalse(user.isTotpEnabled())) {
+                throw new ServiceException(AUTH_RECOVERY_CODES_NOT_ENABLED, ErrorCode.AUTH_RECOVERY_CODES_NOT_ENABLED);
+            }
 
-        if (isFalse(recoveryCodeService.validateRecoveryCode(
-                recoveryCodeLoginDto.getRecoveryCode(), user.getRecoveryCodeHashes()))) {
-            throw new ServiceException(AUTH_RECOVERY_CODE_INVALID, ErrorCode.AUTH_RECOVERY_CODE_INVALID);
-        }
+            if (recoveryCodeService.getRemainingCodesCount(user.getRecoveryCodeHashes()) == 0) {
+                throw new ServiceException(AUTH_RECOVERY_CODES_EXHAUSTED, ErrorCode.AUTH_RECOVERY_CODES_EXHAUSTED);
+            }
+
+            return recoveryCodeService.findMatchingHash(
+                            recoveryCodeLoginDto.getRecoveryCode(), user.getRecoveryCodeHashes())
+                    .orElseThrow(() -> new ServiceException(AUTH_RECOVERY_CODE_INVALID, ErrorCode.AUTH_RECOVERY_CODE_INVALID));
+        });
+        loginAttemptService.recordSuccess(attempt);
 
-        Set<String> updatedCodes = recoveryCodeService.removeUsedCode(
-                recoveryCodeLoginDto.getRecoveryCode(), user.getRecoveryCodeHashes());
+        Set<String> updatedCodes = recoveryCodeService.removeUsedCode(usedHash, user.getRecoveryCodeHashes());
         user.setRecoveryCodeHashes(updatedCodes);
         user.setRecoveryCodesUsedCount(user.getRecoveryCodesUsedCount() + 1);
         user.setUpdatedAt(LocalDateTime.now());
-        updateLastLogin(user);
+        user.setLastLoginAt(LocalDateTime.now());
+        userDao.save(user);
 
         String accessToken = jwtService.generateToken(user);
         UserDto userDto = userMapper.toDto(user);
 
         log.debug("User authenticated successfully with recovery code: {} (remaining codes: {})",
                 user.getUsername(), recoveryCodeService.getRemainingCodesCount(updatedCodes));
-        return buildAuthResponse(accessToken, userDto, user.isTotpEnabled());
+        return buildAuthResponse(accessToken, refreshTokenService.issue(user.getId()), userDto, user.isTotpEnabled());
     }
 
     public RecoveryCodesDto regenerateRecoveryCodes(String userId) {
@@ -364,11 +468,23 @@ public class AuthService {
                 .build();
     }
 
-    private AuthResponseDto buildAuthResponse(String accessToken, UserDto userDto, boolean totpEnabled) {
+    /**
+     * Sign out every session of a user: existing refresh tokens stop working and access tokens
+     * issued so far are rejected, apart from the replacement access token handed to the caller.
+     */
+    private void revokeAllSessions(String userId, String replacementAccessToken) {
+        refreshTokenService.revokeAllForUser(userId);
+        tokenRevocationService.revokeUser(userId, jwtService.extractTokenId(replacementAccessToken));
+        verifiedTokenCache.evictUser(userId);
+    }
+
+    private AuthResponseDto buildAuthResponse(String accessToken, String refreshToken, UserDto userDto, boolean totpEnabled) {
         return AuthResponseDto.builder()
                 .accessToken(accessToken)
                 .tokenType(JWT_TOKEN_TYPE)
                 .expiresIn(jwtService.getExpirationMs() / 1000)
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getExpirationMs() / 1000)
                 .user(userDto)
                 .totpEnabled(totpEnabled)
                 .build();
@@ -1,5 +1,6 @@
 package com.flashcards.backend.flashcards.service;
 
+import com.flashcards.backend.flashcards.dao.DeckAudioRenderDao;
 import com.flashcards.backend.flashcards.dao.DeckDao;
 import com.flashcards.backend.flashcards.dao.UserDao;
 import com.flashcards.backend.flashcards.dto.CreateDeckDto;
@@ -29,6 +30,7 @@ import static com.flashcards.backend.flashcards.constants.ErrorMessages.SERVICE_
 @Transactional
 public class DeckService {
     private final DeckDao deckDao;
+    private final DeckAudioRenderDao deckAudioRenderDao;
     private final UserDao userDao;
     private final DeckMapper deckMapper;
 
@@ -121,6 +123,7 @@ public class DeckService {
                     ));
 
             deckDao.deleteById(id);
+            deckAudioRenderDao.deleteByDeckId(id);
             return null;
         }, () -> SERVICE_OPERATION_FAILED.formatted("delete", ENTITY_DECK));
     }
@@ -0,0 +1,315 @@
+package com.flashcards.backend.flashcards.service;
+
+import com.flashcards.backend.flashcards.dao.JwtSigningKeyDao;
+import com.flashcards.backend.flashcards.dto.JwkDto;
+import com.flashcards.backend.flashcards.dto.JwksDto;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.model.JwtSigningKey;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.jasypt.encryption.StringEncryptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_SIGNING_ALGORITHM_UNSUPPORTED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_SIGNING_KEY_LOAD_FAILED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_SIGNING_KEY_UNKNOWN;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWK_CURVE_ED25519;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWK_KEY_TYPE_OKP;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWK_KEY_TYPE_RSA;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWK_USE_SIGNATURE;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_ALGORITHM_EDDSA;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_ALGORITHM_RS256;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_ED25519_X509_PREFIX_LENGTH;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_KEY_CLOCK_SKEW_MS;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_KEY_FACTORY_ED25519;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_KEY_FACTORY_RSA;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_KEY_RELOAD_MIN_INTERVAL_MS;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_RSA_KEY_SIZE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+
+/**
+ * Rotating set of asymmetric token signing keys, shared by every node through Mongo.
+ * The newest active key signs; all stored keys verify, and their public halves are published as a JWKS
+ * so verification can happen on nodes that never see a private key. A rotated-in key is published
+ * before it starts signing, and a rotated-out key is kept until the last token it signed expires,
+ * so rotation needs neither downtime nor a re-login. Keys are held in memory by kid and reloaded
+ * periodically, or early when a token names a kid this node has not seen yet.
+ */
+@Slf4j
+@Service
+public class JwtKeyService {
+
+    /**
+     * The private key currently used to sign tokens.
+     */
+    public record SigningKey(String kid, String algorithm, PrivateKey privateKey) {
+    }
+
+    private record KeySet(Map<String, PublicKey> verificationKeys, SigningKey signingKey, List<JwkDto> jwks) {
+    }
+
+    private final JwtSigningKeyDao jwtSigningKeyDao;
+    private final StringEncryptor stringEncryptor;
+    private final String algorithm;
+    private final Duration rotationInterval;
+    private final Duration activationDelay;
+    private final Duration tokenLifetime;
+    private final Duration refreshInterval;
+    private final AtomicLong lastReloadMs = new AtomicLong();
+    private volatile KeySet keySet = new KeySet(Map.of(), null, List.of());
+
+    public JwtKeyService(
+            JwtSigningKeyDao jwtSigningKeyDao,
+            @Qualifier("jasyptStringEncryptor") StringEncryptor stringEncryptor,
+            @Value("${jwt.signing.algorithm}") String algorithm,
+            @Value("${jwt.signing.rotation-interval-hours}") long rotationIntervalHours,
+            @Value("${jwt.signing.activation-delay-ms}") long activationDelayMs,
+            @Value("${jwt.expiration}") long jwtExpirationMs,
+            @Value("${jwt.signing.refresh-interval-ms:60000}") long refreshIntervalMs) {
+        this.jwtSigningKeyDao = jwtSigningKeyDao;
+        this.stringEncryptor = stringEncryptor;
+        this.algorithm = algorithm;
+        this.rotationInterval = Duration.ofHours(rotationIntervalHours);
+        this.activationDelay = Duration.ofMillis(activationDelayMs);
+        this.tokenLifetime = Duration.ofMillis(jwtExpirationMs);
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMs);
+        keyFactoryAlgorithm(algorithm); // fail fast on a misconfigured algorithm
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            rotateIfDue();
+        } catch (Exception e) {
+            // Keys are loaded on first use instead, so a slow database does not block startup
+            log.warn("Failed to load token signing keys at startup: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Create a new signing key once the newest one is older than the rotation interval, then reload.
+     * The first key activates immediately; later keys activate after the publication delay. Every node
+     * runs this, so the new key claims the next generation and only the first node to insert it wins;
+     * the others reload and use the winner's key.
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.refresh-interval-ms:60000}")
+    public void rotateIfDue() {
+        List<JwtSigningKey> keys = jwtSigningKeyDao.findAllNewestFirst();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (keys.isEmpty() || keys.getFirst().getCreatedAt().isBefore(now.minus(rotationInterval))) {
+            try {
+                JwtSigningKey created = createKey(now, keys.isEmpty() ? now : now.plus(activationDelay),
+                        nextGeneration(keys));
+                log.info("Created token signing key {} ({}), active from {}",
+                        created.getId(), created.getAlgorithm(), created.getActivatesAt());
+            } catch (DaoException e) {
+                if (e.getErrorCode() != ErrorCode.DAO_DUPLICATE_ERROR) {
+                    throw e;
+                }
+                log.debug("Token signing key already rotated by another node");
+            }
+            keys = jwtSigningKeyDao.findAllNewestFirst();
+        }
+        retireSupersededKeys(keys);
+        load(keys);
+    }
+
+    /**
+     * The key new tokens are signed with.
+     */
+    public SigningKey signingKey() {
+        SigningKey signingKey = keySet.signingKey();
+        if (isNull(signingKey)) {
+            rotateIfDue();
+            signingKey = keySet.signingKey();
+        }
+        if (isNull(signingKey)) {
+            throw new ServiceException(AUTH_SIGNING_KEY_UNKNOWN.formatted("none active"), ErrorCode.AUTH_TOKEN_INVALID);
+        }
+        return signingKey;
+    }
+
+    /**
+     * Public key for a token's kid, reloading the key set (at most every few seconds) when the kid is new.
+     *
+     * @param kid Key id from the token header
+     * @return The key, or null if no such key exists
+     */
+    public PublicKey verificationKey(String kid) {
+        PublicKey key = keySet.verificationKeys().get(kid);
+        if (isNull(key) && reloadAllowed()) {
+            log.debug("Unknown token signing key {}, reloading key set", kid);
+            load(jwtSigningKeyDao.findAllNewestFirst());
+            key = keySet.verificationKeys().get(kid);
+        }
+        return key;
+    }
+
+    public JwksDto jwks() {
+        return JwksDto.builder().keys(keySet.jwks()).build();
+    }
+
+    private void load(List<JwtSigningKey> keys) {
+        LocalDateTime now = LocalDateTime.now();
+        SigningKey current = keySet.signingKey();
+        Map<String, PublicKey> verificationKeys = new HashMap<>();
+        List<JwkDto> jwks = new ArrayList<>();
+        SigningKey signingKey = null;
+
+        for (JwtSigningKey key : keys) {
+            try {
+                PublicKey publicKey = decodePublicKey(key);
+                verificationKeys.put(key.getId(), publicKey);
+                jwks.add(toJwk(key.getId(), key.getAlgorithm(), publicKey));
+
+                if (isNull(signingKey) && isFalse(key.getActivatesAt().isAfter(now))) {
+                    // Decrypting is comparatively slow, so keep the already loaded private key
+                    signingKey = nonNull(current) && Objects.equals(current.kid(), key.getId())
+                            ? current
+                            : new SigningKey(key.getId(), key.getAlgorithm(), decodePrivateKey(key));
+                }
+            } catch (Exception e) {
+                log.error(AUTH_SIGNING_KEY_LOAD_FAILED.formatted(key.getId(), e.getMessage()));
+            }
+        }
+
+        keySet = new KeySet(Map.copyOf(verificationKeys), isNull(signingKey) ? current : signingKey, List.copyOf(jwks));
+        lastReloadMs.set(System.currentTimeMillis());
+    }
+
+    private JwtSigningKey createKey(LocalDateTime now, LocalDateTime activatesAt, long generation) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(keyFactoryAlgorithm(algorithm));
+            if (JWT_ALGORITHM_RS256.equals(algorithm)) {
+                generator.initialize(JWT_RSA_KEY_SIZE);
+            }
+            KeyPair keyPair = generator.generateKeyPair();
+
+            Base64.Encoder encoder = Base64.getEncoder();
+            return jwtSigningKeyDao.insert(JwtSigningKey.builder()
+                    .id(UUID.randomUUID().toString())
+                    .generation(generation)
+                    .algorithm(algorithm)
+                    .publicKey(encoder.encodeToString(keyPair.getPublic().getEncoded()))
+                    .privateKey(stringEncryptor.encrypt(encoder.encodeToString(keyPair.getPrivate().getEncoded())))
+                    .createdAt(now)
+                    .activatesAt(activatesAt)
+                    .build());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(AUTH_SIGNING_ALGORITHM_UNSUPPORTED.formatted(algorithm), e);
+        }
+    }
+
+    private long nextGeneration(List<JwtSigningKey> keys) {
+        return keys.isEmpty() || isNull(keys.getFirst().getGeneration()) ? 1 : keys.getFirst().getGeneration() + 1;
+    }
+
+    /**
+     * Schedule every key but the newest for deletion once every token it can still sign has expired.
+     * A node may keep signing with the old key until its next refresh after the newest key activates,
+     * so that interval and a clock-skew margin are added to the token lifetime. The expiry derives from
+     * the newest key alone, so nodes running this concurrently write the same value, and a key left
+     * behind by an interrupted rotation is retired on the next run.
+     */
+    private void retireSupersededKeys(List<JwtSigningKey> keys) {
+        if (keys.size() < 2) {
+            return;
+        }
+        Date expiresAt = Date.from(keys.getFirst().getActivatesAt()
+                .plus(tokenLifetime)
+                .plus(refreshInterval)
+                .plus(Duration.ofMillis(JWT_KEY_CLOCK_SKEW_MS))
+                .atZone(ZoneId.systemDefault())
+                .toInstant());
+        keys.stream()
+                .skip(1)
+                .filter(key -> isNull(key.getExpiresAt()))
+                .forEach(key -> {
+                    key.setExpiresAt(expiresAt);
+                    jwtSigningKeyDao.save(key);
+                });
+    }
+
+    private PublicKey decodePublicKey(JwtSigningKey key) throws GeneralSecurityException {
+        return KeyFactory.getInstance(keyFactoryAlgorithm(key.getAlgorithm()))
+                .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+    }
+
+    private PrivateKey decodePrivateKey(JwtSigningKey key) throws GeneralSecurityException {
+        byte[] encoded = Base64.getDecoder().decode(stringEncryptor.decrypt(key.getPrivateKey()));
+        return KeyFactory.getInstance(keyFactoryAlgorithm(key.getAlgorithm()))
+                .generatePrivate(new PKCS8EncodedKeySpec(encoded));
+    }
+
+    private JwkDto toJwk(String kid, String keyAlgorithm, PublicKey publicKey) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        JwkDto.JwkDtoBuilder jwk = JwkDto.builder()
+                .kid(kid)
+                .alg(keyAlgorithm)
+                .use(JWK_USE_SIGNATURE);
+
+        if (publicKey instanceof RSAPublicKey rsaKey) {
+            return jwk.kty(JWK_KEY_TYPE_RSA)
+                    .n(encoder.encodeToString(unsigned(rsaKey.getModulus())))
+                    .e(encoder.encodeToString(unsigned(rsaKey.getPublicExponent())))
+                    .build();
+        }
+
+        byte[] encoded = publicKey.getEncoded();
+        return jwk.kty(JWK_KEY_TYPE_OKP)
+                .crv(JWK_CURVE_ED25519)
+                .x(encoder.encodeToString(Arrays.copyOfRange(encoded, JWT_ED25519_X509_PREFIX_LENGTH, encoded.length)))
+                .build();
+    }
+
+    private byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes.length > 1 && bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private boolean reloadAllowed() {
+        long last = lastReloadMs.get();
+        long now = System.currentTimeMillis();
+        return now - last >= JWT_KEY_RELOAD_MIN_INTERVAL_MS && lastReloadMs.compareAndSet(last, now);
+    }
+
+    private String keyFactoryAlgorithm(String keyAlgorithm) {
+        return switch (keyAlgorithm) {
+            case JWT_ALGORITHM_EDDSA -> JWT_KEY_FACTORY_ED25519;
+            case JWT_ALGORITHM_RS256 -> JWT_KEY_FACTORY_RSA;
+            default -> throw new IllegalStateException(AUTH_SIGNING_ALGORITHM_UNSUPPORTED.formatted(keyAlgorithm));
+        };
+    }
+}
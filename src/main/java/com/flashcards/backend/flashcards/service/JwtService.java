@@ -4,46 +4,82 @@ import com.flashcards.backend.flashcards.exception.ErrorCode;
 import com.flashcards.backend.flashcards.exception.ServiceException;
 import com.flashcards.backend.flashcards.model.Role;
 import com.flashcards.backend.flashcards.model.User;
+import com.flashcards.backend.flashcards.security.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_SIGNING_ALGORITHM_UNSUPPORTED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_SIGNING_KEY_MISSING;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_SIGNING_KEY_UNKNOWN;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOKEN_EXTRACTION_FAILED;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOKEN_INVALID;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_USER_ID_NULL;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_USER_NULL;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_ALGORITHM_EDDSA;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_ALGORITHM_RS256;
 import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_CLAIM_AUTHORITIES;
 import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_CLAIM_EMAIL;
 import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_CLAIM_TOTP_ENABLED;
 import static com.flashcards.backend.flashcards.constants.JwtConstants.JWT_CLAIM_USERNAME;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
+/**
+ * Issues and verifies access tokens.
+ * Tokens are signed with the current asymmetric key from {@link JwtKeyService} and carry its kid, which
+ * selects the verification key. Tokens without a kid were signed with the legacy HMAC secret and are
+ * still accepted while that secret is configured, so existing sessions survive the switch.
+ * Access tokens are short-lived and carry a jti so a single token can be revoked; sessions are
+ * extended with refresh tokens from {@link RefreshTokenService}.
+ */
 @Slf4j
 @Service
 public class JwtService {
-    private final SecretKey secretKey;
+    private final JwtKeyService jwtKeyService;
+    private final SecretKey legacySecretKey;
+    private final JwtParser jwtParser; // immutable and thread-safe, so built once
     private final long jwtExpirationMs;
     private final String jwtIssuer;
 
     public JwtService(
-            @Value("${jwt.secret}") String secret,
+            JwtKeyService jwtKeyService,
+            @Value("${jwt.secret:}") String secret,
             @Value("${jwt.expiration}") long jwtExpirationMs,
             @Value("${jwt.issuer}") String jwtIssuer) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtKeyService = jwtKeyService;
+        this.legacySecretKey = isBlank(secret) ? null : Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().keyLocator(new LocatorAdapter<>() {
+            @Override
+            protected Key locate(ProtectedHeader header) {
+                return verificationKey(header.getKeyId());
+            }
+        }).build();
         this.jwtExpirationMs = jwtExpirationMs;
         this.jwtIssuer = jwtIssuer;
     }
@@ -57,7 +93,10 @@ public class JwtService {
                     .map(Role::getAuthority)
                     .collect(Collectors.toSet());
 
+            JwtKeyService.SigningKey signingKey = jwtKeyService.signingKey();
             String token = Jwts.builder()
+                    .header().keyId(signingKey.kid()).and()
+                    .id(UUID.randomUUID().toString())
                     .subject(user.getId())
                     .claim(JWT_CLAIM_USERNAME, user.getUsername())
                     .claim(JWT_CLAIM_EMAIL, user.getEmail())
@@ -66,7 +105,7 @@ public class JwtService {
                     .issuer(jwtIssuer)
                     .issuedAt(Date.from(now))
                     .expiration(Date.from(expiration))
-                    .signWith(secretKey)
+                    .signWith(signingKey.privateKey(), signatureAlgorithm(signingKey.algorithm()))
                     .compact();
 
             log.debug("JWT token generated successfully for user: {}", user.getUsername());
@@ -78,10 +117,33 @@ public class JwtService {
         );
     }
 
+    /**
+     * Verify a token's signature and expiry and read all of its claims in one parse.
+     *
+     * @param token The compact JWT
+     * @return The verified claims, or empty if the token is invalid or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (isTokenExpired(claims)) {
+                return Optional.empty();
+            }
+            return Optional.of(toVerifiedToken(claims));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public String extractUserId(String token) {
         return extractClaims(token).getSubject();
     }
 
+    public String extractTokenId(String token) {
+        return extractClaims(token).getId();
+    }
+
     public String extractUsername(String token) {
         return extractClaims(token).get(JWT_CLAIM_USERNAME, String.class);
     }
@@ -97,15 +159,9 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token) {
-        try {
-            Claims claims = extractClaims(token);
-            boolean isValid = isFalse(isTokenExpired(claims));
-            log.debug("Token validation result: {}", isValid);
-            return isValid;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        boolean isValid = verify(token).isPresent();
+        log.debug("Token validation result: {}", isValid);
+        return isValid;
     }
 
     public boolean isTokenExpired(String token) {
@@ -118,11 +174,7 @@ public class JwtService {
 
     private Claims extractClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
             log.error( "Failed to extract claims from token: {}", e.getMessage());
             throw new ServiceException(
@@ -133,6 +185,43 @@ public class JwtService {
         }
     }
 
+    private Key verificationKey(String kid) {
+        if (isNull(kid)) {
+            if (isNull(legacySecretKey)) {
+                throw new UnsupportedJwtException(AUTH_SIGNING_KEY_MISSING);
+            }
+            return legacySecretKey;
+        }
+        PublicKey key = jwtKeyService.verificationKey(kid);
+        if (isNull(key)) {
+            throw new UnsupportedJwtException(AUTH_SIGNING_KEY_UNKNOWN.formatted(kid));
+        }
+        return key;
+    }
+
+    private SignatureAlgorithm signatureAlgorithm(String algorithm) {
+        return switch (algorithm) {
+            case JWT_ALGORITHM_EDDSA -> Jwts.SIG.EdDSA;
+            case JWT_ALGORITHM_RS256 -> Jwts.SIG.RS256;
+            default -> throw new IllegalStateException(AUTH_SIGNING_ALGORITHM_UNSUPPORTED.formatted(algorithm));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        List<String> authorities = claims.get(JWT_CLAIM_AUTHORITIES, List.class);
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get(JWT_CLAIM_USERNAME, String.class),
+                claims.get(JWT_CLAIM_EMAIL, String.class),
+                nonNull(authorities) ? List.copyOf(authorities) : List.of(),
+                isTrue(claims.get(JWT_CLAIM_TOTP_ENABLED, Boolean.class)),
+                claims.getId(),
+                nonNull(claims.getIssuedAt()) ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant()
+        );
+    }
+
     private boolean isTokenExpired(Claims claims) {
         Date expiration = claims.getExpiration();
         return expiration.before(new Date());
@@ -0,0 +1,62 @@
+package com.flashcards.backend.flashcards.service;
+
+import com.flashcards.backend.flashcards.dao.UserDao;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Records last-login times off the login path.
+ * Logins only update an in-memory map; a scheduled flush writes the latest time per user in one
+ * bulk write, so repeated logins of the same user between flushes coalesce into a single update.
+ * Each update is a $max, so a flush from an instance holding an older login never moves the time back.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LastLoginRecorder {
+    private final UserDao userDao;
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void record(String userId, LocalDateTime lastLoginAt) {
+        pending.merge(userId, lastLoginAt, (existing, added) -> existing.isAfter(added) ? existing : added);
+    }
+
+    @Scheduled(fixedDelayString = "${app.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, LocalDateTime> batch = new HashMap<>();
+        pending.keySet().forEach(userId -> {
+            LocalDateTime lastLoginAt = pending.remove(userId);
+            if (nonNull(lastLoginAt)) {
+                batch.put(userId, lastLoginAt);
+            }
+        });
+
+        try {
+            userDao.updateLastLoginAt(batch);
+            log.debug("Flushed last login times for {} users", batch.size());
+        } catch (Exception e) {
+            // Put the batch back so the next flush retries it, keeping any newer login recorded meanwhile
+            batch.forEach(this::record);
+            log.warn("Failed to flush last login times for {} users: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,205 @@
+package com.flashcards.backend.flashcards.service;
+
+import com.flashcards.backend.flashcards.config.BruteForceProperties;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.ratelimit.LoginAttemptStore;
+import com.flashcards.backend.flashcards.ratelimit.LoginAttemptWindow;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import static com.flashcards.backend.flashcards.constants.AuthConstants.LOGIN_ATTEMPT_KEY_ACCOUNT_PREFIX;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.LOGIN_ATTEMPT_KEY_CLIENT_PREFIX;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOO_MANY_ATTEMPTS;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+
+/**
+ * Brute-force protection for password, TOTP and recovery-code checks.
+ * Failures are counted per account and per client address in sliding windows; a key over its limit
+ * is locked out with exponentially growing lockouts. Each attempt is reserved, that is counted as a
+ * failure, in one atomic update before any password hashing, so concurrent guesses cannot all pass
+ * the lock check before the first failure is recorded. A reservation is given back when the attempt
+ * succeeds or fails for a reason other than wrong credentials.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginAttemptService {
+
+    /**
+     * An attempt counted in advance against the client and the account; keys are null when not counted.
+     */
+    public record Reservation(String clientKey, boolean clientLockedByAttempt,
+                              String accountKey, boolean accountLockedByAttempt) {
+    }
+
+    private record ReservedKey(String key, boolean lockedByAttempt) {
+    }
+
+    private final LoginAttemptStore loginAttemptStore;
+    private final BruteForceProperties bruteForceProperties;
+    private final Clock clock;
+
+    /**
+     * Reject the attempt early if the calling client is locked out, before looking up the account.
+     */
+    public void checkClient() {
+        if (isFalse(bruteForceProperties.isEnabled())) {
+            return;
+        }
+        Optional<String> key = currentClientKey();
+        if (key.isEmpty()) {
+            return;
+        }
+        long now = clock.millis();
+        Optional<LoginAttemptWindow> window = loginAttemptStore.find(key.get()).filter(w -> w.isLocked(now));
+        if (window.isPresent()) {
+            throw tooManyAttempts(key.get(), window.get(), now);
+        }
+    }
+
+    /**
+     * Count an attempt against the calling client and the account before verifying it.
+     *
+     * @return The reservation to hand to {@link #recordSuccess} or {@link #release}; keep it on a failure
+     * @throws ServiceException if the client or the account is locked out
+     */
+    public Reservation reserve(String userId) {
+        if (isFalse(bruteForceProperties.isEnabled())) {
+            return new Reservation(null, false, null, false);
+        }
+        ReservedKey client = currentClientKey()
+                .map(key -> reserve(key, bruteForceProperties.getMaxClientFailures()))
+                .orElse(null);
+        ReservedKey account;
+        try {
+            account = reserve(LOGIN_ATTEMPT_KEY_ACCOUNT_PREFIX + userId, bruteForceProperties.getMaxAccountFailures());
+        } catch (ServiceException e) {
+            if (nonNull(client)) {
+                release(client);
+            }
+            throw e;
+        }
+        return new Reservation(
+                nonNull(client) ? client.key() : null, nonNull(client) && client.lockedByAttempt(),
+                account.key(), account.lockedByAttempt());
+    }
+
+    /**
+     * Count a failed attempt against the calling client and, if known, the account, for failures
+     * that happen without a reservation such as an unknown username.
+     */
+    public void recordFailure(String userId) {
+        if (isFalse(bruteForceProperties.isEnabled())) {
+            return;
+        }
+        currentClientKey().ifPresent(key -> recordFailure(key, bruteForceProperties.getMaxClientFailures()));
+        if (nonNull(userId)) {
+            recordFailure(LOGIN_ATTEMPT_KEY_ACCOUNT_PREFIX + userId, bruteForceProperties.getMaxAccountFailures());
+        }
+    }
+
+    /**
+     * Clear the account's failures after a successful sign-in and give back the client's reservation.
+     * Earlier client failures are kept, so one valid account does not reset the budget of an address
+     * guessing at others.
+     */
+    public void recordSuccess(Reservation reservation) {
+        if (nonNull(reservation.accountKey())) {
+            loginAttemptStore.delete(reservation.accountKey());
+        }
+        if (nonNull(reservation.clientKey())) {
+            release(new ReservedKey(reservation.clientKey(), reservation.clientLockedByAttempt()));
+        }
+    }
+
+    /**
+     * Give back a reservation whose attempt was not a failure, e.g. a disabled account or a missing TOTP code.
+     */
+    public void release(Reservation reservation) {
+        if (nonNull(reservation.clientKey())) {
+            release(new ReservedKey(reservation.clientKey(), reservation.clientLockedByAttempt()));
+        }
+        if (nonNull(reservation.accountKey())) {
+            release(new ReservedKey(reservation.accountKey(), reservation.accountLockedByAttempt()));
+        }
+    }
+
+    /**
+     * Count an attempt unless the key is locked, in one atomic step of the store.
+     */
+    private ReservedKey reserve(String key, int maxFailures) {
+        long now = clock.millis();
+        LoginAttemptWindow previous = loginAttemptStore.reserve(key, now, maxFailures, 2 * bruteForceProperties.getWindowMs());
+        if (previous.isLocked(now)) {
+            throw tooManyAttempts(key, previous, now);
+        }
+
+        // The store applied the same reservation to the same state, so this is the state it stored
+        LoginAttemptWindow window = failure(previous, now, maxFailures);
+        boolean lockedByAttempt = window.isLocked(now);
+        if (lockedByAttempt) {
+            logLockout(key, window, now);
+        }
+        return new ReservedKey(key, lockedByAttempt);
+    }
+
+    private void release(ReservedKey reserved) {
+        long now = clock.millis();
+        loginAttemptStore.update(reserved.key(),
+                current -> current.release(now, bruteForceProperties.getWindowMs(), reserved.lockedByAttempt()),
+                2 * bruteForceProperties.getWindowMs());
+    }
+
+    private void recordFailure(String key, int maxFailures) {
+        long now = clock.millis();
+        LoginAttemptWindow window = loginAttemptStore.update(key,
+                current -> failure(current, now, maxFailures),
+                2 * bruteForceProperties.getWindowMs());
+        if (window.isLocked(now)) {
+            logLockout(key, window, now);
+        }
+    }
+
+    private LoginAttemptWindow failure(LoginAttemptWindow current, long now, int maxFailures) {
+        return current.recordFailure(now, bruteForceProperties.getWindowMs(), maxFailures,
+                bruteForceProperties.getBaseLockoutMs(), bruteForceProperties.getMaxLockoutMs());
+    }
+
+    private void logLockout(String key, LoginAttemptWindow window, long now) {
+        log.warn("Locked {} after repeated sign-in failures for {}s (lockout #{})",
+                key, window.retryAfterSeconds(now), window.lockouts());
+    }
+
+    private ServiceException tooManyAttempts(String key, LoginAttemptWindow window, long now) {
+        long retryAfterSeconds = window.retryAfterSeconds(now);
+        log.warn("Rejecting sign-in attempt for locked {}, retry after {}s", key, retryAfterSeconds);
+        setRetryAfter(retryAfterSeconds);
+        return new ServiceException(AUTH_TOO_MANY_ATTEMPTS.formatted(retryAfterSeconds), ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+    }
+
+    private Optional<String> currentClientKey() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return Optional.of(LOGIN_ATTEMPT_KEY_CLIENT_PREFIX + attributes.getRequest().getRemoteAddr());
+        }
+        return Optional.empty();
+    }
+
+    private void setRetryAfter(long retryAfterSeconds) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletResponse response = attributes.getResponse();
+            if (nonNull(response)) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            }
+        }
+    }
+}
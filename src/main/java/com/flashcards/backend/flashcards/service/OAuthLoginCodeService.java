@@ -0,0 +1,66 @@
+package com.flashcards.backend.flashcards.service;
+
+import com.flashcards.backend.flashcards.dao.OAuthLoginCodeDao;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.model.OAuthLoginCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_LOGIN_CODE_BYTES;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.OAUTH_LOGIN_CODE_TTL_MS;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_OAUTH_CODE_INVALID;
+import static com.flashcards.backend.flashcards.util.HashUtils.sha256Hex;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Short-lived single-use codes that carry an OAuth2 login from the redirect to the frontend.
+ * The redirect URL ends up in browser history, proxy logs and Referer headers, so it carries only
+ * this code; the frontend exchanges it once, within a minute, for the access and refresh tokens.
+ */
+@Service
+@RequiredArgsConstructor
+public class OAuthLoginCodeService {
+    private final OAuthLoginCodeDao oAuthLoginCodeDao;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * @return The opaque code for the redirect; only its hash is stored
+     */
+    public String issue(String userId) {
+        byte[] bytes = new byte[OAUTH_LOGIN_CODE_BYTES];
+        secureRandom.nextBytes(bytes);
+        String code = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        oAuthLoginCodeDao.insert(OAuthLoginCode.builder()
+                .id(sha256Hex(code))
+                .userId(userId)
+                .expiresAt(Date.from(Instant.now().plusMillis(OAUTH_LOGIN_CODE_TTL_MS)))
+                .build());
+        return code;
+    }
+
+    /**
+     * Consume a code.
+     *
+     * @return The user the code was issued to
+     * @throws ServiceException if the code is unknown, expired, or was already used
+     */
+    public String redeem(String code) {
+        if (isBlank(code)) {
+            throw invalidCode();
+        }
+        return oAuthLoginCodeDao.consume(sha256Hex(code))
+                .map(OAuthLoginCode::getUserId)
+                .orElseThrow(this::invalidCode);
+    }
+
+    private ServiceException invalidCode() {
+        return new ServiceException(AUTH_OAUTH_CODE_INVALID, ErrorCode.AUTH_TOKEN_INVALID);
+    }
+}
@@ -2,27 +2,65 @@ package com.flashcards.backend.flashcards.service;
 
 import com.flashcards.backend.flashcards.exception.ErrorCode;
 import com.flashcards.backend.flashcards.exception.ServiceException;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
 import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_PREFIX_2A;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_PREFIX_2B;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_PREFIX_2Y;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.PASSWORD_HASH_THREAD_PREFIX;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_PASSWORD_HASHING_BUSY;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_PASSWORD_NULL_EMPTY;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_PASSWORD_VERIFICATION_FAILED;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
+/**
+ * Password hashing and verification.
+ * BCrypt is deliberately CPU-bound, so it runs on a dedicated pool and a bounded queue instead of on
+ * request threads. By default the pool has one thread fewer than there are cores, so under a login
+ * storm at least one core stays free for the rest of the API; excess work is rejected immediately,
+ * and work that waits in the queue past the timeout is abandoned, both surfacing as a capacity error.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PasswordService {
     private final PasswordEncoder passwordEncoder;
+    private final ExecutorService hashingExecutor;
+    private final long queueTimeoutMs;
+
+    public PasswordService(
+            PasswordEncoder passwordEncoder,
+            @Value("${password.hashing.max-concurrent:0}") int maxConcurrent,
+            @Value("${password.hashing.max-queued:64}") int maxQueued,
+            @Value("${password.hashing.queue-timeout-ms:5000}") long queueTimeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.queueTimeoutMs = queueTimeoutMs;
+
+        int threads = maxConcurrent > 0 ? maxConcurrent : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.hashingExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued),
+                Thread.ofPlatform().name(PASSWORD_HASH_THREAD_PREFIX, 0).daemon(true).factory());
+    }
 
     public String encryptPassword(String rawPassword) {
         if (isNotBlank(rawPassword)) {
-            String encodedPassword = passwordEncoder.encode(rawPassword);
+            String encodedPassword = hash(() -> passwordEncoder.encode(rawPassword));
             log.debug("Password encrypted successfully");
             return encodedPassword;
         }
@@ -31,7 +69,7 @@ public class PasswordService {
 
     public boolean verifyPassword(String rawPassword, String encodedPassword) {
         if (isNotBlank(rawPassword) && isNotBlank(encodedPassword)) {
-            boolean matches = passwordEncoder.matches(rawPassword, encodedPassword);
+            boolean matches = hash(() -> passwordEncoder.matches(rawPassword, encodedPassword));
             log.debug("Password verification result: {}", matches);
             return matches;
         }
@@ -39,6 +77,25 @@ public class PasswordService {
         return false;
     }
 
+    /**
+     * Hash with a given BCrypt salt (the "$2a$NN$" + 22 character prefix of an existing hash), so
+     * values hashed under the same salt can be compared by equality.
+     */
+    public String hashWithSalt(String rawValue, String salt) {
+        if (isNotBlank(rawValue)) {
+            return hash(() -> BCrypt.hashpw(rawValue, salt));
+        }
+        throw new ServiceException(AUTH_PASSWORD_NULL_EMPTY, ErrorCode.AUTH_PASSWORD_INVALID);
+    }
+
+    /**
+     * Whether a stored hash was made with a lower cost than the current one and should be
+     * replaced after the next successful verification.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return isPasswordEncoded(encodedPassword) && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
     public boolean isPasswordEncoded(String password) {
         if (isNotBlank(password)) {
             return password.startsWith(BCRYPT_PREFIX_2A) ||
@@ -47,4 +104,37 @@ public class PasswordService {
         }
         return false;
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    private <T> T hash(Supplier<T> operation) {
+        Future<T> result;
+        try {
+            result = hashingExecutor.submit(operation::get);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue full, rejecting request");
+            throw new ServiceException(AUTH_PASSWORD_HASHING_BUSY, ErrorCode.AUTH_CAPACITY_EXCEEDED);
+        }
+
+        try {
+            return result.get(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Drops the task if still queued; a hash already running finishes but is discarded
+            result.cancel(false);
+            log.warn("Password hashing timed out after {} ms", queueTimeoutMs);
+            throw new ServiceException(AUTH_PASSWORD_HASHING_BUSY, ErrorCode.AUTH_CAPACITY_EXCEEDED, e);
+        } catch (InterruptedException e) {
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServiceException(AUTH_PASSWORD_HASHING_BUSY, ErrorCode.AUTH_CAPACITY_EXCEEDED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -6,18 +6,21 @@ import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_SALT_PREFIX_LENGTH;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.RECOVERY_CODE_CHARSET;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.RECOVERY_CODE_COUNT;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.RECOVERY_CODE_DELIMITER;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.RECOVERY_CODE_LENGTH;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.RECOVERY_CODE_SEGMENT_LENGTH;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
-import static org.apache.commons.lang3.BooleanUtils.isFalse;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.remove;
@@ -42,44 +45,75 @@ public class RecoveryCodeService {
         return codes;
     }
 
+    /**
+     * Hash a set of codes under one shared salt, so verifying a code later takes a single BCrypt
+     * hash and a set lookup instead of one BCrypt verification per stored code.
+     */
     public List<String> hashRecoveryCodes(List<String> codes) {
         if (isEmpty(codes)) {
             log.warn("Attempted to hash empty or null recovery codes list");
             return new ArrayList<>();
         }
 
-        return codes.stream()
+        List<String> validCodes = codes.stream()
                 .filter(code -> isNotBlank(code))
-                .map(passwordService::encryptPassword)
-                .collect(Collectors.toList());
+                .toList();
+        if (validCodes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String firstHash = passwordService.encryptPassword(validCodes.getFirst());
+        String salt = saltOf(firstHash);
+
+        List<String> hashedCodes = new ArrayList<>(validCodes.size());
+        hashedCodes.add(firstHash);
+        validCodes.stream()
+                .skip(1)
+                .map(code -> passwordService.hashWithSalt(code, salt))
+                .forEach(hashedCodes::add);
+        return hashedCodes;
     }
 
-    public boolean validateRecoveryCode(String code, Set<String> hashedCodes) {
+    /**
+     * Find the stored hash matching a recovery code.
+     * Hashes are grouped by salt and the code is hashed once per salt: a set hashed by
+     * {@link #hashRecoveryCodes} shares one salt and costs one hash, while sets stored before codes
+     * shared a salt still verify, at one hash per remaining code, until they are regenerated.
+     *
+     * @return The matching hash, or empty if the code is not one of the stored codes
+     */
+    public Optional<String> findMatchingHash(String code, Set<String> hashedCodes) {
         if (isBlank(code) || isEmpty(hashedCodes)) {
             log.warn("Invalid recovery code validation attempt - code or hashes are empty");
-            return false;
+            return Optional.empty();
         }
 
         String formattedCode = formatCodeForValidation(code);
+        Set<String> salts = hashedCodes.stream()
+                .filter(passwordService::isPasswordEncoded)
+                .map(this::saltOf)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (salts.size() > 1) {
+            log.debug("Verifying recovery code against {} legacy per-code salts", salts.size());
+        }
 
-        return hashedCodes.stream()
-                .anyMatch(hashedCode -> passwordService.verifyPassword(formattedCode, hashedCode));
+        return salts.stream()
+                .map(salt -> passwordService.hashWithSalt(formattedCode, salt))
+                .filter(hashedCodes::contains)
+                .findFirst();
     }
 
-    public Set<String> removeUsedCode(String code, Set<String> hashedCodes) {
+    /**
+     * The stored hashes without the one that was just used.
+     */
+    public Set<String> removeUsedCode(String usedHash, Set<String> hashedCodes) {
         if (isEmpty(hashedCodes)) {
             return Set.of();
         }
 
-        if (isBlank(code)) {
-            return hashedCodes;
-        }
-
-        String formattedCode = formatCodeForValidation(code);
-
-        return hashedCodes.stream()
-                .filter(hashedCode -> isFalse(passwordService.verifyPassword(formattedCode, hashedCode)))
-                .collect(Collectors.toSet());
+        Set<String> remaining = new HashSet<>(hashedCodes);
+        remaining.remove(usedHash);
+        return remaining;
     }
 
     public int getRemainingCodesCount(Set<String> hashedCodes) {
@@ -119,6 +153,10 @@ public class RecoveryCodeService {
                 .toString();
     }
 
+    private String saltOf(String hashedCode) {
+        return hashedCode.substring(0, BCRYPT_SALT_PREFIX_LENGTH);
+    }
+
     private String formatCodeForValidation(String code) {
         return remove(upperCase(trimToEmpty(code)), RECOVERY_CODE_DELIMITER);
     }
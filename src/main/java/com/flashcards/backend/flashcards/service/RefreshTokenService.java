@@ -0,0 +1,123 @@
+package com.flashcards.backend.flashcards.service;
+
+import com.flashcards.backend.flashcards.dao.RefreshTokenDao;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.model.RefreshToken;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_REFRESH_TOKEN_INVALID;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_REFRESH_TOKEN_REUSED;
+import static com.flashcards.backend.flashcards.constants.JwtConstants.REFRESH_TOKEN_BYTES;
+import static com.flashcards.backend.flashcards.util.HashUtils.sha256Hex;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Issues and rotates opaque refresh tokens.
+ * Each refresh token can be used once and is replaced by a new token in the same family. Reuse of an
+ * already used token means it leaked, so the whole family (that login session) is revoked.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+    private final RefreshTokenDao refreshTokenDao;
+    private final long refreshExpirationMs;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * A rotated refresh token and the user it belongs to.
+     */
+    public record RotatedToken(String userId, String refreshToken) {
+    }
+
+    public RefreshTokenService(RefreshTokenDao refreshTokenDao,
+                               @Value("${jwt.refresh-expiration}") long refreshExpirationMs) {
+        this.refreshTokenDao = refreshTokenDao;
+        this.refreshExpirationMs = refreshExpirationMs;
+    }
+
+    /**
+     * Start a new session for the user.
+     *
+     * @return The opaque refresh token; only its hash is stored
+     */
+    public String issue(String userId) {
+        return issue(userId, new ObjectId().toHexString());
+    }
+
+    /**
+     * Use a refresh token and replace it with a new one in the same session.
+     *
+     * @throws ServiceException if the token is unknown, expired, or was already used
+     */
+    public RotatedToken rotate(String refreshToken) {
+        if (isBlank(refreshToken)) {
+            throw invalidToken();
+        }
+        String tokenHash = sha256Hex(refreshToken);
+        RefreshToken stored = refreshTokenDao.findById(tokenHash)
+                .filter(token -> token.getExpiresAt().after(new Date()))
+                .orElseThrow(this::invalidToken);
+
+        // The conditional update lets exactly one of several concurrent uses win
+        if (nonNull(stored.getUsedAt()) || isFalse(refreshTokenDao.markUsed(tokenHash))) {
+            log.warn("Refresh token reuse detected for user {}, revoking session {}", stored.getUserId(), stored.getFamilyId());
+            refreshTokenDao.deleteByFamilyId(stored.getFamilyId());
+            throw new ServiceException(AUTH_REFRESH_TOKEN_REUSED, ErrorCode.AUTH_TOKEN_INVALID);
+        }
+
+        return new RotatedToken(stored.getUserId(), issue(stored.getUserId(), stored.getFamilyId()));
+    }
+
+    /**
+     * End the session a refresh token belongs to. Unknown tokens are ignored.
+     */
+    public void revokeSession(String refreshToken) {
+        if (isBlank(refreshToken)) {
+            return;
+        }
+        refreshTokenDao.findById(sha256Hex(refreshToken))
+                .ifPresent(token -> refreshTokenDao.deleteByFamilyId(token.getFamilyId()));
+    }
+
+    /**
+     * End every session of a user, e.g. after a change to their second factor.
+     */
+    public void revokeAllForUser(String userId) {
+        refreshTokenDao.deleteByUserId(userId);
+    }
+
+    public long getExpirationMs() {
+        return refreshExpirationMs;
+    }
+
+    private String issue(String userId, String familyId) {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenDao.insert(RefreshToken.builder()
+                .id(sha256Hex(refreshToken))
+                .userId(userId)
+                .familyId(familyId)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(Date.from(Instant.now().plusMillis(refreshExpirationMs)))
+                .build());
+        return refreshToken;
+    }
+
+    private ServiceException invalidToken() {
+        return new ServiceException(AUTH_REFRESH_TOKEN_INVALID, ErrorCode.AUTH_TOKEN_INVALID);
+    }
+}
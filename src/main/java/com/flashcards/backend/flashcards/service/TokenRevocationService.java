@@ -0,0 +1,139 @@
+package com.flashcards.backend.flashcards.service;
+
+import com.flashcards.backend.flashcards.dao.RevokedTokenDao;
+import com.flashcards.backend.flashcards.model.RevokedToken;
+import com.flashcards.backend.flashcards.security.VerifiedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Revokes access tokens before they expire, by jti or for every token of a user issued before a cutoff.
+ * Revocations are persisted in Mongo and mirrored into in-memory maps that every instance refreshes on a
+ * short interval, so the per-request check never touches the database. Since access tokens are short-lived,
+ * an entry is only kept until the last token it can affect has expired, which keeps the denylist small.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    /**
+     * Tokens of a user issued before the cutoff are revoked, except the replacement token issued with it.
+     */
+    private record UserCutoff(Instant issuedBefore, String exemptTokenId) {
+    }
+
+    private final RevokedTokenDao revokedTokenDao;
+    private final long accessTokenLifetimeMs;
+
+    private final Map<String, Instant> revokedTokenIds = new ConcurrentHashMap<>();   // jti -> forget after
+    private final Map<String, UserCutoff> userCutoffs = new ConcurrentHashMap<>();    // userId -> latest cutoff
+
+    public TokenRevocationService(RevokedTokenDao revokedTokenDao,
+                                  @Value("${jwt.expiration}") long accessTokenLifetimeMs) {
+        this.revokedTokenDao = revokedTokenDao;
+        this.accessTokenLifetimeMs = accessTokenLifetimeMs;
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            sync();
+        } catch (Exception e) {
+            log.error("Failed to load token revocations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Revoke a single access token until it expires.
+     */
+    public void revokeAccessToken(VerifiedToken token) {
+        if (isNull(token.tokenId())) {
+            return;
+        }
+        revokedTokenIds.put(token.tokenId(), token.expiresAt());
+        revokedTokenDao.insert(RevokedToken.builder()
+                .id(new ObjectId().toHexString())
+                .jti(token.tokenId())
+                .userId(token.userId())
+                .revokedAt(Instant.now())
+                .expiresAt(Date.from(token.expiresAt()))
+                .build());
+        log.debug("Revoked access token {} of user {}", token.tokenId(), token.userId());
+    }
+
+    /**
+     * Revoke every access token of a user issued up to now, except the token that replaces them.
+     * Token iat only has second precision, so the cutoff is kept to the millisecond and compared against
+     * the truncated iat: any token issued in the same second is revoked, and the replacement survives
+     * because it is exempt by jti rather than by time.
+     *
+     * @param userId             The user whose sessions are revoked
+     * @param replacementTokenId jti of the access token issued to the caller, or null to revoke everything
+     */
+    public void revokeUser(String userId, String replacementTokenId) {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.MILLIS); // the precision Mongo stores
+        userCutoffs.merge(userId, new UserCutoff(cutoff, replacementTokenId), this::latest);
+        revokedTokenDao.insert(RevokedToken.builder()
+                .id(new ObjectId().toHexString())
+                .userId(userId)
+                .exemptJti(replacementTokenId)
+                .revokedAt(cutoff)
+                .expiresAt(Date.from(cutoff.plusMillis(accessTokenLifetimeMs)))
+                .build());
+        log.debug("Revoked all access tokens of user {}", userId);
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (nonNull(token.tokenId()) && revokedTokenIds.containsKey(token.tokenId())) {
+            return true;
+        }
+        UserCutoff cutoff = userCutoffs.get(token.userId());
+        if (isNull(cutoff) || (nonNull(token.tokenId()) && token.tokenId().equals(cutoff.exemptTokenId()))) {
+            return false;
+        }
+        // Legacy tokens without iat cannot be placed relative to the cutoff, so they are treated as older
+        return isNull(token.issuedAt()) || token.issuedAt().isBefore(cutoff.issuedBefore());
+    }
+
+    /**
+     * Pick up revocations made on other instances and forget entries whose tokens have all expired.
+     * Every live revocation is read on each sync rather than those revoked since the last one, since
+     * revokedAt comes from the revoking node's clock and a skewed clock would hide its entries. Loaded
+     * entries are merged rather than swapped in, so a local revocation inserted after the query is kept.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        Instant now = Instant.now();
+        List<RevokedToken> revocations = revokedTokenDao.findActive(Date.from(now));
+        for (RevokedToken revocation : revocations) {
+            Instant expiresAt = revocation.getExpiresAt().toInstant();
+            if (nonNull(revocation.getJti())) {
+                revokedTokenIds.put(revocation.getJti(), expiresAt);
+            } else {
+                userCutoffs.merge(revocation.getUserId(),
+                        new UserCutoff(revocation.getRevokedAt(), revocation.getExemptJti()), this::latest);
+            }
+        }
+
+        revokedTokenIds.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        userCutoffs.values().removeIf(cutoff -> cutoff.issuedBefore().plusMillis(accessTokenLifetimeMs).isBefore(now));
+    }
+
+    private UserCutoff latest(UserCutoff existing, UserCutoff added) {
+        return existing.issuedBefore().isAfter(added.issuedBefore()) ? existing : added;
+    }
+}
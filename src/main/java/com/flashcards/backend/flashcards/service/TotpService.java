@@ -1,11 +1,8 @@
 package com.flashcards.backend.flashcards.service;
 
+import com.flashcards.backend.flashcards.dao.TotpUsedStepDao;
 import com.flashcards.backend.flashcards.exception.ErrorCode;
 import com.flashcards.backend.flashcards.exception.ServiceException;
-import dev.samstevens.totp.code.CodeGenerator;
-import dev.samstevens.totp.code.CodeVerifier;
-import dev.samstevens.totp.code.DefaultCodeGenerator;
-import dev.samstevens.totp.code.DefaultCodeVerifier;
 import dev.samstevens.totp.code.HashingAlgorithm;
 import dev.samstevens.totp.qr.QrData;
 import dev.samstevens.totp.qr.QrDataFactory;
@@ -13,40 +10,71 @@ import dev.samstevens.totp.qr.QrGenerator;
 import dev.samstevens.totp.qr.ZxingPngQrGenerator;
 import dev.samstevens.totp.secret.DefaultSecretGenerator;
 import dev.samstevens.totp.secret.SecretGenerator;
-import dev.samstevens.totp.time.SystemTimeProvider;
-import dev.samstevens.totp.time.TimeProvider;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Base32;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.OptionalLong;
 import java.util.Random;
 
 import static com.flashcards.backend.flashcards.constants.AuthConstants.QR_CODE_DATA_URI_PREFIX;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_CODE_LENGTH;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_HMAC_ALGORITHM;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_KEY_CACHE_MAX_ENTRIES;
 import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_TIME_STEP_SECONDS;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_WINDOW;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOTP_CODE_INVALID;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOTP_CODE_REUSED;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOTP_QR_GENERATION_FAILED;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOTP_SECRET_USERNAME_NULL;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOTP_VERIFICATION_FAILED;
+import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.isNumeric;
 
+/**
+ * TOTP secrets, QR codes and code verification (RFC 6238, SHA-1, 6 digits, 30 second steps).
+ * The decoded key and the codes of the current verification window are cached per secret, so
+ * repeated attempts within a time step cost a lookup instead of one HMAC per allowed step.
+ * Each accepted step is recorded per user in Mongo, and codes for that step or earlier are
+ * rejected, so a code cannot be replayed on any instance.
+ */
 @Slf4j
 @Service
 public class TotpService {
+
+    /**
+     * A decoded secret and the codes for the steps around {@code centerStep}.
+     */
+    private record WindowCodes(SecretKeySpec key, long centerStep, int[] codes) {
+    }
+
+    private static final int CODE_MODULUS = (int) Math.pow(10, TOTP_CODE_LENGTH);
+
     private final SecretGenerator secretGenerator;
-    private final CodeVerifier codeVerifier;
     private final QrGenerator qrGenerator;
     private final QrDataFactory qrDataFactory;
     private final String appName;
+    private final TotpUsedStepDao totpUsedStepDao;
+    private final Clock clock;
+    private final Base32 base32 = new Base32();
+    private final LinkedHashMap<String, WindowCodes> windowCache = new LinkedHashMap<>(16, 0.75f, true);
 
-    public TotpService(@Value("${app.name:Flashcards}") String appName) {
+    public TotpService(@Value("${app.name:Flashcards}") String appName, TotpUsedStepDao totpUsedStepDao, Clock clock) {
         this.appName = appName;
+        this.totpUsedStepDao = totpUsedStepDao;
+        this.clock = clock;
         this.secretGenerator = new DefaultSecretGenerator();
-
-        CodeGenerator codeGenerator = new DefaultCodeGenerator();
-        TimeProvider timeProvider = new SystemTimeProvider();
-        this.codeVerifier = new DefaultCodeVerifier(codeGenerator, timeProvider);
         this.qrGenerator = new ZxingPngQrGenerator();
         this.qrDataFactory = new QrDataFactory(HashingAlgorithm.SHA1, TOTP_CODE_LENGTH, TOTP_TIME_STEP_SECONDS);
     }
@@ -95,18 +123,92 @@ public class TotpService {
     }
 
     public boolean verifyCode(String secret, String code) {
+        boolean isValid = matchingStep(secret, code).isPresent();
+        log.debug("TOTP code verification result: {}", isValid);
+        return isValid;
+    }
+
+    /**
+     * Verify a code and consume its time step for the user.
+     *
+     * @throws ServiceException if the code is wrong or its step (or a later one) was already used
+     */
+    public void validateTotpCode(String userId, String secret, String code) {
+        OptionalLong step = matchingStep(secret, code);
+        if (step.isEmpty()) {
+            throw new ServiceException(AUTH_TOTP_CODE_INVALID, ErrorCode.AUTH_TOTP_INVALID);
+        }
+
+        // The step stays replayable until it leaves the window, so remember it until then
+        Date expiresAt = Date.from(Instant.ofEpochSecond((step.getAsLong() + TOTP_WINDOW + 1) * TOTP_TIME_STEP_SECONDS));
+        if (isFalse(totpUsedStepDao.markStepUsed(userId, step.getAsLong(), expiresAt))) {
+            log.warn("Rejected reused TOTP code for user: {}", userId);
+            throw new ServiceException(AUTH_TOTP_CODE_REUSED, ErrorCode.AUTH_TOTP_INVALID);
+        }
+    }
+
+    private OptionalLong matchingStep(String secret, String code) {
         if (isNotBlank(secret) && isNotBlank(code)) {
-            boolean isValid = codeVerifier.isValidCode(secret, code);
-            log.debug("TOTP code verification result: {}", isValid);
-            return isValid;
+            if (code.length() != TOTP_CODE_LENGTH || isFalse(isNumeric(code))) {
+                return OptionalLong.empty();
+            }
+            int submitted = Integer.parseInt(code);
+            long currentStep = clock.instant().getEpochSecond() / TOTP_TIME_STEP_SECONDS;
+            int[] codes = windowCodes(secret, currentStep).codes();
+
+            // Compare against every step so the time taken does not reveal which one matched
+            long matched = -1;
+            for (int i = 0; i < codes.length; i++) {
+                if (codes[i] == submitted && matched < 0) {
+                    matched = currentStep - TOTP_WINDOW + i;
+                }
+            }
+            return matched >= 0 ? OptionalLong.of(matched) : OptionalLong.empty();
         }
         log.warn(AUTH_TOTP_VERIFICATION_FAILED);
-        return false;
+        return OptionalLong.empty();
     }
 
-    public void validateTotpCode(String secret, String code) {
-        if (isFalse(verifyCode(secret, code))) {
-            throw new ServiceException(AUTH_TOTP_CODE_INVALID, ErrorCode.AUTH_TOTP_INVALID);
+    private WindowCodes windowCodes(String secret, long currentStep) {
+        WindowCodes cached;
+        synchronized (windowCache) {
+            cached = windowCache.get(secret);
+        }
+        if (nonNull(cached) && cached.centerStep() == currentStep) {
+            return cached;
+        }
+
+        SecretKeySpec key = nonNull(cached) ? cached.key() : new SecretKeySpec(base32.decode(secret), TOTP_HMAC_ALGORITHM);
+        int[] codes = new int[2 * TOTP_WINDOW + 1];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = generateCode(key, currentStep - TOTP_WINDOW + i);
+        }
+        WindowCodes computed = new WindowCodes(key, currentStep, codes);
+
+        synchronized (windowCache) {
+            windowCache.put(secret, computed);
+            if (windowCache.size() > TOTP_KEY_CACHE_MAX_ENTRIES) {
+                windowCache.remove(windowCache.keySet().iterator().next());
+            }
+        }
+        return computed;
+    }
+
+    private int generateCode(SecretKeySpec key, long step) {
+        try {
+            Mac mac = Mac.getInstance(TOTP_HMAC_ALGORITHM);
+            mac.init(key);
+            byte[] hash = mac.doFinal(ByteBuffer.allocate(Long.BYTES).putLong(step).array());
+
+            // RFC 4226 dynamic truncation
+            int offset = hash[hash.length - 1] & 0x0f;
+            int binary = ((hash[offset] & 0x7f) << 24)
+                    | ((hash[offset + 1] & 0xff) << 16)
+                    | ((hash[offset + 2] & 0xff) << 8)
+                    | (hash[offset + 3] & 0xff);
+            return binary % CODE_MODULUS;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(TOTP_HMAC_ALGORITHM + " not available", e);
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.flashcards.backend.flashcards.service.ai;
 
-import com.flashcards.backend.flashcards.dto.AIGenerateRequestDto;
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dto.AIJobDto;
 import com.flashcards.backend.flashcards.dto.AISpeechToTextRequestDto;
 import com.flashcards.backend.flashcards.dto.AISpeechToTextResponseDto;
 import com.flashcards.backend.flashcards.dto.AISummaryRequestDto;
@@ -8,21 +9,55 @@ import com.flashcards.backend.flashcards.dto.AISummaryResponseDto;
 import com.flashcards.backend.flashcards.dto.AITextToSpeechRequestDto;
 import com.flashcards.backend.flashcards.dto.AITextToSpeechResponseDto;
 import com.flashcards.backend.flashcards.dto.CreateFlashcardDto;
-import com.flashcards.backend.flashcards.enums.AIModelEnum;
+import com.flashcards.backend.flashcards.dto.ErrorResponse;
+import com.flashcards.backend.flashcards.dto.TranscriptSegmentDto;
+import com.flashcards.backend.flashcards.enums.AIJobType;
+import com.flashcards.backend.flashcards.enums.AIProviderEnum;
+import com.flashcards.backend.flashcards.enums.AudioOutputType;
 import com.flashcards.backend.flashcards.exception.ErrorCode;
 import com.flashcards.backend.flashcards.exception.ServiceException;
-import com.flashcards.backend.flashcards.service.ai.strategy.ContentToSummaryStrategy;
+import com.flashcards.backend.flashcards.service.ai.parser.FlashcardDeduplicator;
 import com.flashcards.backend.flashcards.service.ai.strategy.SpeechToTextStrategy;
-import com.flashcards.backend.flashcards.service.ai.strategy.TextToFlashcardsStrategy;
 import com.flashcards.backend.flashcards.service.ai.strategy.TextToSpeechStrategy;
+import com.flashcards.backend.flashcards.util.TextChunker;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.output.TeeOutputStream;
+import org.springframework.http.MediaType;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
+import static com.flashcards.backend.flashcards.constants.AIConstants.DEFAULT_STT_MODEL;
+import static com.flashcards.backend.flashcards.constants.AIConstants.MAX_AUDIO_FILE_SIZE_MB;
+import static com.flashcards.backend.flashcards.constants.AIConstants.MIN_TRANSCRIPT_CHUNK_CHARS;
+import static com.flashcards.backend.flashcards.constants.AIConstants.SSE_EVENT_COMPLETE;
+import static com.flashcards.backend.flashcards.constants.AIConstants.SSE_EVENT_ERROR;
+import static com.flashcards.backend.flashcards.constants.AIConstants.SSE_EVENT_FLASHCARDS;
+import static com.flashcards.backend.flashcards.constants.AIConstants.SSE_EVENT_TRANSCRIPT;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_AUDIO_CLIP_NOT_FOUND;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_AUDIO_STREAM_FAILED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_AUDIO_UNSEGMENTED_SIZE_EXCEEDED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_LONG_AUDIO_SIZE_EXCEEDED;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 /**
  * Service for handling AI audio operations (Text-to-Speech and Speech-to-Text).
@@ -35,9 +70,17 @@ public class AIAudioService {
 
     private final TextToSpeechStrategy textToSpeechStrategy;
     private final SpeechToTextStrategy speechToTextStrategy;
-    private final AIExecutionService aiExecutionService;
-    private final ContentToSummaryStrategy contentToSummaryStrategy;
-    private final TextToFlashcardsStrategy textToFlashcardsStrategy;
+    private final TranscriptProcessor transcriptProcessor;
+    private final AIBulkheadService aiBulkheadService;
+    private final ChunkedSpeechService chunkedSpeechService;
+    private final AudioClipCache audioClipCache;
+    private final LongAudioTranscriptionService longAudioTranscriptionService;
+    private final AudioUploadStager audioUploadStager;
+    private final FlashcardDeduplicator flashcardDeduplicator;
+    private final AIConfigProperties aiProperties;
+    private final AIJobService aiJobService;
+    private final ExecutorService pipelineExecutor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
 
     /**
      * Convert text to speech audio.
@@ -65,19 +108,33 @@ public class AIAudioService {
     }
 
     /**
-     * Convert text to speech audio and return raw bytes for streaming.
+     * Convert text to speech and write audio chunks to the output stream as they are synthesized.
+     * Long text is split on sentence boundaries and synthesized in parallel, then streamed in order.
      *
      * @param request The TTS request containing text, voice, and options
-     * @return Raw audio bytes
+     * @param outputStream The response stream to write MP3 audio to
      */
-    public byte[] convertTextToSpeechStream(AITextToSpeechRequestDto request) {
-        log.info("Converting text to speech stream for user: {}, outputType: {}, voice: {}",
+    public void streamTextToSpeech(AITextToSpeechRequestDto request, OutputStream outputStream) {
+        log.info("Streaming text to speech for user: {}, outputType: {}, voice: {}",
                 request.getUserId(), request.getOutputType(), request.getVoice());
 
         try {
-            AITextToSpeechResponseDto response = textToSpeechStrategy.execute(request);
-            // Decode base64 to raw bytes
-            return java.util.Base64.getDecoder().decode(response.getAudioData());
+            String text = textToSpeechStrategy.resolveStreamText(request);
+            String clipId = textToSpeechStrategy.clipId(text, request);
+            if (audioClipCache.transferTo(clipId, outputStream)) {
+                log.info("Served cached audio clip {} for user: {}", clipId, request.getUserId());
+                return;
+            }
+
+            // Spool the audio to the clip cache as it streams so the finished clip can be replayed
+            try (AudioClipCache.ClipWriter clip = audioClipCache.openWriter(clipId)) {
+                OutputStream tee = new TeeOutputStream(outputStream, clip.outputStream());
+                long bytesWritten = chunkedSpeechService.shouldChunk(text)
+                        ? chunkedSpeechService.streamChunked(text, request, tee)
+                        : executeAudioCall(() -> textToSpeechStrategy.streamAudio(text, request, tee));
+                clip.commit();
+                log.info("Streamed {} bytes of audio for user: {}", bytesWritten, request.getUserId());
+            }
         } catch (ServiceException e) {
             log.error("Service exception in text-to-speech stream conversion: {}", e.getMessage());
             throw e;
@@ -91,6 +148,48 @@ public class AIAudioService {
         }
     }
 
+    /**
+     * Clip id of a recitation request, known before synthesis since the spoken text is the input text.
+     * Summaries are generated per request, so their clip id is only known after the summary call.
+     *
+     * @param request The TTS request
+     * @return The clip id, or empty for summary requests
+     */
+    public Optional<String> findRecitationClipId(AITextToSpeechRequestDto request) {
+        if (Objects.equals(request.getOutputType(), AudioOutputType.RECITATION) && isNotBlank(request.getText())) {
+            return Optional.of(textToSpeechStrategy.clipId(request.getText(), request));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Size in bytes of a cached audio clip.
+     *
+     * @param clipId Content hash of the clip
+     * @return Clip size
+     * @throws ServiceException if the clip is not cached
+     */
+    public long getCachedClipSize(String clipId) {
+        if (isFalse(audioClipCache.isValidClipId(clipId))) {
+            throw new ServiceException(AI_AUDIO_CLIP_NOT_FOUND.formatted(clipId), ErrorCode.SERVICE_NOT_FOUND);
+        }
+        return audioClipCache.size(clipId)
+                .orElseThrow(() -> new ServiceException(
+                        AI_AUDIO_CLIP_NOT_FOUND.formatted(clipId), ErrorCode.SERVICE_NOT_FOUND));
+    }
+
+    /**
+     * Write a cached audio clip to the output stream without loading it from disk onto the heap.
+     *
+     * @param clipId Content hash of the clip
+     * @param outputStream The response stream
+     */
+    public void writeCachedClip(String clipId, OutputStream outputStream) throws IOException {
+        if (isFalse(audioClipCache.transferTo(clipId, outputStream))) {
+            throw new ServiceException(AI_AUDIO_CLIP_NOT_FOUND.formatted(clipId), ErrorCode.SERVICE_NOT_FOUND);
+        }
+    }
+
     /**
      * Convert speech to text and optionally process the transcription.
      *
@@ -103,23 +202,10 @@ public class AIAudioService {
 
         try {
             // Step 1: Transcribe audio
-            AISpeechToTextResponseDto transcriptionResponse = speechToTextStrategy.execute(request);
+            AISpeechToTextResponseDto transcriptionResponse = executeAudioCall(() -> speechToTextStrategy.execute(request));
 
             // Step 2: Process transcription if action specified
-            if (isBlank(request.getAction()) || Objects.equals(request.getAction(), "TRANSCRIPTION_ONLY")) {
-                return transcriptionResponse;
-            }
-
-            String transcribedText = transcriptionResponse.getTranscribedText();
-
-            if (Objects.equals(request.getAction(), "SUMMARY")) {
-                return processTranscriptionForSummary(transcriptionResponse, transcribedText, request);
-            } else if (Objects.equals(request.getAction(), "FLASHCARDS")) {
-                return processTranscriptionForFlashcards(transcriptionResponse, transcribedText, request);
-            } else {
-                log.warn("Unknown action type: {}, returning transcription only", request.getAction());
-                return transcriptionResponse;
-            }
+            return processTranscription(transcriptionResponse, request);
 
         } catch (ServiceException e) {
             log.error("Service exception in speech-to-text conversion: {}", e.getMessage());
@@ -134,27 +220,265 @@ public class AIAudioService {
         }
     }
 
+    /**
+     * Submit text-to-speech as a background job. The job result references the audio by clip id
+     * (fetch it from /api/audio/clips/{clipId}) instead of embedding it, unless clip caching is disabled.
+     *
+     * @param request The TTS request
+     * @param idempotencyKey Optional client key making retries return the same job
+     * @param callbackUrl Optional URL the finished job is POSTed to
+     * @return The queued job
+     */
+    public AIJobDto submitTextToSpeechJob(AITextToSpeechRequestDto request, String idempotencyKey, String callbackUrl) {
+        textToSpeechStrategy.validateInput(request);
+
+        return aiJobService.submit(AIJobType.TEXT_TO_SPEECH, idempotencyKey, callbackUrl, () -> {
+            AITextToSpeechResponseDto response = convertTextToSpeech(request);
+            if (audioClipCache.size(response.getClipId()).isPresent()) {
+                response.setAudioData(null);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Submit speech-to-text as a background job. The upload is staged before this returns and
+     * deleted once the job finishes.
+     *
+     * @param request The STT request
+     * @param idempotencyKey Optional client key making retries return the same job
+     * @param callbackUrl Optional URL the finished job is POSTed to
+     * @return The queued job
+     */
+    public AIJobDto submitSpeechToTextJob(AISpeechToTextRequestDto request, String idempotencyKey, String callbackUrl) {
+        speechToTextStrategy.validateInput(request);
+
+        // Queued jobs hold only disk; the memory budget is reserved when the job runs
+        AudioUploadStager.StagedAudio stagedAudio = audioUploadStager.stage(request.getAudioFile(), 0);
+        long sizeBytes = request.getAudioFile().getSize();
+        return aiJobService.submit(AIJobType.SPEECH_TO_TEXT, idempotencyKey, callbackUrl,
+                () -> convertStagedSpeechToText(stagedAudio, sizeBytes, request),
+                stagedAudio::close);
+    }
+
+    /**
+     * Transcribe staged audio, then apply the request's post-processing action.
+     */
+    private AISpeechToTextResponseDto convertStagedSpeechToText(AudioUploadStager.StagedAudio stagedAudio, long sizeBytes,
+                                                                AISpeechToTextRequestDto request) {
+        String transcribedText;
+        try (AudioUploadStager.Reservation ignored = audioUploadStager.reserve(sizeBytes)) {
+            transcribedText = executeAudioCall(() -> speechToTextStrategy.transcribe(stagedAudio.resource(), request));
+        }
+
+        AISpeechToTextResponseDto transcriptionResponse = AISpeechToTextResponseDto.builder()
+                .transcribedText(transcribedText)
+                .model(DEFAULT_STT_MODEL)
+                .actionPerformed(Objects.nonNull(request.getAction()) ? request.getAction() : "TRANSCRIPTION_ONLY")
+                .build();
+        return processTranscription(transcriptionResponse, request);
+    }
+
+    /**
+     * Transcribe audio and stream flashcards over SSE as each part of the transcript is processed.
+     * PCM WAV is split on silence so flashcards for early segments are generated while later segments
+     * are still being transcribed; other formats are transcribed in one call and the transcript is split
+     * into chunks whose flashcards are generated concurrently.
+     * Events: {@code transcript} per segment, {@code flashcards} with newly generated (deduplicated) cards,
+     * then {@code complete} with the full response, or {@code error}.
+     *
+     * @param request The STT request; the action is always FLASHCARDS
+     * @return Emitter the events are sent to
+     */
+    public SseEmitter streamSpeechToFlashcards(AISpeechToTextRequestDto request) {
+        log.info("Streaming speech to flashcards for user: {}, deck: {}", request.getUserId(), request.getDeckId());
+
+        request.setAction("FLASHCARDS");
+        boolean segmentable = validateStreamRequest(request);
+
+        // Stage on the request thread; the multipart part is cleaned up once the handler returns
+        AudioUploadStager.StagedAudio stagedAudio = audioUploadStager.stage(request.getAudioFile(), 0);
+        SseEmitter emitter = new SseEmitter(aiProperties.getLongAudio().getStreamTimeoutMs());
+        Future<?> pipeline;
+        try {
+            pipeline = pipelineExecutor.submit(() -> runFlashcardPipeline(stagedAudio, segmentable, request, emitter));
+        } catch (RejectedExecutionException e) {
+            stagedAudio.close();
+            throw new ServiceException("Failed to convert speech to text", ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        }
+
+        // Stop transcription and generation once nobody is listening; a no-op after normal completion
+        Runnable cancel = () -> pipeline.cancel(true);
+        emitter.onTimeout(cancel);
+        emitter.onError(error -> cancel.run());
+        emitter.onCompletion(cancel);
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pipelineExecutor.shutdownNow();
+    }
+
+    /**
+     * Validate a stream request before anything is staged.
+     *
+     * @return whether the upload is PCM WAV that can be split into segments
+     */
+    private boolean validateStreamRequest(AISpeechToTextRequestDto request) {
+        if (Objects.isNull(request.getAudioFile()) || request.getAudioFile().isEmpty()) {
+            throw new ServiceException("Audio file is required for transcription", ErrorCode.SERVICE_VALIDATION_ERROR);
+        }
+
+        int maxFileSizeMb = aiProperties.getLongAudio().getMaxFileSizeMb();
+        if (request.getAudioFile().getSize() / (1024 * 1024) > maxFileSizeMb) {
+            throw new ServiceException(
+                    AI_LONG_AUDIO_SIZE_EXCEEDED.formatted(maxFileSizeMb),
+                    ErrorCode.SERVICE_AI_INVALID_CONTENT
+            );
+        }
+
+        // Formats that cannot be segmented go to the provider in one call, so its upload limit applies
+        boolean segmentable = longAudioTranscriptionService.canSegment(request.getAudioFile());
+        if (isFalse(segmentable) && request.getAudioFile().getSize() / (1024 * 1024) > MAX_AUDIO_FILE_SIZE_MB) {
+            throw new ServiceException(
+                    AI_AUDIO_UNSEGMENTED_SIZE_EXCEEDED.formatted(MAX_AUDIO_FILE_SIZE_MB),
+                    ErrorCode.SERVICE_VALIDATION_ERROR
+            );
+        }
+
+        speechToTextStrategy.validateAction(request);
+        return segmentable;
+    }
+
+    private void runFlashcardPipeline(AudioUploadStager.StagedAudio stagedAudio, boolean segmentable,
+                                      AISpeechToTextRequestDto request, SseEmitter emitter) {
+        FlashcardEventStream stream = new FlashcardEventStream(emitter, request.getFlashcardCount());
+        try (stagedAudio) {
+            List<TranscriptSegmentDto> segments = segmentable
+                    ? streamSegmentedFlashcards(stagedAudio, request, stream)
+                    : streamChunkedFlashcards(stagedAudio, request, stream);
+
+            AISpeechToTextResponseDto response = AISpeechToTextResponseDto.builder()
+                    .transcribedText(String.join(" ", segments.stream()
+                            .map(TranscriptSegmentDto::getText)
+                            .filter(text -> !isBlank(text))
+                            .toList()))
+                    .durationSeconds(segments.getLast().getEndSeconds())
+                    .model(DEFAULT_STT_MODEL)
+                    .segments(segments)
+                    .flashcards(stream.sent())
+                    .actionPerformed("FLASHCARDS")
+                    .build();
+
+            stream.complete(response);
+            log.info("Streamed {} flashcards from {} transcript segments for user: {}",
+                    response.getFlashcards().size(), segments.size(), request.getUserId());
+        } catch (ServiceException e) {
+            log.error("Service exception in speech-to-flashcards stream: {}", e.getMessage());
+            stream.fail(e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error in speech-to-flashcards stream: {}", e.getMessage(), e);
+            stream.fail(ErrorCode.SERVICE_AI_GENERATION_ERROR, "Failed to convert speech to text");
+        }
+    }
+
+    /**
+     * Segments are transcribed in parallel; each segment's flashcards start as soon as its transcript arrives.
+     */
+    private List<TranscriptSegmentDto> streamSegmentedFlashcards(AudioUploadStager.StagedAudio stagedAudio,
+                                                                 AISpeechToTextRequestDto request,
+                                                                 FlashcardEventStream stream) {
+        return longAudioTranscriptionService.transcribeSegments(stagedAudio.path(), request,
+                (segment, segmentCount, text) -> {
+                    TranscriptSegmentDto transcript = TranscriptSegmentDto.builder()
+                            .index(segment.index())
+                            .startSeconds(segment.startSeconds())
+                            .endSeconds(segment.endSeconds())
+                            .text(text)
+                            .build();
+                    stream.send(SSE_EVENT_TRANSCRIPT, transcript);
+
+                    if (!isBlank(text)) {
+                        stream.sendFlashcards(transcriptProcessor.generateFlashcards(text, request.getUserId(),
+                                request.getDeckId(),
+                                LongAudioTranscriptionService.flashcardsPerSegment(request.getFlashcardCount(), segmentCount)));
+                    }
+                    return transcript;
+                });
+    }
+
+    /**
+     * Formats that cannot be segmented are transcribed in one call; the transcript is then split so
+     * generation runs as several smaller concurrent calls instead of one large one.
+     */
+    private List<TranscriptSegmentDto> streamChunkedFlashcards(AudioUploadStager.StagedAudio stagedAudio,
+                                                               AISpeechToTextRequestDto request,
+                                                               FlashcardEventStream stream) {
+        String text;
+        try (AudioUploadStager.Reservation ignored = audioUploadStager.reserve(request.getAudioFile().getSize())) {
+            text = executeAudioCall(() -> speechToTextStrategy.transcribe(stagedAudio.resource(), request));
+        }
+
+        TranscriptSegmentDto transcript = TranscriptSegmentDto.builder().index(0).text(text).build();
+        stream.send(SSE_EVENT_TRANSCRIPT, transcript);
+
+        if (isBlank(text)) {
+            return List.of(transcript);
+        }
+
+        int parallelism = aiProperties.getLongAudio().getMaxParallelSegments();
+        int targetChars = Math.max(MIN_TRANSCRIPT_CHUNK_CHARS, (int) Math.ceil(text.length() / (double) parallelism));
+        List<String> chunks = TextChunker.splitSentences(text, targetChars, targetChars * 2);
+        int flashcardsPerChunk = LongAudioTranscriptionService.flashcardsPerSegment(request.getFlashcardCount(), chunks.size());
+
+        List<CompletableFuture<Void>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture.runAsync(() -> stream.sendFlashcards(
+                        transcriptProcessor.generateFlashcards(chunk, request.getUserId(), request.getDeckId(),
+                                flashcardsPerChunk)), pipelineExecutor))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ServiceException(AI_AUDIO_STREAM_FAILED, ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            throw new ServiceException("Failed to convert speech to text", ErrorCode.SERVICE_AI_GENERATION_ERROR, e.getCause());
+        }
+
+        return List.of(transcript);
+    }
+
+    private AISpeechToTextResponseDto processTranscription(AISpeechToTextResponseDto transcriptionResponse,
+                                                           AISpeechToTextRequestDto request) {
+        if (isBlank(request.getAction()) || Objects.equals(request.getAction(), "TRANSCRIPTION_ONLY")) {
+            return transcriptionResponse;
+        }
+
+        String transcribedText = transcriptionResponse.getTranscribedText();
+
+        if (Objects.equals(request.getAction(), "SUMMARY")) {
+            return processTranscriptionForSummary(transcriptionResponse, transcribedText, request);
+        } else if (Objects.equals(request.getAction(), "FLASHCARDS")) {
+            return processTranscriptionForFlashcards(transcriptionResponse, transcribedText, request);
+        } else {
+            log.warn("Unknown action type: {}, returning transcription only", request.getAction());
+            return transcriptionResponse;
+        }
+    }
+
     private AISpeechToTextResponseDto processTranscriptionForSummary(
             AISpeechToTextResponseDto baseResponse,
             String transcribedText,
             AISpeechToTextRequestDto request) {
 
-        log.debug("Generating summary from transcribed text");
-
-        AISummaryRequestDto summaryRequest = AISummaryRequestDto.builder()
-                .userId(request.getUserId())
-                .sourceType(AISummaryRequestDto.SummarySourceType.TEXT)
-                .text(transcribedText)
-                .format(AISummaryRequestDto.SummaryFormat.PARAGRAPH)
-                .length(AISummaryRequestDto.SummaryLength.MEDIUM)
-                .model(AIModelEnum.GPT_4O_MINI)
-                .build();
-
-        AISummaryResponseDto summary = aiExecutionService.executeOperation(
-                contentToSummaryStrategy,
-                summaryRequest,
-                AIModelEnum.GPT_4O_MINI
-        );
+        AISummaryResponseDto summary = transcriptProcessor.summarize(
+                transcribedText, request.getUserId(), AISummaryRequestDto.SummaryLength.MEDIUM);
 
         baseResponse.setSummary(summary);
         baseResponse.setActionPerformed("SUMMARY");
@@ -167,20 +491,11 @@ public class AIAudioService {
             String transcribedText,
             AISpeechToTextRequestDto request) {
 
-        log.debug("Generating flashcards from transcribed text");
-
-        AIGenerateRequestDto flashcardRequest = AIGenerateRequestDto.builder()
-                .userId(request.getUserId())
-                .deckId(request.getDeckId())
-                .text(transcribedText)
-                .count(Objects.nonNull(request.getFlashcardCount()) ? request.getFlashcardCount() : 5)
-                .model(AIModelEnum.GPT_4O_MINI)
-                .build();
-
-        List<CreateFlashcardDto> flashcards = aiExecutionService.executeOperation(
-                textToFlashcardsStrategy,
-                flashcardRequest,
-                AIModelEnum.GPT_4O_MINI
+        List<CreateFlashcardDto> flashcards = transcriptProcessor.generateFlashcards(
+                transcribedText,
+                request.getUserId(),
+                request.getDeckId(),
+                Objects.nonNull(request.getFlashcardCount()) ? request.getFlashcardCount() : 5
         );
 
         baseResponse.setFlashcards(flashcards);
@@ -188,4 +503,73 @@ public class AIAudioService {
 
         return baseResponse;
     }
+
+    /**
+     * Run an OpenAI audio call inside the audio bulkhead.
+     */
+    private <T> T executeAudioCall(Supplier<T> call) {
+        return aiBulkheadService.execute(AIBulkheadService.audioBulkhead(AIProviderEnum.OPENAI), call);
+    }
+
+    /**
+     * SSE events of one speech-to-flashcards stream. Flashcards from concurrent segments are deduplicated
+     * against those already sent and capped at the requested count.
+     */
+    private final class FlashcardEventStream {
+        private final SseEmitter emitter;
+        private final int limit;
+        private final List<CreateFlashcardDto> sent = new ArrayList<>();
+
+        private FlashcardEventStream(SseEmitter emitter, Integer flashcardCount) {
+            this.emitter = emitter;
+            this.limit = Objects.nonNull(flashcardCount) ? flashcardCount : Integer.MAX_VALUE;
+        }
+
+        private synchronized void sendFlashcards(List<CreateFlashcardDto> flashcards) {
+            List<CreateFlashcardDto> combined = new ArrayList<>(sent);
+            combined.addAll(flashcards);
+
+            // Sent cards are already distinct and come first, so everything after them is new
+            List<CreateFlashcardDto> deduplicated = flashcardDeduplicator.deduplicate(combined);
+            List<CreateFlashcardDto> fresh = List.copyOf(deduplicated.subList(
+                    sent.size(), Math.min(deduplicated.size(), limit)));
+            if (fresh.isEmpty()) {
+                return;
+            }
+            sent.addAll(fresh);
+            send(SSE_EVENT_FLASHCARDS, fresh);
+        }
+
+        private synchronized List<CreateFlashcardDto> sent() {
+            return List.copyOf(sent);
+        }
+
+        private void send(String event, Object data) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; abort the remaining work
+                throw new ServiceException(AI_AUDIO_STREAM_FAILED, ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+            }
+        }
+
+        private void complete(AISpeechToTextResponseDto response) {
+            send(SSE_EVENT_COMPLETE, response);
+            emitter.complete();
+        }
+
+        private void fail(ErrorCode code, String message) {
+            try {
+                send(SSE_EVENT_ERROR, ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .error(code.getDefaultMessage())
+                        .code(code)
+                        .message(message)
+                        .build());
+                emitter.complete();
+            } catch (ServiceException e) {
+                log.debug("Client disconnected before the error event could be sent");
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,251 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.enums.AIProviderEnum;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.BULKHEAD_AUDIO_SUFFIX;
+import static com.flashcards.backend.flashcards.constants.AIConstants.BULKHEAD_IMAGE_SUFFIX;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_BULKHEAD_ACTIVE;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_BULKHEAD_QUEUED;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_BULKHEAD_REJECTED;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_TAG_BULKHEAD;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_TAG_REASON;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_CALL_INTERRUPTED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_CALL_TIMEOUT;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_CAPACITY_QUEUE_FULL;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_CAPACITY_WAIT_EXPIRED;
+
+/**
+ * Per-provider bulkheads for outbound AI calls.
+ * Each bulkhead bounds in-flight calls with a semaphore and waiting callers with a counter;
+ * callers beyond the queue or past the wait deadline are shed with SVC_015 (503). Parts of one batch
+ * (segments of a recording, images of a request) use executeQueued instead, so a busy provider delays
+ * the batch rather than dropping some of its parts.
+ * Provider calls run on a virtual-thread executor with the caller's security context, which lets a
+ * hung call be abandoned after the call timeout. The caller still blocks until the call finishes, so
+ * bulkheads bound provider concurrency and shed excess load; they do not free request threads.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AIBulkheadService {
+
+    private final AIConfigProperties aiProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ProviderBulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final ExecutorService providerExecutor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    public static String chatBulkhead(AIProviderEnum provider) {
+        return provider.name().toLowerCase(Locale.ROOT);
+    }
+
+    public static String imageBulkhead(AIProviderEnum provider) {
+        return chatBulkhead(provider) + BULKHEAD_IMAGE_SUFFIX;
+    }
+
+    public static String audioBulkhead(AIProviderEnum provider) {
+        return chatBulkhead(provider) + BULKHEAD_AUDIO_SUFFIX;
+    }
+
+    /**
+     * Run a provider call inside the named bulkhead, blocking the caller until it completes.
+     *
+     * @param name Bulkhead name (see chatBulkhead/imageBulkhead/audioBulkhead)
+     * @param call The blocking provider call
+     * @return The call result
+     * @throws ServiceException with SERVICE_AI_CAPACITY_EXCEEDED when shed, or SERVICE_AI_PROCESSING_TIMEOUT
+     */
+    public <T> T execute(String name, Supplier<T> call) {
+        ProviderBulkhead bulkhead = bulkheads.computeIfAbsent(name, this::createBulkhead);
+        bulkhead.acquire();
+        return run(bulkhead, call);
+    }
+
+    /**
+     * Run a provider call inside the named bulkhead, waiting as long as it takes for a permit.
+     * Not subject to the queue bound or wait deadline; callers bound their own fan-out.
+     *
+     * @param name Bulkhead name (see chatBulkhead/imageBulkhead/audioBulkhead)
+     * @param call The blocking provider call
+     * @return The call result
+     * @throws ServiceException with SERVICE_AI_PROCESSING_TIMEOUT, or SERVICE_AI_SERVICE_UNAVAILABLE if interrupted
+     */
+    public <T> T executeQueued(String name, Supplier<T> call) {
+        ProviderBulkhead bulkhead = bulkheads.computeIfAbsent(name, this::createBulkhead);
+        bulkhead.acquireQueued();
+        return run(bulkhead, call);
+    }
+
+    private <T> T run(ProviderBulkhead bulkhead, Supplier<T> call) {
+        String name = bulkhead.name;
+        AtomicBoolean started = new AtomicBoolean();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaseOnce = () -> {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        };
+        Future<T> future;
+        try {
+            future = providerExecutor.submit(() -> {
+                started.set(true);
+                try {
+                    return call.get();
+                } finally {
+                    releaseOnce.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            releaseOnce.run();
+            throw new ServiceException(AI_CAPACITY_QUEUE_FULL.formatted(name), ErrorCode.SERVICE_AI_CAPACITY_EXCEEDED, e);
+        }
+
+        long callTimeoutMs = aiProperties.getBulkhead().getCallTimeoutMs();
+        try {
+            return future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(future, started, releaseOnce);
+            throw new ServiceException(AI_CALL_TIMEOUT.formatted(name, callTimeoutMs), ErrorCode.SERVICE_AI_PROCESSING_TIMEOUT, e);
+        } catch (InterruptedException e) {
+            cancel(future, started, releaseOnce);
+            Thread.currentThread().interrupt();
+            throw new ServiceException(AI_CALL_INTERRUPTED.formatted(name), ErrorCode.SERVICE_AI_SERVICE_UNAVAILABLE, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ServiceException(cause.getMessage(), ErrorCode.SERVICE_AI_GENERATION_ERROR, cause);
+        }
+    }
+
+    /**
+     * Cancel a provider call. A task cancelled before it started never reaches its finally, so its
+     * permit is released here instead; a running task releases its own once interrupted.
+     */
+    private void cancel(Future<?> future, AtomicBoolean started, Runnable releaseOnce) {
+        if (future.cancel(true) && !started.get()) {
+            releaseOnce.run();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        providerExecutor.shutdownNow();
+    }
+
+    private ProviderBulkhead createBulkhead(String name) {
+        AIConfigProperties.Bulkhead config = aiProperties.getBulkhead();
+        int maxConcurrent = config.getMaxConcurrentByName().getOrDefault(name, config.getMaxConcurrent());
+        ProviderBulkhead bulkhead = new ProviderBulkhead(name, maxConcurrent, config.getMaxQueued(), config.getMaxWaitMs());
+
+        Gauge.builder(METRIC_BULKHEAD_ACTIVE, bulkhead, ProviderBulkhead::active)
+                .tag(METRIC_TAG_BULKHEAD, name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_BULKHEAD_QUEUED, bulkhead, b -> b.waiting.get())
+                .tag(METRIC_TAG_BULKHEAD, name)
+                .register(meterRegistry);
+
+        log.info("Created AI bulkhead {} (maxConcurrent={}, maxQueued={}, maxWaitMs={})",
+                name, maxConcurrent, config.getMaxQueued(), config.getMaxWaitMs());
+        return bulkhead;
+    }
+
+    private void recordRejection(String name, String reason) {
+        Counter.builder(METRIC_BULKHEAD_REJECTED)
+                .tags(METRIC_TAG_BULKHEAD, name, METRIC_TAG_REASON, reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private final class ProviderBulkhead {
+        private final String name;
+        private final int maxConcurrent;
+        private final int maxQueued;
+        private final long maxWaitMs;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private ProviderBulkhead(String name, int maxConcurrent, int maxQueued, long maxWaitMs) {
+            this.name = name;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.maxWaitMs = maxWaitMs;
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+
+        private void acquire() {
+            if (permits.tryAcquire()) {
+                return;
+            }
+
+            if (waiting.incrementAndGet() > maxQueued) {
+                waiting.decrementAndGet();
+                recordRejection(name, "queue_full");
+                throw new ServiceException(AI_CAPACITY_QUEUE_FULL.formatted(name), ErrorCode.SERVICE_AI_CAPACITY_EXCEEDED);
+            }
+
+            try {
+                if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                    recordRejection(name, "deadline");
+                    throw new ServiceException(
+                            AI_CAPACITY_WAIT_EXPIRED.formatted(name, maxWaitMs), ErrorCode.SERVICE_AI_CAPACITY_EXCEEDED);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceException(AI_CALL_INTERRUPTED.formatted(name), ErrorCode.SERVICE_AI_SERVICE_UNAVAILABLE, e);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private void acquireQueued() {
+            waiting.incrementAndGet();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceException(AI_CALL_INTERRUPTED.formatted(name), ErrorCode.SERVICE_AI_SERVICE_UNAVAILABLE, e);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private void release() {
+            permits.release();
+        }
+
+        private int active() {
+            return maxConcurrent - permits.availablePermits();
+        }
+    }
+}
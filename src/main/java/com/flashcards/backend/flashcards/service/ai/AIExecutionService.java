@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.anthropic.AnthropicChatOptions;
@@ -17,6 +18,7 @@ import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.vertexai.gemini.VertexAiGeminiChatOptions;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,6 +39,8 @@ public class AIExecutionService {
 
     private final ModelSelectorService modelSelectorService;
     private final AIConfigProperties aiProperties;
+    private final AIUsageService aiUsageService;
+    private final AIBulkheadService aiBulkheadService;
 
     /**
      * Execute an AI operation using the specified strategy.
@@ -70,8 +74,10 @@ public class AIExecutionService {
      * Execute the operation with automatic fallback to alternative models on failure.
      */
     private <I, O> O executeWithFallback(AIOperationStrategy<I, O> strategy, I input, AIModelEnum primaryModel) {
+        // Built once: image preprocessing must not be repeated for every fallback model
+        Message message = strategy.buildMessage(input);
         try {
-            return attemptExecution(strategy, input, primaryModel);
+            return attemptExecution(strategy, input, message, primaryModel);
         } catch (Exception primaryException) {
             log.warn("Primary model {} failed for {}: {}",
                 primaryModel.getDisplayName(), strategy.getOperationName(), primaryException.getMessage());
@@ -85,24 +91,29 @@ public class AIExecutionService {
                 );
             }
             
-            return tryFallbackModels(strategy, input, primaryModel, primaryException);
+            return tryFallbackModels(strategy, input, message, primaryModel, primaryException);
         }
     }
 
     /**
      * Attempt execution with a single model.
      */
-    private <I, O> O attemptExecution(AIOperationStrategy<I, O> strategy, I input, AIModelEnum model) {
+    private <I, O> O attemptExecution(AIOperationStrategy<I, O> strategy, I input, Message message, AIModelEnum model) {
         
         ChatModel chatModel = modelSelectorService.selectChatModel(model);
         
-        Message message = strategy.buildMessage(input);
-        
         ChatOptions chatOptions = createChatOptions(model);
         
         Prompt prompt = new Prompt(List.of(message), chatOptions);
-        String response = chatModel.call(prompt)
-                .getResult()
+        ChatResponse chatResponse = aiBulkheadService.execute(AIBulkheadService.chatBulkhead(model.getProvider()), () -> {
+            long startNanos = System.nanoTime();
+            ChatResponse callResponse = chatModel.call(prompt);
+            aiUsageService.recordUsage(model, strategy.getOperationName(),
+                    callResponse.getMetadata().getUsage(), Duration.ofNanos(System.nanoTime() - startNanos));
+            return callResponse;
+        });
+
+        String response = chatResponse.getResult()
                 .getOutput()
                 .getText();
 
@@ -118,6 +129,7 @@ public class AIExecutionService {
     private <I, O> O tryFallbackModels(
             AIOperationStrategy<I, O> strategy,
             I input,
+            Message message,
             AIModelEnum primaryModel,
             Exception primaryException) {
 
@@ -135,7 +147,7 @@ public class AIExecutionService {
                 log.info("Attempting fallback with model: {} for {}",
                     fallbackModel.getDisplayName(), strategy.getOperationName());
 
-                return attemptExecution(strategy, input, fallbackModel);
+                return attemptExecution(strategy, input, message, fallbackModel);
 
             } catch (IllegalArgumentException e) {
                 log.warn("Invalid fallback model name in configuration: {}", fallbackModelName);
@@ -1,23 +1,48 @@
 package com.flashcards.backend.flashcards.service.ai;
 
 import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dto.AITextToImageRequestDto;
+import com.flashcards.backend.flashcards.dto.AITextToImageResponseDto;
 import com.flashcards.backend.flashcards.enums.AIModelEnum;
 import com.flashcards.backend.flashcards.exception.ErrorCode;
 import com.flashcards.backend.flashcards.exception.ServiceException;
 import com.flashcards.backend.flashcards.service.ai.strategy.AIImageOperationStrategy;
+import com.flashcards.backend.flashcards.service.ai.strategy.TextToImageStrategy;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.image.ImageGeneration;
 import org.springframework.ai.image.ImageModel;
 import org.springframework.ai.image.ImagePrompt;
 import org.springframework.ai.image.ImageResponse;
 import org.springframework.ai.openai.OpenAiImageModel;
+import org.springframework.core.io.Resource;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
+import static com.flashcards.backend.flashcards.constants.AIConstants.GENERATED_IMAGE_PATH;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_ALL_MODELS_UNAVAILABLE;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_CALL_INTERRUPTED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_GENERATED_IMAGE_NOT_FOUND;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_MODEL_UNAVAILABLE_FALLBACK_DISABLED;
+import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 /**
  * Central orchestrator for AI image generation operations.
@@ -33,6 +58,79 @@ public class AIImageGenerationService {
     // Future: Inject other image models (Stability AI, etc.)
 
     private final AIConfigProperties aiProperties;
+    private final AIBulkheadService aiBulkheadService;
+    private final TextToImageStrategy textToImageStrategy;
+    private final GeneratedImageStore generatedImageStore;
+    private final ExecutorService imageCallExecutor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    /**
+     * Generate images from a text description, persisting them in the image store.
+     * An identical earlier request by the same user (same model, description, size, quality, style and
+     * count) is served from the store without calling the provider. Stored images are returned with stable
+     * {@code /api/ai/images/{imageId}} URLs instead of expiring provider URLs or inline base64.
+     *
+     * @param request The generation request
+     * @return Generated (or previously generated) images
+     */
+    public AITextToImageResponseDto generateImages(AITextToImageRequestDto request) {
+        textToImageStrategy.validateInput(request);
+        AIModelEnum model = Objects.nonNull(request.getModel()) ? request.getModel() : textToImageStrategy.getDefaultModel();
+        String requestKey = generatedImageStore.requestKey(currentUserId(), request, model);
+
+        Optional<List<String>> storedImageIds = generatedImageStore.findRequest(requestKey);
+        if (storedImageIds.isPresent()) {
+            log.info("Serving {} stored images for identical image request", storedImageIds.get().size());
+            return AITextToImageResponseDto.builder()
+                    .images(storedImageIds.get().stream().map(this::storedImage).toList())
+                    .modelUsed(model)
+                    .originalDescription(request.getDescription())
+                    .imagesRequested(request.getCount())
+                    .generatedAt(Instant.now())
+                    .generationTimeMs(0L)
+                    .cached(true)
+                    .build();
+        }
+
+        AITextToImageResponseDto response = executeImageOperation(textToImageStrategy, request, model);
+        if (isFalse(generatedImageStore.isEnabled())) {
+            return response;
+        }
+
+        List<String> imageIds = new ArrayList<>(response.getImages().size());
+        for (AITextToImageResponseDto.GeneratedImage image : response.getImages()) {
+            try {
+                String imageId = generatedImageStore.store(imageBytes(image));
+                image.setImageId(imageId);
+                image.setUrl(GENERATED_IMAGE_PATH + imageId);
+                image.setB64Json(null);
+                imageIds.add(imageId);
+            } catch (IOException | ServiceException e) {
+                // The provider result is still usable, it just won't outlive the provider URL
+                log.warn("Failed to store generated image, returning provider result: {}", e.getMessage());
+            }
+        }
+
+        // Index only complete results so a cache hit always returns every requested image
+        if (imageIds.size() == response.getImages().size() && imageIds.size() == request.getCount()) {
+            generatedImageStore.putRequest(requestKey, imageIds);
+        }
+        return response;
+    }
+
+    /**
+     * A stored generated image.
+     *
+     * @param imageId Content hash of the image
+     * @return The image file
+     */
+    public Resource getStoredImage(String imageId) {
+        return generatedImageStore.find(imageId)
+                .orElseThrow(() -> new ServiceException(
+                        AI_GENERATED_IMAGE_NOT_FOUND.formatted(imageId),
+                        ErrorCode.SERVICE_NOT_FOUND
+                ));
+    }
 
     /**
      * Execute an AI image generation operation using the specified strategy.
@@ -92,8 +190,12 @@ public class AIImageGenerationService {
         // Build the image prompt
         ImagePrompt imagePrompt = strategy.buildImagePrompt(input);
 
-        // Call the image model
-        ImageResponse imageResponse = imageModel.call(imagePrompt);
+        // Models limited to fewer images per call than requested get parallel calls, merged into one response
+        int imageCount = strategy.getImageCount(input);
+        int calls = (imageCount + strategy.getMaxImagesPerCall(model) - 1) / strategy.getMaxImagesPerCall(model);
+        ImageResponse imageResponse = calls <= 1
+                ? callImageModel(imageModel, imagePrompt, model)
+                : fanOut(imageModel, imagePrompt, model, calls, imageCount);
 
         log.debug("Received image generation response from {} for {}",
             model.getDisplayName(), strategy.getOperationName());
@@ -102,6 +204,62 @@ public class AIImageGenerationService {
         return strategy.parseResponse(imageResponse, input);
     }
 
+    private ImageResponse callImageModel(ImageModel imageModel, ImagePrompt imagePrompt, AIModelEnum model) {
+        return aiBulkheadService.execute(
+                AIBulkheadService.imageBulkhead(model.getProvider()), () -> imageModel.call(imagePrompt));
+    }
+
+    /**
+     * Issue the calls concurrently and merge their images. The calls queue for the image bulkhead
+     * without its wait deadline, so a busy provider delays the batch instead of shrinking it. Images of
+     * failed calls are left out; the request fails only when no call returns any.
+     */
+    private ImageResponse fanOut(ImageModel imageModel, ImagePrompt imagePrompt, AIModelEnum model,
+                                 int calls, int imageCount) {
+        String bulkhead = AIBulkheadService.imageBulkhead(model.getProvider());
+        // Plain Futures, unlike CompletableFutures, interrupt on cancel, so calls still queued for a permit stop
+        List<Future<ImageResponse>> responses = IntStream.range(0, calls)
+                .mapToObj(call -> imageCallExecutor.submit(
+                        () -> aiBulkheadService.executeQueued(bulkhead, () -> imageModel.call(imagePrompt))))
+                .toList();
+
+        List<ImageGeneration> generations = new ArrayList<>(imageCount);
+        Throwable failure = null;
+        int failedCalls = 0;
+        try {
+            for (Future<ImageResponse> response : responses) {
+                try {
+                    generations.addAll(response.get().getResults());
+                } catch (ExecutionException e) {
+                    failedCalls++;
+                    failure = e.getCause();
+                    log.warn("Image call to {} failed: {}", model.getDisplayName(), failure.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            responses.forEach(response -> response.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ServiceException(AI_CALL_INTERRUPTED.formatted(model.getDisplayName()),
+                    ErrorCode.SERVICE_AI_SERVICE_UNAVAILABLE, e);
+        }
+
+        if (generations.isEmpty()) {
+            throw failure instanceof RuntimeException cause ? cause
+                    : new ServiceException(ErrorCode.SERVICE_AI_GENERATION_ERROR.getDefaultMessage(),
+                            ErrorCode.SERVICE_AI_GENERATION_ERROR, failure);
+        }
+        if (generations.size() < imageCount) {
+            log.warn("Returning {} of {} requested images from {}, {} of {} calls failed",
+                    generations.size(), imageCount, model.getDisplayName(), failedCalls, calls);
+        }
+        return new ImageResponse(generations.subList(0, Math.min(generations.size(), imageCount)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        imageCallExecutor.shutdownNow();
+    }
+
     /**
      * Try fallback models in sequence.
      */
@@ -159,6 +317,19 @@ public class AIImageGenerationService {
         };
     }
 
+    private AITextToImageResponseDto.GeneratedImage storedImage(String imageId) {
+        return AITextToImageResponseDto.GeneratedImage.builder()
+                .imageId(imageId)
+                .url(GENERATED_IMAGE_PATH + imageId)
+                .build();
+    }
+
+    private byte[] imageBytes(AITextToImageResponseDto.GeneratedImage image) {
+        return isNotBlank(image.getB64Json())
+                ? Base64.getDecoder().decode(image.getB64Json())
+                : generatedImageStore.download(image.getUrl());
+    }
+
     /**
      * Check if the model supports image generation.
      */
@@ -167,4 +338,13 @@ public class AIImageGenerationService {
         // Gemini does NOT support image generation (only vision input)
         return model.getModelId().contains("dall-e");
     }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (isNull(authentication) || isNull(authentication.getName())) {
+            throw new ServiceException(ErrorCode.SERVICE_AUTHORIZATION_ERROR.getDefaultMessage(),
+                    ErrorCode.SERVICE_AUTHORIZATION_ERROR);
+        }
+        return authentication.getName();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,344 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dao.AIJobDao;
+import com.flashcards.backend.flashcards.dto.AIJobDto;
+import com.flashcards.backend.flashcards.enums.AIJobStatus;
+import com.flashcards.backend.flashcards.enums.AIJobType;
+import com.flashcards.backend.flashcards.exception.DaoException;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.mapper.AIJobMapper;
+import com.flashcards.backend.flashcards.model.AIJob;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.AI_JOB_DEFAULT_INSTANCE_ID;
+import static com.flashcards.backend.flashcards.constants.AIConstants.AI_JOB_THREAD_PREFIX;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_JOB_CALLBACK_NOT_ALLOWED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_JOB_IDEMPOTENCY_CONFLICT;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_JOB_INTERRUPTED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_JOB_RESULT_NOT_SAVED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_JOB_QUEUE_FULL;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_AI_JOB;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.SERVICE_ENTITY_NOT_FOUND;
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Runs AI operations in the background so the submitting request returns immediately.
+ * Jobs are persisted in Mongo (expiring after the result TTL) and executed on a bounded pool;
+ * when the queue is full new submissions are rejected with a capacity error instead of piling up.
+ * Clients poll the job or receive it on an allow-listed callback URL. Resubmitting with the same
+ * idempotency key returns the existing job without running the operation again.
+ * Jobs live in this instance's memory, so on startup the jobs it lost in a restart are marked failed.
+ */
+@Slf4j
+@Service
+public class AIJobService {
+
+    private static final Runnable NO_CLEANUP = () -> { };
+
+    private final AIJobDao aiJobDao;
+    private final AIJobMapper aiJobMapper;
+    private final AIConfigProperties aiProperties;
+    private final ExecutorService jobExecutor;
+    private final RestClient callbackClient;
+    private final String instanceId;
+    private final LocalDateTime instanceStartedAt = LocalDateTime.now();
+
+    public AIJobService(AIJobDao aiJobDao, AIJobMapper aiJobMapper, AIConfigProperties aiProperties) {
+        this.aiJobDao = aiJobDao;
+        this.aiJobMapper = aiJobMapper;
+        this.aiProperties = aiProperties;
+
+        AIConfigProperties.Jobs config = aiProperties.getJobs();
+        this.instanceId = isNotBlank(config.getInstanceId()) ? config.getInstanceId() : hostName();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                config.getMaxConcurrent(), config.getMaxConcurrent(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getMaxQueued()),
+                Thread.ofPlatform().name(AI_JOB_THREAD_PREFIX, 0).daemon(true).factory());
+        this.jobExecutor = new DelegatingSecurityContextExecutorService(executor);
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(config.getCallbackTimeoutMs()));
+        requestFactory.setReadTimeout(Duration.ofMillis(config.getCallbackTimeoutMs()));
+        this.callbackClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    /**
+     * Submit an operation to run in the background.
+     *
+     * @param type Operation type
+     * @param idempotencyKey Optional client key; a repeated key returns the existing job
+     * @param callbackUrl Optional https URL the finished job is POSTed to
+     * @param operation The operation; its return value becomes the job result
+     * @return The queued job, or the existing job for a repeated idempotency key
+     */
+    public AIJobDto submit(AIJobType type, String idempotencyKey, String callbackUrl, Supplier<?> operation) {
+        return submit(type, idempotencyKey, callbackUrl, operation, NO_CLEANUP);
+    }
+
+    /**
+     * Submit an operation that holds resources (e.g. a staged upload) until it finishes.
+     * The cleanup runs exactly once: after the job finishes, or immediately if the job is not run
+     * because it was a duplicate or was rejected.
+     */
+    public AIJobDto submit(AIJobType type, String idempotencyKey, String callbackUrl,
+                           Supplier<?> operation, Runnable cleanup) {
+        Runnable cleanupOnce = runOnce(cleanup);
+        try {
+            String userId = currentUserId();
+            validateCallbackUrl(callbackUrl);
+
+            if (isNotBlank(idempotencyKey)) {
+                AIJob existing = aiJobDao.findByUserIdAndIdempotencyKey(userId, idempotencyKey).orElse(null);
+                if (Objects.nonNull(existing)) {
+                    cleanupOnce.run();
+                    return existingJob(existing, type);
+                }
+            }
+
+            String jobId = new ObjectId().toHexString();
+            LocalDateTime now = LocalDateTime.now();
+            AIJob job = AIJob.builder()
+                    .id(jobId)
+                    .userId(userId)
+                    .type(type)
+                    .status(AIJobStatus.QUEUED)
+                    .idempotencyKey(isBlank(idempotencyKey) ? jobId : idempotencyKey)
+                    .callbackUrl(callbackUrl)
+                    .instanceId(instanceId)
+                    .createdAt(now)
+                    .expiresAt(expiryFrom(now))
+                    .build();
+
+            try {
+                job = aiJobDao.insert(job);
+            } catch (DaoException e) {
+                if (e.getErrorCode() != ErrorCode.DAO_DUPLICATE_ERROR) {
+                    throw e;
+                }
+                // Lost a race with a concurrent submit of the same key
+                cleanupOnce.run();
+                return existingJob(aiJobDao.findByUserIdAndIdempotencyKey(userId, idempotencyKey).orElseThrow(), type);
+            }
+
+            AIJob queued = job;
+            try {
+                jobExecutor.execute(() -> run(queued, operation, cleanupOnce));
+            } catch (RejectedExecutionException e) {
+                aiJobDao.deleteById(jobId);
+                cleanupOnce.run();
+                log.warn("AI job queue full, rejecting {} job for user {}", type, userId);
+                throw new ServiceException(AI_JOB_QUEUE_FULL, ErrorCode.SERVICE_AI_CAPACITY_EXCEEDED);
+            }
+
+            log.info("Queued {} job {} for user {}", type, jobId, userId);
+            return aiJobMapper.toDto(job);
+        } catch (RuntimeException e) {
+            cleanupOnce.run();
+            throw e;
+        }
+    }
+
+    /**
+     * Current state of a job owned by the calling user.
+     *
+     * @param jobId The job
+     * @return Job status and, once finished, its result or error
+     */
+    public AIJobDto getJob(String jobId) {
+        String userId = currentUserId();
+        return aiJobDao.findById(jobId)
+                .filter(job -> Objects.equals(job.getUserId(), userId))
+                .map(aiJobMapper::toDto)
+                .orElseThrow(() -> new ServiceException(
+                        SERVICE_ENTITY_NOT_FOUND.formatted(ENTITY_AI_JOB, jobId),
+                        ErrorCode.SERVICE_NOT_FOUND
+                ));
+    }
+
+    /**
+     * Fail the jobs this instance accepted before it (re)started; nothing is running them any more.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long failed = aiJobDao.failUnfinished(instanceId, instanceStartedAt,
+                    ErrorCode.SERVICE_AI_SERVICE_UNAVAILABLE, AI_JOB_INTERRUPTED, now, expiryFrom(now));
+            if (failed > 0) {
+                log.warn("Marked {} AI jobs interrupted by a restart of instance {} as failed", failed, instanceId);
+            }
+        } catch (DaoException e) {
+            log.error("Failed to recover interrupted AI jobs: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void run(AIJob job, Supplier<?> operation, Runnable cleanup) {
+        try {
+            job.setStatus(AIJobStatus.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+            aiJobDao.save(job);
+
+            job.setResult(operation.get());
+            job.setStatus(AIJobStatus.SUCCEEDED);
+        } catch (ServiceException e) {
+            log.warn("{} job {} failed: {}", job.getType(), job.getId(), e.getMessage());
+            fail(job, e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("{} job {} failed unexpectedly: {}", job.getType(), job.getId(), e.getMessage(), e);
+            fail(job, ErrorCode.SERVICE_AI_GENERATION_ERROR, ErrorCode.SERVICE_AI_GENERATION_ERROR.getDefaultMessage());
+        } finally {
+            cleanup.run();
+        }
+
+        job.setCompletedAt(LocalDateTime.now());
+        job.setExpiresAt(expiryFrom(job.getCompletedAt()));
+        saveFinished(job);
+        log.info("{} job {} finished {}", job.getType(), job.getId(), job.getStatus());
+
+        notifyCallback(job);
+    }
+
+    /**
+     * Persist a finished job. If that fails (the result may be too large, or Mongo briefly unavailable)
+     * the job is saved again as failed without its result, so pollers do not see it running forever.
+     */
+    private void saveFinished(AIJob job) {
+        try {
+            aiJobDao.save(job);
+            return;
+        } catch (DaoException e) {
+            log.warn("Failed to save finished {} job {}, saving it as failed: {}", job.getType(), job.getId(), e.getMessage());
+        }
+
+        job.setResult(null);
+        fail(job, ErrorCode.SERVICE_AI_SERVICE_UNAVAILABLE, AI_JOB_RESULT_NOT_SAVED);
+        try {
+            aiJobDao.save(job);
+        } catch (DaoException e) {
+            // Left RUNNING; failInterruptedJobs fails it on the next restart and the TTL removes it
+            log.error("Failed to save {} job {} as failed: {}", job.getType(), job.getId(), e.getMessage());
+        }
+    }
+
+    private void fail(AIJob job, ErrorCode errorCode, String message) {
+        job.setStatus(AIJobStatus.FAILED);
+        job.setErrorCode(errorCode);
+        job.setErrorMessage(message);
+    }
+
+    private void notifyCallback(AIJob job) {
+        if (isBlank(job.getCallbackUrl())) {
+            return;
+        }
+        try {
+            callbackClient.post()
+                    .uri(job.getCallbackUrl())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(aiJobMapper.toDto(job))
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (Exception e) {
+            // The result stays available for polling, so a failed callback is not fatal
+            log.warn("Callback for job {} to {} failed: {}", job.getId(), job.getCallbackUrl(), e.getMessage());
+        }
+    }
+
+    private AIJobDto existingJob(AIJob existing, AIJobType type) {
+        if (existing.getType() != type) {
+            throw new ServiceException(
+                    AI_JOB_IDEMPOTENCY_CONFLICT.formatted(existing.getIdempotencyKey(), existing.getType()),
+                    ErrorCode.SERVICE_DUPLICATE_ERROR
+            );
+        }
+        log.info("Returning existing {} job {} for idempotency key", type, existing.getId());
+        return aiJobMapper.toDto(existing);
+    }
+
+    private void validateCallbackUrl(String callbackUrl) {
+        if (isBlank(callbackUrl)) {
+            return;
+        }
+        try {
+            URI uri = URI.create(callbackUrl);
+            boolean allowed = "https".equalsIgnoreCase(uri.getScheme())
+                    && isNotBlank(uri.getHost())
+                    && aiProperties.getJobs().getCallbackAllowedHosts().stream()
+                            .anyMatch(host -> host.equalsIgnoreCase(uri.getHost()));
+            if (allowed) {
+                return;
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Invalid callback URL {}: {}", callbackUrl, e.getMessage());
+        }
+        throw new ServiceException(AI_JOB_CALLBACK_NOT_ALLOWED.formatted(callbackUrl), ErrorCode.SERVICE_VALIDATION_ERROR);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return AI_JOB_DEFAULT_INSTANCE_ID;
+        }
+    }
+
+    private Runnable runOnce(Runnable cleanup) {
+        AtomicBoolean done = new AtomicBoolean();
+        return () -> {
+            if (done.compareAndSet(false, true)) {
+                cleanup.run();
+            }
+        };
+    }
+
+    private Date expiryFrom(LocalDateTime time) {
+        return Date.from(time.plusHours(aiProperties.getJobs().getResultTtlHours())
+                .atZone(ZoneId.systemDefault())
+                .toInstant());
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (isNull(authentication) || isNull(authentication.getName())) {
+            throw new ServiceException(ErrorCode.SERVICE_AUTHORIZATION_ERROR.getDefaultMessage(),
+                    ErrorCode.SERVICE_AUTHORIZATION_ERROR);
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,218 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dao.AIUsageDao;
+import com.flashcards.backend.flashcards.dto.AIUsageDto;
+import com.flashcards.backend.flashcards.enums.AIModelEnum;
+import com.flashcards.backend.flashcards.mapper.AIUsageMapper;
+import com.flashcards.backend.flashcards.model.AIUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_AI_CALLS;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_AI_COST;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_AI_LATENCY;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_AI_TOKENS;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_TAG_MODEL;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_TAG_OPERATION;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_TAG_TOKEN_TYPE;
+import static com.flashcards.backend.flashcards.constants.AIConstants.TOKENS_PER_COST_UNIT;
+import static com.flashcards.backend.flashcards.constants.AIConstants.TOKEN_TYPE_CACHED;
+import static com.flashcards.backend.flashcards.constants.AIConstants.TOKEN_TYPE_COMPLETION;
+import static com.flashcards.backend.flashcards.constants.AIConstants.TOKEN_TYPE_PROMPT;
+import static com.flashcards.backend.flashcards.constants.AIConstants.USAGE_ANONYMOUS_USER;
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Aggregates AI token usage and latency per (user, model, operation).
+ * Hot-path recording only touches LongAdders; totals are flushed to Mongo on a schedule.
+ * Micrometer meters are tagged by model and operation only to keep metric cardinality bounded.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AIUsageService {
+
+    private final AIUsageDao aiUsageDao;
+    private final AIUsageMapper aiUsageMapper;
+    private final AIConfigProperties aiProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UsageKey, UsageCounters> counters = new ConcurrentHashMap<>();
+    private volatile LocalDateTime periodStart = LocalDateTime.now();
+
+    /**
+     * Record one completed AI call for the current authenticated user.
+     */
+    public void recordUsage(AIModelEnum model, String operation, Usage usage, Duration latency) {
+        if (isFalse(aiProperties.getUsage().isEnabled())) {
+            return;
+        }
+
+        long promptTokens = tokens(isNull(usage) ? null : usage.getPromptTokens());
+        long completionTokens = tokens(isNull(usage) ? null : usage.getCompletionTokens());
+        long cachedTokens = extractCachedTokens(usage);
+        double cost = (promptTokens + completionTokens) / TOKENS_PER_COST_UNIT * model.getCostPer1kTokens();
+
+        // Increment inside compute so flush cannot drop the entry between lookup and increment
+        counters.compute(new UsageKey(currentUserId(), model.getModelId(), operation), (key, existing) -> {
+            UsageCounters usageCounters = isNull(existing) ? new UsageCounters() : existing;
+            usageCounters.calls.increment();
+            usageCounters.promptTokens.add(promptTokens);
+            usageCounters.completionTokens.add(completionTokens);
+            usageCounters.cachedTokens.add(cachedTokens);
+            usageCounters.latencyMs.add(latency.toMillis());
+            usageCounters.cost.add(cost);
+            return usageCounters;
+        });
+
+        String modelId = model.getModelId();
+        Counter.builder(METRIC_AI_CALLS)
+                .tags(METRIC_TAG_MODEL, modelId, METRIC_TAG_OPERATION, operation)
+                .register(meterRegistry)
+                .increment();
+        tokenCounter(modelId, operation, TOKEN_TYPE_PROMPT).increment(promptTokens);
+        tokenCounter(modelId, operation, TOKEN_TYPE_COMPLETION).increment(completionTokens);
+        tokenCounter(modelId, operation, TOKEN_TYPE_CACHED).increment(cachedTokens);
+        Counter.builder(METRIC_AI_COST)
+                .tags(METRIC_TAG_MODEL, modelId, METRIC_TAG_OPERATION, operation)
+                .baseUnit("usd")
+                .register(meterRegistry)
+                .increment(cost);
+        Timer.builder(METRIC_AI_LATENCY)
+                .tags(METRIC_TAG_MODEL, modelId, METRIC_TAG_OPERATION, operation)
+                .register(meterRegistry)
+                .record(latency);
+    }
+
+    /**
+     * Usage accumulated since the last flush, without resetting the counters.
+     */
+    public List<AIUsageDto> getCurrentUsage() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AIUsage> snapshot = new ArrayList<>();
+        counters.forEach((key, value) -> {
+            if (value.calls.sum() > 0) {
+                snapshot.add(toUsage(key, value, false, now));
+            }
+        });
+        return aiUsageMapper.toDtoList(snapshot);
+    }
+
+    /**
+     * Persisted usage, optionally restricted to a single user.
+     */
+    public List<AIUsageDto> getPersistedUsage(String userId, LocalDateTime since) {
+        List<AIUsage> usages = isNotBlank(userId)
+                ? aiUsageDao.findByUserIdAndPeriodStartAfter(userId, since)
+                : aiUsageDao.findByPeriodStartAfter(since);
+        return aiUsageMapper.toDtoList(usages);
+    }
+
+    /**
+     * Drain the in-memory counters into the ai_usage collection.
+     * Keys with no activity during the period are dropped to keep the map bounded.
+     */
+    @Scheduled(fixedDelayString = "${ai.usage.flush-interval-ms:60000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AIUsage> drained = new ArrayList<>();
+
+        counters.keySet().forEach(key -> counters.computeIfPresent(key, (k, value) -> {
+            if (value.calls.sum() == 0) {
+                return null;
+            }
+            drained.add(toUsage(k, value, true, now));
+            return value;
+        }));
+        periodStart = now;
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            aiUsageDao.saveAll(drained);
+            log.debug("Flushed {} AI usage aggregates", drained.size());
+        } catch (Exception e) {
+            log.warn("Failed to flush {} AI usage aggregates: {}", drained.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private AIUsage toUsage(UsageKey key, UsageCounters value, boolean reset, LocalDateTime now) {
+        return AIUsage.builder()
+                .userId(key.userId())
+                .model(key.model())
+                .operation(key.operation())
+                .callCount(reset ? value.calls.sumThenReset() : value.calls.sum())
+                .promptTokens(reset ? value.promptTokens.sumThenReset() : value.promptTokens.sum())
+                .completionTokens(reset ? value.completionTokens.sumThenReset() : value.completionTokens.sum())
+                .cachedTokens(reset ? value.cachedTokens.sumThenReset() : value.cachedTokens.sum())
+                .totalLatencyMs(reset ? value.latencyMs.sumThenReset() : value.latencyMs.sum())
+                .estimatedCost(reset ? value.cost.sumThenReset() : value.cost.sum())
+                .periodStart(periodStart)
+                .periodEnd(now)
+                .build();
+    }
+
+    private Counter tokenCounter(String modelId, String operation, String tokenType) {
+        return Counter.builder(METRIC_AI_TOKENS)
+                .tags(METRIC_TAG_MODEL, modelId, METRIC_TAG_OPERATION, operation, METRIC_TAG_TOKEN_TYPE, tokenType)
+                .register(meterRegistry);
+    }
+
+    private long extractCachedTokens(Usage usage) {
+        if (isNull(usage) || !(usage.getNativeUsage() instanceof OpenAiApi.Usage openAiUsage)) {
+            return 0;
+        }
+        return isNull(openAiUsage.promptTokensDetails()) ? 0 : tokens(openAiUsage.promptTokensDetails().cachedTokens());
+    }
+
+    private long tokens(Integer count) {
+        return isNull(count) ? 0 : count;
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return isNull(authentication) || isNull(authentication.getName())
+                ? USAGE_ANONYMOUS_USER
+                : authentication.getName();
+    }
+
+    private record UsageKey(String userId, String model, String operation) {}
+
+    private static final class UsageCounters {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder promptTokens = new LongAdder();
+        private final LongAdder completionTokens = new LongAdder();
+        private final LongAdder cachedTokens = new LongAdder();
+        private final LongAdder latencyMs = new LongAdder();
+        private final DoubleAdder cost = new DoubleAdder();
+    }
+}
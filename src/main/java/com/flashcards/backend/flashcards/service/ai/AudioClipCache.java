@@ -0,0 +1,305 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.AUDIO_CLIP_FILE_EXTENSION;
+import static com.flashcards.backend.flashcards.util.HashUtils.sha256Hex;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+
+/**
+ * Content-addressed cache for synthesized speech.
+ * Clips are keyed by SHA-256 of (model, voice, speed, text), so identical requests share one clip.
+ * Hot clips live in a byte-budgeted in-memory LRU; every clip is also written to a directory and
+ * served from there with FileChannel.transferTo, so replays never re-buffer the file on the heap.
+ * The first stored clip for an id wins, so every reader of an id gets the same bytes until it is trimmed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AudioClipCache {
+
+    private static final Pattern CLIP_ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final AIConfigProperties aiProperties;
+    private final LinkedHashMap<String, byte[]> hotClips = new LinkedHashMap<>(16, 0.75f, true);
+    private long hotBytes;
+
+    @PostConstruct
+    void createDirectory() throws IOException {
+        if (aiProperties.getTtsCache().isEnabled()) {
+            Files.createDirectories(directory());
+        }
+    }
+
+    /**
+     * Content hash identifying the clip for the given synthesis inputs.
+     */
+    public String clipId(String text, String voice, double speed, String model) {
+        String material = String.join("\u0000", model, voice, String.format(Locale.ROOT, "%.2f", speed), text);
+        return sha256Hex(material);
+    }
+
+    public boolean isValidClipId(String clipId) {
+        return nonNull(clipId) && CLIP_ID_PATTERN.matcher(clipId).matches();
+    }
+
+    /**
+     * Return the cached clip, synthesizing and storing it on a miss.
+     */
+    public byte[] getOrCompute(String clipId, Supplier<byte[]> synthesizer) {
+        return get(clipId).orElseGet(() -> {
+            byte[] clip = synthesizer.get();
+            put(clipId, clip);
+            return clip;
+        });
+    }
+
+    public Optional<byte[]> get(String clipId) {
+        if (isFalse(aiProperties.getTtsCache().isEnabled())) {
+            return Optional.empty();
+        }
+
+        byte[] hot = getHot(clipId);
+        if (nonNull(hot)) {
+            return Optional.of(hot);
+        }
+
+        Path file = pathFor(clipId);
+        try {
+            byte[] clip = Files.readAllBytes(file);
+            touch(file);
+            putHot(clipId, clip);
+            return Optional.of(clip);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Failed to read cached clip {}: {}", clipId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public OptionalLong size(String clipId) {
+        if (isFalse(aiProperties.getTtsCache().isEnabled())) {
+            return OptionalLong.empty();
+        }
+
+        byte[] hot = getHot(clipId);
+        if (nonNull(hot)) {
+            return OptionalLong.of(hot.length);
+        }
+
+        try {
+            return OptionalLong.of(Files.size(pathFor(clipId)));
+        } catch (IOException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Write a cached clip to the output stream.
+     *
+     * @return false if the clip is not cached
+     */
+    public boolean transferTo(String clipId, OutputStream outputStream) throws IOException {
+        if (isFalse(aiProperties.getTtsCache().isEnabled())) {
+            return false;
+        }
+
+        byte[] hot = getHot(clipId);
+        if (nonNull(hot)) {
+            outputStream.write(hot);
+            return true;
+        }
+
+        Path file = pathFor(clipId);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long size = channel.size();
+            for (long position = 0; position < size; ) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        touch(file);
+        return true;
+    }
+
+    public void put(String clipId, byte[] clip) {
+        if (isFalse(aiProperties.getTtsCache().isEnabled()) || clip.length == 0) {
+            return;
+        }
+
+        Path file = pathFor(clipId);
+        if (Files.exists(file)) {
+            return;
+        }
+        putHot(clipId, clip);
+        try {
+            // Write then rename so concurrent readers never see a partial clip
+            Path temp = Files.createTempFile(directory(), clipId, ".tmp");
+            Files.write(temp, clip);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Failed to store clip {} on disk: {}", clipId, e.getMessage());
+        }
+    }
+
+    /**
+     * Open a writer that spools a clip to disk while it is being produced, so streamed audio is
+     * cached without holding it on the heap. Nothing is cached unless the writer is committed.
+     */
+    public ClipWriter openWriter(String clipId) throws IOException {
+        if (isFalse(aiProperties.getTtsCache().isEnabled())) {
+            return new ClipWriter(clipId, null, OutputStream.nullOutputStream());
+        }
+        Path temp = Files.createTempFile(directory(), clipId, ".tmp");
+        return new ClipWriter(clipId, temp, new BufferedOutputStream(Files.newOutputStream(temp)));
+    }
+
+    /**
+     * Temp file receiving a clip; {@link #commit()} publishes it, {@link #close()} discards it otherwise.
+     */
+    public final class ClipWriter implements Closeable {
+        private final String clipId;
+        private final Path temp;
+        private final OutputStream outputStream;
+
+        private ClipWriter(String clipId, Path temp, OutputStream outputStream) {
+            this.clipId = clipId;
+            this.temp = temp;
+            this.outputStream = outputStream;
+        }
+
+        public OutputStream outputStream() {
+            return outputStream;
+        }
+
+        public void commit() throws IOException {
+            outputStream.close();
+            if (isNull(temp) || Files.size(temp) == 0 || Files.exists(pathFor(clipId))) {
+                return;
+            }
+            Files.move(temp, pathFor(clipId), StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            outputStream.close();
+            if (nonNull(temp)) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * Delete least recently used clips once the directory exceeds its byte budget.
+     */
+    @Scheduled(fixedDelayString = "${ai.tts-cache.trim-interval-ms:600000}")
+    public void trimDisk() {
+        if (isFalse(aiProperties.getTtsCache().isEnabled())) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(directory())) {
+            List<Path> clips = files
+                    .filter(path -> path.getFileName().toString().endsWith(AUDIO_CLIP_FILE_EXTENSION))
+                    .sorted(Comparator.comparing(this::lastModified).reversed())
+                    .toList();
+
+            long budget = aiProperties.getTtsCache().getDiskMaxBytes();
+            long used = 0;
+            int deleted = 0;
+            for (Path clip : clips) {
+                used += Files.size(clip);
+                if (used > budget) {
+                    Files.deleteIfExists(clip);
+                    deleted++;
+                }
+            }
+            if (deleted > 0) {
+                log.info("Trimmed {} cached audio clips over the {} byte budget", deleted, budget);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to trim audio clip cache: {}", e.getMessage());
+        }
+    }
+
+    private synchronized byte[] getHot(String clipId) {
+        return hotClips.get(clipId);
+    }
+
+    private synchronized void putHot(String clipId, byte[] clip) {
+        long budget = aiProperties.getTtsCache().getMemoryMaxBytes();
+        if (clip.length > budget) {
+            return;
+        }
+
+        byte[] previous = hotClips.put(clipId, clip);
+        hotBytes += clip.length - (nonNull(previous) ? previous.length : 0);
+
+        Iterator<Map.Entry<String, byte[]>> eldest = hotClips.entrySet().iterator();
+        while (hotBytes > budget && eldest.hasNext()) {
+            hotBytes -= eldest.next().getValue().length;
+            eldest.remove();
+        }
+    }
+
+    private Path directory() {
+        return Path.of(aiProperties.getTtsCache().getDirectory());
+    }
+
+    private Path pathFor(String clipId) {
+        return directory().resolve(clipId + AUDIO_CLIP_FILE_EXTENSION);
+    }
+
+    private void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("Failed to touch cached clip {}: {}", file, e.getMessage());
+        }
+    }
+
+    private FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
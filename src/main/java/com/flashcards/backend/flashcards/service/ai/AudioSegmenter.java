@@ -0,0 +1,239 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.springframework.stereotype.Component;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_LONG_AUDIO_FORMAT_UNSUPPORTED;
+
+/**
+ * Splits PCM WAV audio into segments at pauses in speech.
+ * A first pass records the RMS energy of each short window; segments are then cut in the middle of
+ * the first long-enough silence after the target length, or at the quietest window if the hard
+ * maximum is reached first. A second pass copies each segment into its own WAV file.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AudioSegmenter {
+
+    private static final int WAV_HEADER_BYTES = 44;
+
+    private final AIConfigProperties aiProperties;
+
+    /**
+     * A segment written to disk, with its position in the original recording.
+     */
+    public record AudioSegment(int index, Path file, double startSeconds, double endSeconds) {
+    }
+
+    /**
+     * Split a WAV file on silence.
+     *
+     * @param wavFile PCM WAV input
+     * @param outputDirectory Directory to write segment files to
+     * @return Segments in order
+     */
+    public List<AudioSegment> split(Path wavFile, Path outputDirectory) {
+        try {
+            AudioFormat format;
+            float[] energies;
+            long totalFrames;
+            try (AudioInputStream input = openPcm(wavFile)) {
+                format = input.getFormat();
+                energies = windowEnergies(input, windowFrames(format));
+                totalFrames = input.getFrameLength() == AudioSystem.NOT_SPECIFIED
+                        ? (long) energies.length * windowFrames(format)
+                        : input.getFrameLength();
+            }
+
+            List<Long> boundaries = findBoundaries(energies, format, totalFrames);
+            List<AudioSegment> segments = writeSegments(wavFile, outputDirectory, format, boundaries);
+
+            log.info("Split {} s of audio into {} segments", secondsAt(boundaries.getLast(), format), segments.size());
+            return segments;
+        } catch (IOException e) {
+            throw new ServiceException(AI_LONG_AUDIO_FORMAT_UNSUPPORTED, ErrorCode.SERVICE_AI_INVALID_CONTENT, e);
+        }
+    }
+
+    /**
+     * Whether the file is audio this segmenter can split (8 or 16-bit PCM WAV).
+     *
+     * @param audioFile Audio file to check
+     * @return true if {@link #split} accepts the file
+     */
+    public boolean canSplit(Path audioFile) {
+        try (AudioInputStream ignored = openPcm(audioFile)) {
+            return true;
+        } catch (IOException | ServiceException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Same check as {@link #canSplit(Path)}, reading only the header of the stream.
+     *
+     * @param audio Audio stream positioned at the start of the file
+     * @return true if the audio, once staged, is accepted by {@link #split}
+     */
+    public boolean canSplit(InputStream audio) {
+        try {
+            InputStream markable = audio.markSupported() ? audio : new BufferedInputStream(audio);
+            return isSupported(AudioSystem.getAudioFileFormat(markable).getFormat());
+        } catch (IOException | UnsupportedAudioFileException e) {
+            return false;
+        }
+    }
+
+    private boolean isSupported(AudioFormat format) {
+        AudioFormat.Encoding encoding = format.getEncoding();
+        int bits = format.getSampleSizeInBits();
+        return (AudioFormat.Encoding.PCM_SIGNED.equals(encoding) && (bits == 16 || bits == 8))
+                || (AudioFormat.Encoding.PCM_UNSIGNED.equals(encoding) && bits == 8);
+    }
+
+    private AudioInputStream openPcm(Path wavFile) throws IOException {
+        try {
+            AudioInputStream input = AudioSystem.getAudioInputStream(wavFile.toFile());
+            if (!isSupported(input.getFormat())) {
+                input.close();
+                throw new ServiceException(AI_LONG_AUDIO_FORMAT_UNSUPPORTED, ErrorCode.SERVICE_AI_INVALID_CONTENT);
+            }
+            return input;
+        } catch (UnsupportedAudioFileException e) {
+            throw new ServiceException(AI_LONG_AUDIO_FORMAT_UNSUPPORTED, ErrorCode.SERVICE_AI_INVALID_CONTENT, e);
+        }
+    }
+
+    private int windowFrames(AudioFormat format) {
+        return Math.max(1, Math.round(format.getFrameRate() * aiProperties.getLongAudio().getWindowMs() / 1000f));
+    }
+
+    /**
+     * RMS energy of each window as a fraction of full scale, averaged over channels.
+     */
+    private float[] windowEnergies(AudioInputStream input, int windowFrames) throws IOException {
+        AudioFormat format = input.getFormat();
+        int frameSize = format.getFrameSize();
+        int sampleBytes = format.getSampleSizeInBits() / 8;
+        boolean signed = AudioFormat.Encoding.PCM_SIGNED.equals(format.getEncoding());
+        boolean bigEndian = format.isBigEndian();
+
+        byte[] window = new byte[windowFrames * frameSize];
+        List<Float> energies = new ArrayList<>();
+        int read;
+        while ((read = input.readNBytes(window, 0, window.length)) > 0) {
+            int samples = read / sampleBytes;
+            double sumSquares = 0;
+            for (int i = 0; i < samples; i++) {
+                double sample = sampleBytes == 2
+                        ? sample16(window, i * 2, bigEndian) / 32768.0
+                        : (signed ? window[i] : (window[i] & 0xFF) - 128) / 128.0;
+                sumSquares += sample * sample;
+            }
+            energies.add((float) Math.sqrt(sumSquares / Math.max(1, samples)));
+        }
+
+        float[] result = new float[energies.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = energies.get(i);
+        }
+        return result;
+    }
+
+    private int sample16(byte[] data, int offset, boolean bigEndian) {
+        return bigEndian
+                ? (short) ((data[offset] << 8) | (data[offset + 1] & 0xFF))
+                : (short) ((data[offset + 1] << 8) | (data[offset] & 0xFF));
+    }
+
+    /**
+     * Frame offsets where segments end; the last entry is the end of the recording.
+     */
+    private List<Long> findBoundaries(float[] energies, AudioFormat format, long totalFrames) {
+        AIConfigProperties.LongAudio config = aiProperties.getLongAudio();
+        int windowFrames = windowFrames(format);
+        double windowSeconds = windowFrames / format.getFrameRate();
+
+        // Whisper rejects files over 25MB, so the byte limit can cap segments below the configured maximum
+        double maxSecondsBySize = (config.getMaxSegmentBytes() - WAV_HEADER_BYTES)
+                / (double) (format.getFrameSize() * format.getFrameRate());
+        int maxWindows = (int) Math.max(1, Math.min(config.getMaxSegmentSeconds(), maxSecondsBySize) / windowSeconds);
+        int targetWindows = (int) Math.max(1, Math.min(config.getTargetSegmentSeconds() / windowSeconds, maxWindows));
+        int minSilenceWindows = (int) Math.max(1, config.getMinSilenceMs() / 1000.0 / windowSeconds);
+        double threshold = Math.pow(10, config.getSilenceThresholdDbfs() / 20.0);
+
+        List<Long> boundaries = new ArrayList<>();
+        int segmentStart = 0;
+        int silenceRun = 0;
+        for (int w = 0; w < energies.length; w++) {
+            silenceRun = energies[w] < threshold ? silenceRun + 1 : 0;
+            int length = w + 1 - segmentStart;
+
+            int cut = -1;
+            if (length >= targetWindows && silenceRun >= minSilenceWindows) {
+                cut = w + 1 - silenceRun / 2;
+            } else if (length >= maxWindows) {
+                cut = quietestWindow(energies, segmentStart + targetWindows / 2, w) + 1;
+            }
+
+            if (cut > segmentStart && cut < energies.length) {
+                boundaries.add((long) cut * windowFrames);
+                segmentStart = cut;
+                silenceRun = 0;
+            }
+        }
+
+        boundaries.add(totalFrames);
+        return boundaries;
+    }
+
+    private int quietestWindow(float[] energies, int from, int to) {
+        int quietest = to;
+        for (int w = Math.max(0, from); w <= to; w++) {
+            if (energies[w] < energies[quietest]) {
+                quietest = w;
+            }
+        }
+        return quietest;
+    }
+
+    private List<AudioSegment> writeSegments(Path wavFile, Path outputDirectory, AudioFormat format,
+                                             List<Long> boundaries) throws IOException {
+        List<AudioSegment> segments = new ArrayList<>(boundaries.size());
+        try (AudioInputStream input = openPcm(wavFile)) {
+            long start = 0;
+            for (long end : boundaries) {
+                Path file = outputDirectory.resolve("segment-%04d.wav".formatted(segments.size()));
+                // Shield the shared input so closing a segment does not close the recording
+                try (AudioInputStream segment = new AudioInputStream(CloseShieldInputStream.wrap(input), format, end - start)) {
+                    AudioSystem.write(segment, AudioFileFormat.Type.WAVE, file.toFile());
+                }
+                segments.add(new AudioSegment(segments.size(), file, secondsAt(start, format), secondsAt(end, format)));
+                start = end;
+            }
+        }
+        return segments;
+    }
+
+    private double secondsAt(long frame, AudioFormat format) {
+        return frame / (double) format.getFrameRate();
+    }
+}
@@ -0,0 +1,185 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.DEFAULT_AUDIO_UPLOAD_FILENAME;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_AUDIO_UPLOAD_BUDGET_AVAILABLE;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_AUDIO_UPLOAD_BUDGET_EXHAUSTED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_AUDIO_UPLOAD_STAGING_FAILED;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Stages audio uploads on disk and bounds how much upload audio is in flight at once.
+ * The multipart part is streamed to a temp file rather than copied onto the heap, and the transcription
+ * model gets a file-backed Resource. The OpenAI client still materializes the file once per request
+ * body, so every staged upload reserves its size from a global byte budget until it is released;
+ * when the budget is exhausted new uploads wait briefly and are then shed with a capacity error.
+ */
+@Slf4j
+@Component
+public class AudioUploadStager {
+
+    private static final int BUDGET_UNIT_BYTES = 1024;
+
+    private final AIConfigProperties aiProperties;
+    private final Semaphore budget;
+    private final int budgetUnits;
+
+    public AudioUploadStager(AIConfigProperties aiProperties, MeterRegistry meterRegistry) {
+        this.aiProperties = aiProperties;
+        this.budgetUnits = (int) Math.max(1, aiProperties.getAudioUpload().getMemoryBudgetBytes() / BUDGET_UNIT_BYTES);
+        this.budget = new Semaphore(budgetUnits, true);
+        Gauge.builder(METRIC_AUDIO_UPLOAD_BUDGET_AVAILABLE, budget, b -> (double) b.availablePermits() * BUDGET_UNIT_BYTES)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Bytes reserved from the budget. Closing it returns them.
+     */
+    public final class Reservation implements AutoCloseable {
+        private final int units;
+        private boolean released;
+
+        private Reservation(int units) {
+            this.units = units;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (isFalse(released)) {
+                released = true;
+                budget.release(units);
+            }
+        }
+    }
+
+    /**
+     * A staged upload. Closing it deletes the temp file and returns its budget.
+     */
+    public final class StagedAudio implements AutoCloseable {
+        private final Path file;
+        private final String filename;
+        private final Reservation reservation;
+        private boolean closed;
+
+        private StagedAudio(Path file, String filename, Reservation reservation) {
+            this.file = file;
+            this.filename = filename;
+            this.reservation = reservation;
+        }
+
+        public Path path() {
+            return file;
+        }
+
+        public String filename() {
+            return filename;
+        }
+
+        /**
+         * File-backed resource reporting the original filename, which the provider uses to detect the format.
+         */
+        public Resource resource() {
+            return new FileSystemResource(file) {
+                @Override
+                public String getFilename() {
+                    return filename;
+                }
+            };
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete staged audio {}: {}", file, e.getMessage());
+            } finally {
+                reservation.close();
+            }
+        }
+    }
+
+    /**
+     * Reserve budget for the upload and move it to a temp file.
+     *
+     * @param audioFile The uploaded audio
+     * @return The staged upload; close it when the provider call has finished
+     */
+    public StagedAudio stage(MultipartFile audioFile) {
+        return stage(audioFile, audioFile.getSize());
+    }
+
+    /**
+     * Move the upload to a temp file, reserving only reserveBytes of budget.
+     * Used when the file is sent to the provider in pieces that reserve their own budget.
+     *
+     * @param audioFile The uploaded audio
+     * @param reserveBytes Budget to hold while the file is staged
+     * @return The staged upload; close it when processing has finished
+     */
+    public StagedAudio stage(MultipartFile audioFile, long reserveBytes) {
+        Reservation reservation = reserve(reserveBytes);
+        try {
+            String filename = isNotBlank(audioFile.getOriginalFilename())
+                    ? FilenameUtils.getName(audioFile.getOriginalFilename())
+                    : DEFAULT_AUDIO_UPLOAD_FILENAME;
+
+            Path directory = Path.of(aiProperties.getAudioUpload().getTempDirectory());
+            Files.createDirectories(directory);
+            Path file = Files.createTempFile(directory, "stt-", "." + FilenameUtils.getExtension(filename));
+
+            // Streams the part straight to disk without buffering it on the heap
+            audioFile.transferTo(file);
+
+            log.debug("Staged {} bytes of audio as {}", audioFile.getSize(), file);
+            return new StagedAudio(file, filename, reservation);
+        } catch (IOException | RuntimeException e) {
+            reservation.close();
+            throw new ServiceException(AI_AUDIO_UPLOAD_STAGING_FAILED, ErrorCode.SERVICE_AI_INVALID_CONTENT, e);
+        }
+    }
+
+    /**
+     * Reserve bytes from the budget, waiting up to max-wait-ms.
+     *
+     * @param sizeBytes Bytes about to be held in memory
+     * @return The reservation; close it once the bytes are released
+     */
+    public Reservation reserve(long sizeBytes) {
+        // A single upload larger than the whole budget still runs, it just runs alone
+        int units = (int) Math.min(budgetUnits, (Math.max(0, sizeBytes) + BUDGET_UNIT_BYTES - 1) / BUDGET_UNIT_BYTES);
+        long maxWaitMs = aiProperties.getAudioUpload().getMaxWaitMs();
+        try {
+            if (budget.tryAcquire(units, maxWaitMs, TimeUnit.MILLISECONDS)) {
+                return new Reservation(units);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("Audio upload budget exhausted, rejecting {} byte upload", sizeBytes);
+        throw new ServiceException(AI_AUDIO_UPLOAD_BUDGET_EXHAUSTED, ErrorCode.SERVICE_AI_CAPACITY_EXCEEDED);
+    }
+}
@@ -0,0 +1,112 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dto.AITextToSpeechRequestDto;
+import com.flashcards.backend.flashcards.enums.AIProviderEnum;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.service.ai.strategy.TextToSpeechStrategy;
+import com.flashcards.backend.flashcards.util.Mp3Utils;
+import com.flashcards.backend.flashcards.util.TextChunker;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.MAX_AUDIO_TEXT_LENGTH;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_AUDIO_STREAM_FAILED;
+
+/**
+ * Synthesizes long text as sentence-aligned chunks in parallel and streams the MP3 in order.
+ * A sliding window keeps at most maxParallelChunks requests in flight, always the ones closest
+ * to the playback position, and each chunk is written as soon as everything before it is written.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedSpeechService {
+
+    private final TextToSpeechStrategy textToSpeechStrategy;
+    private final AIBulkheadService aiBulkheadService;
+    private final AIConfigProperties aiProperties;
+    private final ExecutorService chunkExecutor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    /**
+     * Whether the text is long enough to benefit from chunked synthesis.
+     */
+    public boolean shouldChunk(String text) {
+        AIConfigProperties.TtsChunking config = aiProperties.getTtsChunking();
+        return config.isEnabled() && text.length() > config.getTargetChunkChars();
+    }
+
+    /**
+     * Synthesize the text chunk by chunk and write the joined MP3 frames to the output stream.
+     *
+     * @param text Text to speak
+     * @param request Request providing voice and speed
+     * @param outputStream Stream to write audio to
+     * @return Total number of audio bytes written
+     */
+    public long streamChunked(String text, AITextToSpeechRequestDto request, OutputStream outputStream) {
+        AIConfigProperties.TtsChunking config = aiProperties.getTtsChunking();
+        List<String> chunks = TextChunker.splitSentences(text, config.getTargetChunkChars(), MAX_AUDIO_TEXT_LENGTH);
+        log.debug("Synthesizing {} chars as {} chunks, {} in parallel",
+                text.length(), chunks.size(), config.getMaxParallelChunks());
+
+        Deque<CompletableFuture<byte[]>> window = new ArrayDeque<>();
+        int next = 0;
+        while (next < chunks.size() && window.size() < config.getMaxParallelChunks()) {
+            window.add(submitChunk(chunks.get(next++), request));
+        }
+
+        long bytesWritten = 0;
+        try {
+            while (!window.isEmpty()) {
+                byte[] clip = window.poll().join();
+                if (next < chunks.size()) {
+                    window.add(submitChunk(chunks.get(next++), request));
+                }
+
+                byte[] frames = Mp3Utils.audioFrames(clip);
+                outputStream.write(frames);
+                outputStream.flush();
+                bytesWritten += frames.length;
+            }
+            return bytesWritten;
+        } catch (CompletionException e) {
+            window.forEach(pending -> pending.cancel(true));
+            if (e.getCause() instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            throw new ServiceException("Failed to synthesize audio chunk", ErrorCode.SERVICE_AI_GENERATION_ERROR, e.getCause());
+        } catch (IOException e) {
+            window.forEach(pending -> pending.cancel(true));
+            throw new ServiceException(AI_AUDIO_STREAM_FAILED, ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        chunkExecutor.shutdownNow();
+    }
+
+    // Queued rather than shed: once the first frames are written a rejected middle chunk would truncate
+    // the recording, and the window already bounds how many chunks wait for a permit
+    private CompletableFuture<byte[]> submitChunk(String chunk, AITextToSpeechRequestDto request) {
+        return CompletableFuture.supplyAsync(() -> aiBulkheadService.executeQueued(
+                AIBulkheadService.audioBulkhead(AIProviderEnum.OPENAI),
+                () -> textToSpeechStrategy.synthesize(chunk, request)), chunkExecutor);
+    }
+}
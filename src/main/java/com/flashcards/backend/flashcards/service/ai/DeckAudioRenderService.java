@@ -0,0 +1,305 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dao.DeckAudioRenderDao;
+import com.flashcards.backend.flashcards.dao.DeckDao;
+import com.flashcards.backend.flashcards.dao.FlashcardDao;
+import com.flashcards.backend.flashcards.dto.AITextToSpeechRequestDto;
+import com.flashcards.backend.flashcards.dto.DeckAudioRenderDto;
+import com.flashcards.backend.flashcards.dto.DeckAudioRenderRequestDto;
+import com.flashcards.backend.flashcards.enums.AIProviderEnum;
+import com.flashcards.backend.flashcards.enums.AudioOutputType;
+import com.flashcards.backend.flashcards.enums.AudioRenderStatus;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.mapper.DeckAudioRenderMapper;
+import com.flashcards.backend.flashcards.model.Deck;
+import com.flashcards.backend.flashcards.model.DeckAudioRender;
+import com.flashcards.backend.flashcards.model.Flashcard;
+import com.flashcards.backend.flashcards.service.ai.strategy.TextToSpeechStrategy;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.MAX_AUDIO_TEXT_LENGTH;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_DECK_AUDIO_NOT_RENDERED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.ENTITY_DECK;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.SERVICE_ENTITY_NOT_FOUND;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Pre-renders front/back audio for every card of a deck in the background.
+ * Cards whose clip ids (content hashes of text, voice and speed) match the last render and are
+ * still cached are skipped, so re-rendering after a few edits only synthesizes the edited cards.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeckAudioRenderService {
+
+    private final DeckDao deckDao;
+    private final FlashcardDao flashcardDao;
+    private final DeckAudioRenderDao deckAudioRenderDao;
+    private final DeckAudioRenderMapper deckAudioRenderMapper;
+    private final TextToSpeechStrategy textToSpeechStrategy;
+    private final AudioClipCache audioClipCache;
+    private final AIBulkheadService aiBulkheadService;
+    private final AIConfigProperties aiProperties;
+    private final Map<String, RenderProgress> activeRenders = new ConcurrentHashMap<>();
+    private final ExecutorService renderExecutor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    /**
+     * Start rendering a deck's audio. If a render of the deck is already running, its progress is returned.
+     *
+     * @param deckId The deck to render
+     * @param request Voice and speed to render with
+     * @return Initial progress of the render
+     */
+    public DeckAudioRenderDto startRender(String deckId, DeckAudioRenderRequestDto request) {
+        Deck deck = findOwnedDeck(deckId);
+
+        List<Flashcard> flashcards = flashcardDao.findByDeckId(deckId);
+        RenderProgress progress = new RenderProgress(deck.getUserId(), request, flashcards.size());
+
+        RenderProgress running = activeRenders.putIfAbsent(deckId, progress);
+        if (nonNull(running)) {
+            log.info("Audio render for deck {} already running", deckId);
+            return deckAudioRenderMapper.toDto(running.snapshot(deckId, AudioRenderStatus.RUNNING));
+        }
+
+        try {
+            Map<String, DeckAudioRender.CardAudio> previousCards = deckAudioRenderDao.findByDeckId(deckId)
+                    .map(DeckAudioRender::getCards)
+                    .orElse(Map.of());
+
+            log.info("Starting audio render for deck {} ({} cards, voice {}, speed {})",
+                    deckId, flashcards.size(), request.getVoice(), request.getSpeed());
+            renderExecutor.submit(() -> runRender(deckId, flashcards, previousCards, progress));
+        } catch (RuntimeException e) {
+            // Otherwise the deck would report a render that never runs and refuse new ones
+            activeRenders.remove(deckId, progress);
+            throw e;
+        }
+
+        return deckAudioRenderMapper.toDto(progress.snapshot(deckId, AudioRenderStatus.RUNNING));
+    }
+
+    /**
+     * Current progress of a running render, or the result of the last completed one.
+     *
+     * @param deckId The deck
+     * @return Render progress or result
+     */
+    public DeckAudioRenderDto getRender(String deckId) {
+        findOwnedDeck(deckId);
+
+        RenderProgress running = activeRenders.get(deckId);
+        if (nonNull(running)) {
+            return deckAudioRenderMapper.toDto(running.snapshot(deckId, AudioRenderStatus.RUNNING));
+        }
+
+        return deckAudioRenderDao.findByDeckId(deckId)
+                .map(deckAudioRenderMapper::toDto)
+                .orElseThrow(() -> new ServiceException(
+                        AI_DECK_AUDIO_NOT_RENDERED.formatted(deckId),
+                        ErrorCode.SERVICE_NOT_FOUND
+                ));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+
+    /**
+     * The deck, if it belongs to the calling user. Other users' decks are reported as missing.
+     */
+    private Deck findOwnedDeck(String deckId) {
+        String userId = currentUserId();
+        return deckDao.findById(deckId)
+                .filter(deck -> Objects.equals(deck.getUserId(), userId))
+                .orElseThrow(() -> new ServiceException(
+                        SERVICE_ENTITY_NOT_FOUND.formatted(ENTITY_DECK, deckId),
+                        ErrorCode.SERVICE_NOT_FOUND
+                ));
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (isNull(authentication) || isNull(authentication.getName())) {
+            throw new ServiceException(ErrorCode.SERVICE_AUTHORIZATION_ERROR.getDefaultMessage(),
+                    ErrorCode.SERVICE_AUTHORIZATION_ERROR);
+        }
+        return authentication.getName();
+    }
+
+    private void runRender(String deckId, List<Flashcard> flashcards,
+                           Map<String, DeckAudioRender.CardAudio> previousCards, RenderProgress progress) {
+        try {
+            Semaphore cardSlots = new Semaphore(aiProperties.getDeckAudio().getMaxConcurrentCards());
+
+            CompletableFuture.allOf(flashcards.stream()
+                    .map(card -> CompletableFuture.runAsync(
+                            () -> renderCard(card, previousCards.get(card.getId()), progress, cardSlots), renderExecutor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+
+            AudioRenderStatus status = progress.failed.get() == 0 ? AudioRenderStatus.COMPLETED
+                    : progress.failed.get() == progress.total ? AudioRenderStatus.FAILED
+                    : AudioRenderStatus.COMPLETED_WITH_ERRORS;
+
+            DeckAudioRender result = progress.snapshot(deckId, status);
+            result.setCompletedAt(LocalDateTime.now());
+            deckAudioRenderDao.save(result);
+
+            log.info("Audio render for deck {} finished {}: {} rendered, {} reused, {} failed",
+                    deckId, status, progress.rendered.get(), progress.reused.get(), progress.failed.get());
+        } catch (Exception e) {
+            log.error("Audio render for deck {} failed: {}", deckId, e.getMessage(), e);
+        } finally {
+            activeRenders.remove(deckId);
+        }
+    }
+
+    private void renderCard(Flashcard card, DeckAudioRender.CardAudio previous,
+                            RenderProgress progress, Semaphore cardSlots) {
+        AITextToSpeechRequestDto ttsRequest = progress.ttsRequest;
+        String frontText = sideText(card.getFront());
+        String backText = sideText(card.getBack());
+
+        DeckAudioRender.CardAudio cardAudio = DeckAudioRender.CardAudio.builder()
+                .frontClipId(isNull(frontText) ? null : textToSpeechStrategy.clipId(frontText, ttsRequest))
+                .backClipId(isNull(backText) ? null : textToSpeechStrategy.clipId(backText, ttsRequest))
+                .build();
+
+        if (Objects.equals(cardAudio, previous) && isCached(cardAudio.getFrontClipId()) && isCached(cardAudio.getBackClipId())) {
+            progress.cards.put(card.getId(), cardAudio);
+            progress.reused.incrementAndGet();
+            return;
+        }
+
+        try {
+            cardSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.failed.incrementAndGet();
+            return;
+        }
+
+        try {
+            renderSide(cardAudio.getFrontClipId(), frontText, ttsRequest);
+            renderSide(cardAudio.getBackClipId(), backText, ttsRequest);
+            progress.cards.put(card.getId(), cardAudio);
+            progress.rendered.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("Failed to render audio for flashcard {}: {}", card.getId(), e.getMessage());
+            progress.failed.incrementAndGet();
+        } finally {
+            cardSlots.release();
+        }
+    }
+
+    private void renderSide(String clipId, String text, AITextToSpeechRequestDto ttsRequest) {
+        if (isNull(clipId)) {
+            return;
+        }
+        audioClipCache.getOrCompute(clipId, () -> synthesizeWithRetry(text, ttsRequest));
+    }
+
+    /**
+     * Background work yields to interactive requests: if the audio bulkhead sheds the call, wait and retry.
+     */
+    private byte[] synthesizeWithRetry(String text, AITextToSpeechRequestDto ttsRequest) {
+        int attemptsLeft = aiProperties.getDeckAudio().getCapacityRetries();
+        while (true) {
+            try {
+                return aiBulkheadService.execute(
+                        AIBulkheadService.audioBulkhead(AIProviderEnum.OPENAI),
+                        () -> textToSpeechStrategy.synthesize(text, ttsRequest));
+            } catch (ServiceException e) {
+                if (e.getErrorCode() != ErrorCode.SERVICE_AI_CAPACITY_EXCEEDED || attemptsLeft-- <= 0) {
+                    throw e;
+                }
+                sleep(aiProperties.getBulkhead().getMaxWaitMs());
+            }
+        }
+    }
+
+    private boolean isCached(String clipId) {
+        return isNull(clipId) || audioClipCache.size(clipId).isPresent();
+    }
+
+    private String sideText(Flashcard.CardContent content) {
+        if (isNull(content) || isBlank(content.getText())) {
+            return null;
+        }
+        String text = content.getText().strip();
+        return text.length() > MAX_AUDIO_TEXT_LENGTH ? text.substring(0, MAX_AUDIO_TEXT_LENGTH) : text;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Deck audio render interrupted", ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        }
+    }
+
+    private static final class RenderProgress {
+        private final String userId;
+        private final AITextToSpeechRequestDto ttsRequest;
+        private final int total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger rendered = new AtomicInteger();
+        private final AtomicInteger reused = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final Map<String, DeckAudioRender.CardAudio> cards = new ConcurrentHashMap<>();
+
+        private RenderProgress(String userId, DeckAudioRenderRequestDto request, int total) {
+            this.userId = userId;
+            this.total = total;
+            this.ttsRequest = AITextToSpeechRequestDto.builder()
+                    .userId(userId)
+                    .outputType(AudioOutputType.RECITATION)
+                    .voice(request.getVoice())
+                    .speed(request.getSpeed())
+                    .build();
+        }
+
+        private DeckAudioRender snapshot(String deckId, AudioRenderStatus status) {
+            return DeckAudioRender.builder()
+                    .deckId(deckId)
+                    .userId(userId)
+                    .voice(ttsRequest.getVoice())
+                    .speed(ttsRequest.getSpeed())
+                    .status(status)
+                    .totalCards(total)
+                    .renderedCards(rendered.get())
+                    .reusedCards(reused.get())
+                    .failedCards(failed.get())
+                    .cards(new HashMap<>(cards))
+                    .startedAt(startedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dto.AITextToImageRequestDto;
+import com.flashcards.backend.flashcards.enums.AIModelEnum;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.GENERATED_IMAGE_FILE_EXTENSION;
+import static com.flashcards.backend.flashcards.constants.AIConstants.GENERATED_IMAGE_REQUEST_EXTENSION;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_IMAGE_DOWNLOAD_FAILED;
+import static com.flashcards.backend.flashcards.util.HashUtils.sha256Hex;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+
+/**
+ * Content-addressed store for generated images.
+ * Provider URLs expire within hours, so each image is downloaded (or base64-decoded) once and kept
+ * under the SHA-256 of its bytes; an index from the hash of the user and generation request to its
+ * image ids makes an identical request by the same user a cache hit, so image ids only ever reach the
+ * user who generated them. Least recently served images are trimmed over the disk budget, together
+ * with the indexes that point at them.
+ */
+@Slf4j
+@Component
+public class GeneratedImageStore {
+
+    private static final Pattern IMAGE_ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final AIConfigProperties aiProperties;
+    private final RestClient downloadClient;
+
+    public GeneratedImageStore(AIConfigProperties aiProperties) {
+        this.aiProperties = aiProperties;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(aiProperties.getImageStore().getDownloadTimeoutMs()));
+        requestFactory.setReadTimeout(Duration.ofMillis(aiProperties.getImageStore().getDownloadTimeoutMs()));
+        this.downloadClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    @PostConstruct
+    void createDirectory() throws IOException {
+        if (isEnabled()) {
+            Files.createDirectories(directory());
+        }
+    }
+
+    public boolean isEnabled() {
+        return aiProperties.getImageStore().isEnabled();
+    }
+
+    public boolean isValidImageId(String imageId) {
+        return nonNull(imageId) && IMAGE_ID_PATTERN.matcher(imageId).matches();
+    }
+
+    /**
+     * Hash identifying a user's generation request by everything that determines its output.
+     */
+    public String requestKey(String userId, AITextToImageRequestDto request, AIModelEnum model) {
+        return sha256Hex(String.join("\u0000", userId, model.getModelId(), request.getDescription(), request.getSize(),
+                request.getQuality(), request.getStyle(), String.valueOf(request.getCount())));
+    }
+
+    /**
+     * Image ids previously generated for the request, if every one of them is still stored.
+     */
+    public Optional<List<String>> findRequest(String requestKey) {
+        if (isFalse(isEnabled())) {
+            return Optional.empty();
+        }
+        Path index = requestPath(requestKey);
+        try {
+            List<String> imageIds = Files.readAllLines(index, StandardCharsets.UTF_8);
+            if (imageIds.isEmpty() || isFalse(imageIds.stream().allMatch(id -> Files.exists(imagePath(id))))) {
+                // Some images were trimmed; regenerate rather than return a partial set
+                Files.deleteIfExists(index);
+                return Optional.empty();
+            }
+            return Optional.of(imageIds);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Failed to read image request index {}: {}", requestKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void putRequest(String requestKey, List<String> imageIds) {
+        if (isFalse(isEnabled())) {
+            return;
+        }
+        try {
+            writeAtomically(requestPath(requestKey), String.join("\n", imageIds).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("Failed to store image request index {}: {}", requestKey, e.getMessage());
+        }
+    }
+
+    /**
+     * Store image bytes under their content hash.
+     *
+     * @return The image id
+     */
+    public String store(byte[] image) throws IOException {
+        String imageId = sha256Hex(image);
+        Path file = imagePath(imageId);
+        if (Files.notExists(file)) {
+            writeAtomically(file, image);
+        }
+        return imageId;
+    }
+
+    /**
+     * Download a provider image, refusing anything over the configured size.
+     */
+    public byte[] download(String url) {
+        long maxBytes = aiProperties.getImageStore().getMaxImageBytes();
+        try {
+            return downloadClient.get()
+                    .uri(URI.create(url))
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new IOException("HTTP " + response.getStatusCode().value());
+                        }
+                        try (InputStream body = response.getBody()) {
+                            byte[] image = body.readNBytes((int) Math.min(Integer.MAX_VALUE - 8, maxBytes + 1));
+                            if (image.length > maxBytes) {
+                                throw new IOException("image exceeds " + maxBytes + " bytes");
+                            }
+                            return image;
+                        }
+                    });
+        } catch (Exception e) {
+            throw new ServiceException(AI_IMAGE_DOWNLOAD_FAILED.formatted(e.getMessage()),
+                    ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        }
+    }
+
+    /**
+     * A stored image as a file resource, which lets the web layer serve byte ranges.
+     */
+    public Optional<Resource> find(String imageId) {
+        if (isFalse(isEnabled()) || isFalse(isValidImageId(imageId))) {
+            return Optional.empty();
+        }
+        Path file = imagePath(imageId);
+        if (Files.notExists(file)) {
+            return Optional.empty();
+        }
+        touch(file);
+        return Optional.of(new FileSystemResource(file));
+    }
+
+    /**
+     * Delete least recently used images once the directory exceeds its byte budget, then delete the
+     * request indexes that point at any missing image.
+     */
+    @Scheduled(fixedDelayString = "${ai.image-store.trim-interval-ms:600000}")
+    public void trimDisk() {
+        if (isFalse(isEnabled())) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(directory())) {
+            List<Path> images = files
+                    .filter(path -> path.getFileName().toString().endsWith(GENERATED_IMAGE_FILE_EXTENSION))
+                    .sorted(Comparator.comparing(this::lastModified).reversed())
+                    .toList();
+
+            long budget = aiProperties.getImageStore().getDiskMaxBytes();
+            long used = 0;
+            int deleted = 0;
+            for (Path image : images) {
+                used += Files.size(image);
+                if (used > budget) {
+                    Files.deleteIfExists(image);
+                    deleted++;
+                }
+            }
+            if (deleted > 0) {
+                log.info("Trimmed {} generated images over the {} byte budget", deleted, budget);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to trim generated image store: {}", e.getMessage());
+        }
+
+        trimRequestIndexes();
+    }
+
+    private void trimRequestIndexes() {
+        try (Stream<Path> files = Files.list(directory())) {
+            List<Path> indexes = files
+                    .filter(path -> path.getFileName().toString().endsWith(GENERATED_IMAGE_REQUEST_EXTENSION))
+                    .toList();
+
+            int deleted = 0;
+            for (Path index : indexes) {
+                List<String> imageIds = Files.readAllLines(index, StandardCharsets.UTF_8);
+                if (imageIds.isEmpty() || isFalse(imageIds.stream().allMatch(id -> Files.exists(imagePath(id))))) {
+                    Files.deleteIfExists(index);
+                    deleted++;
+                }
+            }
+            if (deleted > 0) {
+                log.info("Trimmed {} image request indexes pointing at deleted images", deleted);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to trim image request indexes: {}", e.getMessage());
+        }
+    }
+
+    private void writeAtomically(Path file, byte[] data) throws IOException {
+        // Write then rename so concurrent readers never see a partial file
+        Path temp = Files.createTempFile(directory(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path directory() {
+        return Path.of(aiProperties.getImageStore().getDirectory());
+    }
+
+    private Path imagePath(String imageId) {
+        return directory().resolve(imageId + GENERATED_IMAGE_FILE_EXTENSION);
+    }
+
+    private Path requestPath(String requestKey) {
+        return directory().resolve(requestKey + GENERATED_IMAGE_REQUEST_EXTENSION);
+    }
+
+    private void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("Failed to touch generated image {}: {}", file, e.getMessage());
+        }
+    }
+
+    private FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
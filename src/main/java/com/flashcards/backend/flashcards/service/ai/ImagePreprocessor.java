@@ -0,0 +1,323 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.EXIF_TAG_ORIENTATION;
+import static com.flashcards.backend.flashcards.constants.AIConstants.JPEG_APP1_MARKER_TAG;
+import static com.flashcards.backend.flashcards.constants.AIConstants.JPEG_METADATA_FORMAT;
+import static com.flashcards.backend.flashcards.constants.AIConstants.METRIC_IMAGE_BYTES_SAVED;
+import static com.flashcards.backend.flashcards.constants.AIConstants.PREPROCESSED_IMAGE_FORMAT;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_IMAGE_PROCESSING_FAILED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_IMAGE_TOO_MANY_PIXELS;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+
+/**
+ * Shrinks uploaded images before they are sent to a vision model.
+ * Checks the declared dimensions before decoding (refusing decompression bombs), decodes straight from
+ * the multipart stream with subsampling for very large sources, applies the EXIF orientation, fits
+ * the result to the provider's tile resolution and re-encodes as JPEG without metadata.
+ * Images ImageIO cannot decode (e.g. WebP, CMYK JPEG) are passed through unchanged.
+ */
+@Slf4j
+@Component
+public class ImagePreprocessor {
+
+    private final AIConfigProperties aiProperties;
+    private final DistributionSummary bytesSavedSummary;
+
+    public ImagePreprocessor(AIConfigProperties aiProperties, MeterRegistry meterRegistry) {
+        this.aiProperties = aiProperties;
+        this.bytesSavedSummary = DistributionSummary.builder(METRIC_IMAGE_BYTES_SAVED)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public record PreprocessedImage(byte[] data, MimeType mimeType, long originalBytes) {
+        public long bytesSaved() {
+            return originalBytes - data.length;
+        }
+    }
+
+    /**
+     * A decoded (possibly subsampled) raster with the source dimensions and EXIF orientation.
+     */
+    private record DecodedImage(BufferedImage image, int sourceWidth, int sourceHeight, int orientation) {
+    }
+
+    public PreprocessedImage preprocess(MultipartFile file) {
+        AIConfigProperties.ImagePreprocessing config = aiProperties.getImagePreprocessing();
+        try {
+            if (isFalse(config.isEnabled())) {
+                return passThrough(file);
+            }
+
+            DecodedImage decoded;
+            try {
+                decoded = decode(file, config);
+            } catch (ServiceException e) {
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                // CMYK/YCCK JPEGs and truncated files: the provider may still accept the original
+                log.warn("Could not decode image {} ({}), sending original bytes: {}",
+                        file.getOriginalFilename(), file.getContentType(), e.getMessage());
+                return passThrough(file);
+            }
+            if (isNull(decoded)) {
+                log.debug("No ImageIO reader for {}, sending original bytes", file.getContentType());
+                return passThrough(file);
+            }
+
+            BufferedImage source = decoded.image();
+            BufferedImage scaled = orient(
+                    fitToTiles(source, config.getMaxLongSide(), config.getMaxShortSide()), decoded.orientation());
+            boolean transformed = decoded.orientation() != 1
+                    || scaled.getWidth() * scaled.getHeight() != decoded.sourceWidth() * decoded.sourceHeight();
+            byte[] encoded = encodeJpeg(scaled, config.getJpegQuality());
+
+            // Re-encoding an already small, upright image (e.g. a compact PNG screenshot) can grow it
+            if (isFalse(transformed) && encoded.length >= file.getSize()) {
+                return passThrough(file);
+            }
+
+            PreprocessedImage result = new PreprocessedImage(encoded, MimeTypeUtils.IMAGE_JPEG, file.getSize());
+            bytesSavedSummary.record(Math.max(0, result.bytesSaved()));
+            log.info("Preprocessed image {}: {}x{} -> {}x{}, {} -> {} bytes ({} saved)",
+                    file.getOriginalFilename(), decoded.sourceWidth(), decoded.sourceHeight(),
+                    scaled.getWidth(), scaled.getHeight(), result.originalBytes(), encoded.length, result.bytesSaved());
+            return result;
+        } catch (IOException e) {
+            log.error("Failed to preprocess image {}", file.getOriginalFilename(), e);
+            throw new ServiceException(AI_IMAGE_PROCESSING_FAILED, ErrorCode.SERVICE_AI_INVALID_CONTENT, e);
+        }
+    }
+
+    private PreprocessedImage passThrough(MultipartFile file) throws IOException {
+        return new PreprocessedImage(file.getBytes(), MimeTypeUtils.parseMimeType(file.getContentType()), file.getSize());
+    }
+
+    /**
+     * Decode after checking the declared dimensions, or null if no reader handles the format.
+     */
+    private DecodedImage decode(MultipartFile file, AIConfigProperties.ImagePreprocessing config) throws IOException {
+        // Memory-cached stream avoids ImageIO spilling a second copy to a temp file
+        try (InputStream in = file.getInputStream();
+             ImageInputStream imageInput = new MemoryCacheImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (isFalse(readers.hasNext())) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > config.getMaxSourcePixels()) {
+                    throw new ServiceException(
+                            AI_IMAGE_TOO_MANY_PIXELS.formatted(width, height, config.getMaxSourcePixels()),
+                            ErrorCode.SERVICE_VALIDATION_ERROR);
+                }
+
+                int orientation = readOrientation(reader);
+
+                // Skip source pixels while decoding, keeping at least twice the target size for the scaler
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = subsampling(width, height, config);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return new DecodedImage(reader.read(0, param), width, height, orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private int subsampling(int width, int height, AIConfigProperties.ImagePreprocessing config) {
+        int longSide = Math.max(width, height);
+        int shortSide = Math.min(width, height);
+        int factor = Math.min(longSide / config.getMaxLongSide(), shortSide / config.getMaxShortSide()) / 2;
+        return Math.max(1, factor);
+    }
+
+    /**
+     * EXIF orientation (1-8) of a JPEG, or 1 when absent or unreadable.
+     */
+    private int readOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (isNull(metadata) || isFalse(JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName()))) {
+                return 1;
+            }
+            NodeList markers = ((IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT)).getElementsByTagName("unknown");
+            for (int i = 0; i < markers.getLength(); i++) {
+                Node marker = markers.item(i);
+                Node tag = marker.getAttributes().getNamedItem("MarkerTag");
+                if (nonNull(tag) && JPEG_APP1_MARKER_TAG.equals(tag.getNodeValue())
+                        && ((IIOMetadataNode) marker).getUserObject() instanceof byte[] app1) {
+                    return exifOrientation(app1);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not read image metadata: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    /**
+     * Orientation tag from IFD0 of an APP1 "Exif" segment.
+     */
+    static int exifOrientation(byte[] app1) {
+        byte[] header = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+        if (app1.length < header.length + 8 || isFalse(ByteBuffer.wrap(app1, 0, header.length).equals(ByteBuffer.wrap(header)))) {
+            return 1;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, header.length, app1.length - header.length).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+        int ifdOffset = tiff.getInt(4);
+        if (ifdOffset < 8 || ifdOffset + 2 > tiff.limit()) {
+            return 1;
+        }
+        int entries = Short.toUnsignedInt(tiff.getShort(ifdOffset));
+        for (int i = 0; i < entries; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == EXIF_TAG_ORIENTATION) {
+                int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Rotate and/or mirror the raster so it displays upright without the orientation tag.
+     */
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation == 1) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swapsSides = orientation >= 5;
+
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.translate(width, 0); transform.scale(-1, 1); }
+            case 3 -> { transform.translate(width, height); transform.rotate(Math.PI); }
+            case 4 -> { transform.translate(0, height); transform.scale(1, -1); }
+            case 5 -> { transform.rotate(-Math.PI / 2); transform.scale(-1, 1); }
+            case 6 -> { transform.translate(height, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.translate(height, width); transform.rotate(Math.PI / 2); transform.scale(-1, 1); }
+            case 8 -> { transform.translate(0, width); transform.rotate(-Math.PI / 2); }
+            default -> { return image; }
+        }
+
+        BufferedImage target = new BufferedImage(swapsSides ? height : width, swapsSides ? width : height,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Scale so the long side fits maxLongSide and the short side fits maxShortSide, never upscaling.
+     * Halves repeatedly before the final step so bilinear filtering doesn't alias on large reductions.
+     */
+    private BufferedImage fitToTiles(BufferedImage source, int maxLongSide, int maxShortSide) {
+        int longSide = Math.max(source.getWidth(), source.getHeight());
+        int shortSide = Math.min(source.getWidth(), source.getHeight());
+        double scale = Math.min(1.0, Math.min((double) maxLongSide / longSide, (double) maxShortSide / shortSide));
+
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = redraw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * Draw onto an opaque RGB canvas; JPEG has no alpha so transparency is flattened onto white.
+     */
+    private BufferedImage redraw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(PREPROCESSED_IMAGE_FORMAT).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,345 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dto.AISpeechToTextRequestDto;
+import com.flashcards.backend.flashcards.dto.AISpeechToTextResponseDto;
+import com.flashcards.backend.flashcards.dto.AISummaryRequestDto;
+import com.flashcards.backend.flashcards.dto.AISummaryResponseDto;
+import com.flashcards.backend.flashcards.dto.CreateFlashcardDto;
+import com.flashcards.backend.flashcards.dto.TranscriptSegmentDto;
+import com.flashcards.backend.flashcards.enums.AIProviderEnum;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.service.ai.parser.FlashcardDeduplicator;
+import com.flashcards.backend.flashcards.service.ai.strategy.SpeechToTextStrategy;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.file.PathUtils;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.DEFAULT_STT_MODEL;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_LONG_AUDIO_SEGMENT_FAILED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_LONG_AUDIO_SIZE_EXCEEDED;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Transcribes recordings longer than a single Whisper upload allows.
+ * The WAV is split on silence, segments are transcribed in parallel, and each segment's summary or
+ * flashcards are generated as soon as its transcript arrives rather than after the whole recording.
+ * Segment results are merged in recording order with their timestamps.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LongAudioTranscriptionService {
+
+    private final SpeechToTextStrategy speechToTextStrategy;
+    private final TranscriptProcessor transcriptProcessor;
+    private final AudioSegmenter audioSegmenter;
+    private final AudioUploadStager audioUploadStager;
+    private final AIBulkheadService aiBulkheadService;
+    private final FlashcardDeduplicator flashcardDeduplicator;
+    private final AIConfigProperties aiProperties;
+    private final ExecutorService segmentExecutor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    /**
+     * Called with each segment's transcript as soon as it is available.
+     *
+     * @param <T> Result of processing the segment
+     */
+    @FunctionalInterface
+    public interface SegmentHandler<T> {
+        T onTranscribed(AudioSegmenter.AudioSegment segment, int segmentCount, String text);
+    }
+
+    /**
+     * Transcribe a long recording and optionally summarize it or generate flashcards from it.
+     *
+     * @param request The STT request; the audio file must be PCM WAV
+     * @return Merged transcription with per-segment timestamps and optional processed results
+     */
+    public AISpeechToTextResponseDto transcribe(AISpeechToTextRequestDto request) {
+        log.info("Transcribing long audio for user: {}, action: {}, size: {} bytes",
+                request.getUserId(), request.getAction(), request.getAudioFile().getSize());
+
+        validate(request);
+
+        // Segments reserve their own upload budget while in flight, so the full recording holds none
+        try (AudioUploadStager.StagedAudio stagedAudio = audioUploadStager.stage(request.getAudioFile(), 0)) {
+            String action = isBlank(request.getAction()) ? "TRANSCRIPTION_ONLY" : request.getAction();
+            List<SegmentResult> results = transcribeSegments(stagedAudio.path(), request,
+                    (segment, segmentCount, text) -> postProcess(segment, text, action,
+                            flashcardsPerSegment(request.getFlashcardCount(), segmentCount), request));
+            return buildResponse(results, action, request);
+        }
+    }
+
+    /**
+     * Whether the staged file can be split by {@link #transcribeSegments}.
+     */
+    public boolean canSegment(Path audioFile) {
+        return audioSegmenter.canSplit(audioFile);
+    }
+
+    /**
+     * Whether the upload can be split by {@link #transcribeSegments} once staged, from its header alone.
+     */
+    public boolean canSegment(MultipartFile audioFile) {
+        try (InputStream input = audioFile.getInputStream()) {
+            return audioSegmenter.canSplit(input);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Split a staged PCM WAV file on silence and transcribe the segments in parallel.
+     * The handler runs for each segment as soon as its transcript arrives, overlapping with transcription
+     * of later segments.
+     *
+     * @param audioFile Staged PCM WAV file
+     * @param request Request providing language and prompt
+     * @param handler Per-segment processing
+     * @param <T> Result of processing a segment
+     * @return Handler results in recording order
+     */
+    public <T> List<T> transcribeSegments(Path audioFile, AISpeechToTextRequestDto request, SegmentHandler<T> handler) {
+        Path segmentDirectory = null;
+        try {
+            segmentDirectory = Files.createTempDirectory(audioFile.getParent(), "segments-");
+            List<AudioSegmenter.AudioSegment> segments = audioSegmenter.split(audioFile, segmentDirectory);
+            Semaphore transcriptionSlots = new Semaphore(aiProperties.getLongAudio().getMaxParallelSegments());
+            AtomicBoolean cancelled = new AtomicBoolean();
+
+            List<CompletableFuture<T>> futures = segments.stream()
+                    .map(segment -> CompletableFuture
+                            .supplyAsync(() -> transcribeSegment(segment, request, transcriptionSlots, cancelled),
+                                    segmentExecutor)
+                            .thenApplyAsync(text -> handler.onTranscribed(segment, segments.size(), text),
+                                    segmentExecutor))
+                    .toList();
+
+            return joinAll(futures, cancelled);
+        } catch (IOException e) {
+            throw new ServiceException("Failed to transcribe long audio file", ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        } finally {
+            if (nonNull(segmentDirectory)) {
+                deleteQuietly(segmentDirectory);
+            }
+        }
+    }
+
+    /**
+     * Share of the requested flashcards each part of a transcript generates, rounded up.
+     */
+    public static int flashcardsPerSegment(Integer flashcardCount, int segmentCount) {
+        return nonNull(flashcardCount)
+                ? Math.max(1, (int) Math.ceil(flashcardCount / (double) Math.max(1, segmentCount)))
+                : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        segmentExecutor.shutdownNow();
+    }
+
+    private void validate(AISpeechToTextRequestDto request) {
+        if (isNull(request.getAudioFile()) || request.getAudioFile().isEmpty()) {
+            throw new ServiceException("Audio file is required for transcription", ErrorCode.SERVICE_VALIDATION_ERROR);
+        }
+
+        int maxFileSizeMb = aiProperties.getLongAudio().getMaxFileSizeMb();
+        if (request.getAudioFile().getSize() / (1024 * 1024) > maxFileSizeMb) {
+            throw new ServiceException(
+                    AI_LONG_AUDIO_SIZE_EXCEEDED.formatted(maxFileSizeMb),
+                    ErrorCode.SERVICE_AI_INVALID_CONTENT
+            );
+        }
+
+        speechToTextStrategy.validateAction(request);
+    }
+
+    private AISpeechToTextResponseDto buildResponse(List<SegmentResult> results, String action,
+                                                    AISpeechToTextRequestDto request) {
+        AISpeechToTextResponseDto response = AISpeechToTextResponseDto.builder()
+                .transcribedText(results.stream()
+                        .map(SegmentResult::text)
+                        .filter(text -> !isBlank(text))
+                        .collect(Collectors.joining(" ")))
+                .durationSeconds(results.getLast().segment().endSeconds())
+                .model(DEFAULT_STT_MODEL)
+                .segments(results.stream().map(SegmentResult::toDto).toList())
+                .actionPerformed("TRANSCRIPTION_ONLY")
+                .build();
+
+        if (Objects.equals(action, "SUMMARY")) {
+            response.setSummary(combineSummaries(results, request));
+            response.setActionPerformed("SUMMARY");
+        } else if (Objects.equals(action, "FLASHCARDS")) {
+            response.setFlashcards(combineFlashcards(results, request.getFlashcardCount()));
+            response.setActionPerformed("FLASHCARDS");
+        } else if (!Objects.equals(action, "TRANSCRIPTION_ONLY")) {
+            log.warn("Unknown action type: {}, returning transcription only", action);
+        }
+
+        log.info("Transcribed {} segments ({} s) for user: {}",
+                results.size(), response.getDurationSeconds(), request.getUserId());
+        return response;
+    }
+
+    private String transcribeSegment(AudioSegmenter.AudioSegment segment, AISpeechToTextRequestDto request,
+                                     Semaphore transcriptionSlots, AtomicBoolean cancelled) {
+        try {
+            transcriptionSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(AI_LONG_AUDIO_SEGMENT_FAILED.formatted(segment.index()),
+                    ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        }
+
+        if (cancelled.get()) {
+            transcriptionSlots.release();
+            deleteQuietly(segment.file());
+            throw new ServiceException(AI_LONG_AUDIO_SEGMENT_FAILED.formatted(segment.index()),
+                    ErrorCode.SERVICE_AI_GENERATION_ERROR);
+        }
+
+        try (AudioUploadStager.Reservation ignored = audioUploadStager.reserve(Files.size(segment.file()))) {
+            // Queue behind other callers rather than failing the recording when the provider is busy
+            String text = aiBulkheadService.executeQueued(
+                    AIBulkheadService.audioBulkhead(AIProviderEnum.OPENAI),
+                    () -> speechToTextStrategy.transcribe(new FileSystemResource(segment.file()), request));
+
+            log.debug("Transcribed segment {} ({}-{} s) to {} characters",
+                    segment.index(), segment.startSeconds(), segment.endSeconds(), text.length());
+            return text;
+        } catch (IOException e) {
+            throw new ServiceException(AI_LONG_AUDIO_SEGMENT_FAILED.formatted(segment.index()),
+                    ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        } finally {
+            transcriptionSlots.release();
+            deleteQuietly(segment.file());
+        }
+    }
+
+    /**
+     * Runs per segment as soon as its transcript is available, overlapping with transcription of later segments.
+     */
+    private SegmentResult postProcess(AudioSegmenter.AudioSegment segment, String text, String action,
+                                      int flashcardCount, AISpeechToTextRequestDto request) {
+        if (isBlank(text)) {
+            return new SegmentResult(segment, text, null, List.of());
+        }
+
+        if (Objects.equals(action, "SUMMARY")) {
+            AISummaryResponseDto summary = transcriptProcessor.summarize(
+                    text, request.getUserId(), AISummaryRequestDto.SummaryLength.SHORT);
+            return new SegmentResult(segment, text, summary.getSummary(), List.of());
+        }
+
+        if (Objects.equals(action, "FLASHCARDS")) {
+            List<CreateFlashcardDto> flashcards = transcriptProcessor.generateFlashcards(
+                    text, request.getUserId(), request.getDeckId(), flashcardCount);
+            return new SegmentResult(segment, text, null, flashcards);
+        }
+
+        return new SegmentResult(segment, text, null, List.of());
+    }
+
+    /**
+     * Reduce the per-segment summaries into one summary of the whole recording.
+     */
+    private AISummaryResponseDto combineSummaries(List<SegmentResult> results, AISpeechToTextRequestDto request) {
+        String segmentSummaries = results.stream()
+                .map(SegmentResult::summary)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("\n\n"));
+
+        int maxTextLength = aiProperties.getLimits().getMaxTextLength();
+        if (segmentSummaries.length() > maxTextLength) {
+            segmentSummaries = segmentSummaries.substring(0, maxTextLength);
+        }
+
+        return transcriptProcessor.summarize(
+                segmentSummaries, request.getUserId(), AISummaryRequestDto.SummaryLength.MEDIUM);
+    }
+
+    private List<CreateFlashcardDto> combineFlashcards(List<SegmentResult> results, int count) {
+        List<CreateFlashcardDto> merged = new ArrayList<>();
+        results.forEach(result -> merged.addAll(result.flashcards()));
+
+        List<CreateFlashcardDto> deduplicated = flashcardDeduplicator.deduplicate(merged);
+        return deduplicated.size() > count ? deduplicated.subList(0, count) : deduplicated;
+    }
+
+    /**
+     * Wait for every segment; an interrupt (e.g. the client of a stream went away) cancels the rest.
+     */
+    private <T> List<T> joinAll(List<CompletableFuture<T>> futures, AtomicBoolean cancelled) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Long audio transcription was cancelled", ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        } catch (ExecutionException e) {
+            cancelled.set(true);
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            throw new ServiceException("Failed to transcribe long audio file", ErrorCode.SERVICE_AI_GENERATION_ERROR,
+                    nonNull(e.getCause()) ? e.getCause() : e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            if (Files.isDirectory(path)) {
+                PathUtils.deleteDirectory(path);
+            } else {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete audio segment {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record SegmentResult(AudioSegmenter.AudioSegment segment, String text, String summary,
+                                 List<CreateFlashcardDto> flashcards) {
+
+        private TranscriptSegmentDto toDto() {
+            return TranscriptSegmentDto.builder()
+                    .index(segment.index())
+                    .startSeconds(segment.startSeconds())
+                    .endSeconds(segment.endSeconds())
+                    .text(text)
+                    .summary(summary)
+                    .build();
+        }
+    }
+}
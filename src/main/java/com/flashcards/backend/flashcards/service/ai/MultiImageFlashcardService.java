@@ -0,0 +1,166 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.dto.AIImageGenerateRequestDto;
+import com.flashcards.backend.flashcards.dto.AIMultiImageGenerateRequestDto;
+import com.flashcards.backend.flashcards.dto.AIMultiImageGenerateResponseDto;
+import com.flashcards.backend.flashcards.dto.CreateFlashcardDto;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.service.ai.parser.FlashcardDeduplicator;
+import com.flashcards.backend.flashcards.service.ai.strategy.ImageToFlashcardsStrategy;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
+
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_ALL_IMAGES_FAILED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_CALL_INTERRUPTED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_IMAGES_REQUIRED;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_IMAGE_COUNT_EXCEEDED;
+import static java.util.Objects.isNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+
+/**
+ * Generates flashcards from several images concurrently and merges the results.
+ * Pages fan out on virtual threads, bounded per request, and each provider call still goes
+ * through the provider bulkhead, so a large upload takes roughly as long as its slowest page.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MultiImageFlashcardService {
+
+    private final AIExecutionService aiExecutionService;
+    private final ImageToFlashcardsStrategy imageToFlashcardsStrategy;
+    private final FlashcardDeduplicator flashcardDeduplicator;
+    private final AIConfigProperties aiProperties;
+    private final ExecutorService pageExecutor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    /**
+     * Generate, merge and deduplicate flashcards from every image in the request.
+     *
+     * @param request The multi-image request
+     * @return Merged flashcards with per-image failures
+     */
+    public AIMultiImageGenerateResponseDto generateFromImages(AIMultiImageGenerateRequestDto request) {
+        List<MultipartFile> images = request.getImages();
+        validateImages(images);
+
+        Semaphore pageSlots = new Semaphore(aiProperties.getLimits().getMaxConcurrentImagesPerRequest());
+
+        List<CompletableFuture<PageResult>> pages = IntStream.range(0, images.size())
+                .mapToObj(index -> CompletableFuture.supplyAsync(
+                        () -> processPage(index, images.get(index), request, pageSlots), pageExecutor))
+                .toList();
+
+        List<CreateFlashcardDto> merged = new ArrayList<>();
+        List<AIMultiImageGenerateResponseDto.ImageFailure> failures = new ArrayList<>();
+
+        for (CompletableFuture<PageResult> page : pages) {
+            PageResult result = page.join();
+            if (isNull(result.failure())) {
+                merged.addAll(result.flashcards());
+            } else {
+                failures.add(result.failure());
+            }
+        }
+
+        if (failures.size() == images.size()) {
+            throw new ServiceException(
+                    AI_ALL_IMAGES_FAILED.formatted(images.size()),
+                    ErrorCode.SERVICE_AI_GENERATION_ERROR
+            );
+        }
+
+        List<CreateFlashcardDto> deduplicated = flashcardDeduplicator.deduplicate(merged);
+
+        log.info("Generated {} flashcards from {}/{} images ({} duplicates removed)",
+                deduplicated.size(), images.size() - failures.size(), images.size(),
+                merged.size() - deduplicated.size());
+
+        return AIMultiImageGenerateResponseDto.builder()
+                .flashcards(deduplicated)
+                .imagesSubmitted(images.size())
+                .imagesSucceeded(images.size() - failures.size())
+                .duplicatesRemoved(merged.size() - deduplicated.size())
+                .failures(failures)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pageExecutor.shutdownNow();
+    }
+
+    private PageResult processPage(int index, MultipartFile image, AIMultiImageGenerateRequestDto request,
+                                   Semaphore pageSlots) {
+        try {
+            pageSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return PageResult.failed(index, image, AI_CALL_INTERRUPTED.formatted(image.getOriginalFilename()));
+        }
+
+        try {
+            AIImageGenerateRequestDto pageRequest = AIImageGenerateRequestDto.builder()
+                    .deckId(request.getDeckId())
+                    .userId(request.getUserId())
+                    .prompt(request.getPrompt())
+                    .count(request.getCountPerImage())
+                    .difficulty(request.getDifficulty())
+                    .category(request.getCategory())
+                    .model(request.getModel())
+                    .image(image)
+                    .build();
+
+            List<CreateFlashcardDto> flashcards = aiExecutionService.executeOperation(
+                    imageToFlashcardsStrategy, pageRequest, request.getModel());
+
+            log.debug("Image {} ({}) produced {} flashcards", index, image.getOriginalFilename(), flashcards.size());
+            return new PageResult(flashcards, null);
+        } catch (Exception e) {
+            log.warn("Image {} ({}) failed: {}", index, image.getOriginalFilename(), e.getMessage());
+            return PageResult.failed(index, image, e.getMessage());
+        } finally {
+            pageSlots.release();
+        }
+    }
+
+    private void validateImages(List<MultipartFile> images) {
+        if (isEmpty(images)) {
+            throw new ServiceException(AI_IMAGES_REQUIRED, ErrorCode.SERVICE_VALIDATION_ERROR);
+        }
+
+        int maxImages = aiProperties.getLimits().getMaxImagesPerRequest();
+        if (images.size() > maxImages) {
+            throw new ServiceException(
+                    AI_IMAGE_COUNT_EXCEEDED.formatted(maxImages),
+                    ErrorCode.SERVICE_AI_INVALID_CONTENT
+            );
+        }
+    }
+
+    private record PageResult(List<CreateFlashcardDto> flashcards,
+                              AIMultiImageGenerateResponseDto.ImageFailure failure) {
+
+        private static PageResult failed(int index, MultipartFile image, String message) {
+            return new PageResult(List.of(), AIMultiImageGenerateResponseDto.ImageFailure.builder()
+                    .index(index)
+                    .filename(image.getOriginalFilename())
+                    .message(message)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.dto.AIGenerateRequestDto;
+import com.flashcards.backend.flashcards.dto.AISummaryRequestDto;
+import com.flashcards.backend.flashcards.dto.AISummaryResponseDto;
+import com.flashcards.backend.flashcards.dto.CreateFlashcardDto;
+import com.flashcards.backend.flashcards.enums.AIModelEnum;
+import com.flashcards.backend.flashcards.service.ai.strategy.ContentToSummaryStrategy;
+import com.flashcards.backend.flashcards.service.ai.strategy.TextToFlashcardsStrategy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Turns transcribed text into summaries or flashcards.
+ * Shared by single-file and segmented transcription so both post-process identically.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranscriptProcessor {
+
+    private static final AIModelEnum TRANSCRIPT_MODEL = AIModelEnum.GPT_4O_MINI;
+
+    private final AIExecutionService aiExecutionService;
+    private final ContentToSummaryStrategy contentToSummaryStrategy;
+    private final TextToFlashcardsStrategy textToFlashcardsStrategy;
+
+    /**
+     * Summarize transcribed text as a paragraph.
+     *
+     * @param text Transcribed text
+     * @param userId User the summary is generated for
+     * @param length Target summary length
+     * @return The summary
+     */
+    public AISummaryResponseDto summarize(String text, String userId, AISummaryRequestDto.SummaryLength length) {
+        log.debug("Generating summary from {} characters of transcribed text", text.length());
+
+        AISummaryRequestDto summaryRequest = AISummaryRequestDto.builder()
+                .userId(userId)
+                .sourceType(AISummaryRequestDto.SummarySourceType.TEXT)
+                .text(text)
+                .format(AISummaryRequestDto.SummaryFormat.PARAGRAPH)
+                .length(length)
+                .model(TRANSCRIPT_MODEL)
+                .build();
+
+        return aiExecutionService.executeOperation(contentToSummaryStrategy, summaryRequest, TRANSCRIPT_MODEL);
+    }
+
+    /**
+     * Generate flashcards from transcribed text.
+     *
+     * @param text Transcribed text
+     * @param userId User the flashcards belong to
+     * @param deckId Deck the flashcards are for
+     * @param count Number of flashcards to generate
+     * @return Generated flashcards
+     */
+    public List<CreateFlashcardDto> generateFlashcards(String text, String userId, String deckId, int count) {
+        log.debug("Generating {} flashcards from {} characters of transcribed text", count, text.length());
+
+        AIGenerateRequestDto flashcardRequest = AIGenerateRequestDto.builder()
+                .userId(userId)
+                .deckId(deckId)
+                .text(text)
+                .count(count)
+                .model(TRANSCRIPT_MODEL)
+                .build();
+
+        return aiExecutionService.executeOperation(textToFlashcardsStrategy, flashcardRequest, TRANSCRIPT_MODEL);
+    }
+}
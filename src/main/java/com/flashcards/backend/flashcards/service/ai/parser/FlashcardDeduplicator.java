@@ -0,0 +1,86 @@
+package com.flashcards.backend.flashcards.service.ai.parser;
+
+import com.flashcards.backend.flashcards.dto.CreateFlashcardDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.DUPLICATE_FLASHCARD_SIMILARITY_THRESHOLD;
+import static java.util.Objects.isNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+
+/**
+ * Removes near-identical flashcards produced from overlapping sources (e.g. adjacent textbook pages).
+ * Two cards are duplicates when the word sets of their fronts have a Jaccard similarity at or above
+ * the configured threshold; the first occurrence wins so source order is preserved. Cards whose fronts
+ * have no words are always kept.
+ */
+@Slf4j
+@Component
+public class FlashcardDeduplicator {
+
+    /**
+     * Deduplicate flashcards, keeping the first occurrence of each near-identical question.
+     *
+     * @param flashcards Flashcards in source order
+     * @return Flashcards with near-duplicates removed
+     */
+    public List<CreateFlashcardDto> deduplicate(List<CreateFlashcardDto> flashcards) {
+        if (isEmpty(flashcards)) {
+            return List.of();
+        }
+
+        List<CreateFlashcardDto> kept = new ArrayList<>();
+        List<Set<String>> keptTokens = new ArrayList<>();
+
+        for (CreateFlashcardDto flashcard : flashcards) {
+            Set<String> tokens = tokenize(flashcard);
+            boolean duplicate = keptTokens.stream()
+                    .anyMatch(existing -> similarity(existing, tokens) >= DUPLICATE_FLASHCARD_SIMILARITY_THRESHOLD);
+
+            if (duplicate) {
+                log.debug("Dropping near-duplicate flashcard: {}", frontText(flashcard));
+                continue;
+            }
+            kept.add(flashcard);
+            keptTokens.add(tokens);
+        }
+
+        return kept;
+    }
+
+    private String frontText(CreateFlashcardDto flashcard) {
+        return isNull(flashcard.getFront()) ? null : flashcard.getFront().getText();
+    }
+
+    private Set<String> tokenize(CreateFlashcardDto flashcard) {
+        String text = frontText(flashcard);
+        if (isNull(text)) {
+            return Set.of();
+        }
+        return Arrays.stream(text
+                        .toLowerCase(Locale.ROOT)
+                        .replaceAll("[^\\p{L}\\p{N}\\s]", " ")
+                        .split("\\s+"))
+                .filter(token -> !token.isBlank())
+                .collect(Collectors.toSet());
+    }
+
+    private double similarity(Set<String> a, Set<String> b) {
+        // A card without front words (e.g. image-only) carries nothing to compare, so it is never a duplicate
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        int union = a.size() + b.size() - intersection.size();
+        return (double) intersection.size() / union;
+    }
+}
@@ -71,4 +71,24 @@ public interface AIImageOperationStrategy<I, O> {
      * @return ImageOptions configured for the operation
      */
     ImageOptions buildImageOptions(I input, AIModelEnum model);
-}
\ No newline at end of file
+
+    /**
+     * Number of images the input asks for.
+     *
+     * @param input The operation-specific input
+     * @return Requested image count
+     */
+    default int getImageCount(I input) {
+        return 1;
+    }
+
+    /**
+     * Most images the model returns from one call; larger requests are fanned out over parallel calls.
+     *
+     * @param model The AI model to use
+     * @return Maximum images per call
+     */
+    default int getMaxImagesPerCall(AIModelEnum model) {
+        return 1;
+    }
+}
@@ -6,6 +6,7 @@ import com.flashcards.backend.flashcards.dto.CreateFlashcardDto;
 import com.flashcards.backend.flashcards.enums.AIModelEnum;
 import com.flashcards.backend.flashcards.exception.ErrorCode;
 import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.service.ai.ImagePreprocessor;
 import com.flashcards.backend.flashcards.service.ai.parser.FlashcardResponseParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,9 +16,7 @@ import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.ai.content.Media;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.MimeTypeUtils;
 
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +36,7 @@ public class ImageToFlashcardsStrategy implements AIOperationStrategy<AIImageGen
 
     private final AIConfigProperties aiProperties;
     private final FlashcardResponseParser flashcardResponseParser;
+    private final ImagePreprocessor imagePreprocessor;
     public static final String COUNT = "count";
     public static final String PROMPT = "prompt";
     public static final String FALLBACK_IMAGE_TO_FLASHCARDS_PROMPT = "Analyze the image content";
@@ -58,16 +58,15 @@ public class ImageToFlashcardsStrategy implements AIOperationStrategy<AIImageGen
         String promptText = promptTemplate.render(promptVariables);
 
         try {
-            byte[] imageBytes = input.getImage().getBytes();
-            String contentType = input.getImage().getContentType();
-
-            ByteArrayResource imageResource = new ByteArrayResource(imageBytes);
-            Media imageMedia = new Media(MimeTypeUtils.parseMimeType(contentType), imageResource);
+            ImagePreprocessor.PreprocessedImage image = imagePreprocessor.preprocess(input.getImage());
+            Media imageMedia = new Media(image.mimeType(), new ByteArrayResource(image.data()));
 
             return UserMessage.builder()
                     .text(promptText)
                     .media(imageMedia)
                     .build();
+        } catch (ServiceException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to read image file from multipart", e);
             throw new ServiceException(
@@ -5,6 +5,7 @@ import com.flashcards.backend.flashcards.dto.AISpeechToTextRequestDto;
 import com.flashcards.backend.flashcards.dto.AISpeechToTextResponseDto;
 import com.flashcards.backend.flashcards.exception.ErrorCode;
 import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.service.ai.AudioUploadStager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.audio.transcription.AudioTranscriptionPrompt;
@@ -13,7 +14,6 @@ import org.springframework.ai.openai.OpenAiAudioTranscriptionModel;
 import org.springframework.ai.openai.OpenAiAudioTranscriptionOptions;
 import org.springframework.ai.openai.api.OpenAiAudioApi;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
@@ -33,6 +33,7 @@ public class SpeechToTextStrategy implements AIAudioOperationStrategy<AISpeechTo
 
     private final OpenAiAudioTranscriptionModel transcriptionModel;
     private final AIConfigProperties aiProperties;
+    private final AudioUploadStager audioUploadStager;
 
     @Override
     public AISpeechToTextResponseDto execute(AISpeechToTextRequestDto input) {
@@ -48,18 +49,25 @@ public class SpeechToTextStrategy implements AIAudioOperationStrategy<AISpeechTo
     }
 
     private String transcribeAudio(AISpeechToTextRequestDto input) {
-        try {
-            byte[] audioBytes = input.getAudioFile().getBytes();
-            String originalFilename = input.getAudioFile().getOriginalFilename();
+        try (AudioUploadStager.StagedAudio stagedAudio = audioUploadStager.stage(input.getAudioFile())) {
+            String transcription = transcribe(stagedAudio.resource(), input);
 
-            // Create a ByteArrayResource with a filename
-            Resource audioResource = new ByteArrayResource(audioBytes) {
-                @Override
-                public String getFilename() {
-                    return Objects.nonNull(originalFilename) ? originalFilename : "audio.mp3";
-                }
-            };
+            log.debug("Transcribed {} bytes of audio to {} characters of text",
+                    input.getAudioFile().getSize(), transcription.length());
 
+            return transcription;
+        }
+    }
+
+    /**
+     * Transcribe an audio resource using the language and prompt of the request.
+     *
+     * @param audio Audio to transcribe; its filename tells the provider the format
+     * @param input Request providing language and prompt
+     * @return The transcription
+     */
+    public String transcribe(Resource audio, AISpeechToTextRequestDto input) {
+        try {
             OpenAiAudioTranscriptionOptions.Builder optionsBuilder = OpenAiAudioTranscriptionOptions.builder()
                     .model(DEFAULT_STT_MODEL)
                     .responseFormat(OpenAiAudioApi.TranscriptResponseFormat.valueOf(DEFAULT_STT_RESPONSE_FORMAT.toUpperCase()));
@@ -76,16 +84,13 @@ public class SpeechToTextStrategy implements AIAudioOperationStrategy<AISpeechTo
 
             OpenAiAudioTranscriptionOptions options = optionsBuilder.build();
 
-            AudioTranscriptionPrompt transcriptionPrompt = new AudioTranscriptionPrompt(audioResource, options);
+            AudioTranscriptionPrompt transcriptionPrompt = new AudioTranscriptionPrompt(audio, options);
             AudioTranscriptionResponse response = transcriptionModel.call(transcriptionPrompt);
 
-            String transcription = response.getResult().getOutput();
-
-            log.debug("Transcribed {} bytes of audio to {} characters of text",
-                    audioBytes.length, transcription.length());
-
-            return transcription;
+            return response.getResult().getOutput();
 
+        } catch (ServiceException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to transcribe audio: {}", e.getMessage(), e);
             throw new ServiceException(
@@ -114,6 +119,16 @@ public class SpeechToTextStrategy implements AIAudioOperationStrategy<AISpeechTo
             );
         }
 
+        validateAction(input);
+    }
+
+    /**
+     * Validate the post-processing options of the request.
+     *
+     * @param input The operation-specific input
+     * @throws ServiceException if validation fails
+     */
+    public void validateAction(AISpeechToTextRequestDto input) {
         // If action is FLASHCARDS, validate deckId and flashcardCount
         if (Objects.equals(input.getAction(), "FLASHCARDS")) {
             if (Objects.isNull(input.getDeckId()) || input.getDeckId().isBlank()) {
@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.util.List;
 
+import static com.flashcards.backend.flashcards.constants.AIConstants.DALL_E_2_MAX_IMAGES_PER_CALL;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -64,6 +65,7 @@ public class TextToImageStrategy implements AIImageOperationStrategy<AITextToIma
             .images(generatedImages)
             .modelUsed(input.getModel() != null ? input.getModel() : getDefaultModel())
             .originalDescription(input.getDescription())
+            .imagesRequested(input.getCount())
             .revisedPrompt(extractRevisedPrompt(imageResponse))
             .generatedAt(Instant.now())
             .generationTimeMs(System.currentTimeMillis() - startTime)
@@ -98,6 +100,16 @@ public class TextToImageStrategy implements AIImageOperationStrategy<AITextToIma
         }
     }
 
+    @Override
+    public int getImageCount(AITextToImageRequestDto input) {
+        return input.getCount();
+    }
+
+    @Override
+    public int getMaxImagesPerCall(AIModelEnum model) {
+        return model == AIModelEnum.DALL_E_2 ? DALL_E_2_MAX_IMAGES_PER_CALL : 1;
+    }
+
     @Override
     public String getOperationName() {
         return "TextToImage";
@@ -113,6 +125,7 @@ public class TextToImageStrategy implements AIImageOperationStrategy<AITextToIma
             .height(extractHeight(input.getSize()))
             .quality(input.getQuality())
             .style(input.getStyle())
+            .N(Math.min(input.getCount(), getMaxImagesPerCall(model)))
             .build();
     }
 
@@ -3,9 +3,12 @@ package com.flashcards.backend.flashcards.service.ai.strategy;
 import com.flashcards.backend.flashcards.config.AIConfigProperties;
 import com.flashcards.backend.flashcards.dto.AITextToSpeechRequestDto;
 import com.flashcards.backend.flashcards.dto.AITextToSpeechResponseDto;
+import com.flashcards.backend.flashcards.enums.AIProviderEnum;
 import com.flashcards.backend.flashcards.enums.AudioOutputType;
 import com.flashcards.backend.flashcards.exception.ErrorCode;
 import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.service.ai.AIBulkheadService;
+import com.flashcards.backend.flashcards.service.ai.AudioClipCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
@@ -18,6 +21,8 @@ import org.springframework.ai.openai.audio.speech.SpeechResponse;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Base64;
 import java.util.Map;
 import java.util.Objects;
@@ -26,6 +31,8 @@ import static com.flashcards.backend.flashcards.constants.AIConstants.AUDIO_SUMM
 import static com.flashcards.backend.flashcards.constants.AIConstants.DEFAULT_AUDIO_FORMAT;
 import static com.flashcards.backend.flashcards.constants.AIConstants.DEFAULT_TTS_MODEL;
 import static com.flashcards.backend.flashcards.constants.AIConstants.MAX_AUDIO_TEXT_LENGTH;
+import static com.flashcards.backend.flashcards.constants.AIConstants.MAX_CHUNKED_AUDIO_TEXT_LENGTH;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_AUDIO_STREAM_FAILED;
 import static com.flashcards.backend.flashcards.constants.ErrorMessages.AI_TEXT_LENGTH_EXCEEDED;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -39,30 +46,34 @@ public class TextToSpeechStrategy implements AIAudioOperationStrategy<AITextToSp
     private final OpenAiAudioSpeechModel speechModel;
     private final ChatModel chatModel;
     private final AIConfigProperties aiProperties;
+    private final AudioClipCache audioClipCache;
+    private final AIBulkheadService aiBulkheadService;
 
     public TextToSpeechStrategy(
             OpenAiAudioSpeechModel speechModel,
             @Qualifier("openAiChatModel") ChatModel chatModel,
-            AIConfigProperties aiProperties) {
+            AIConfigProperties aiProperties,
+            AudioClipCache audioClipCache,
+            AIBulkheadService aiBulkheadService) {
         this.speechModel = speechModel;
         this.chatModel = chatModel;
         this.aiProperties = aiProperties;
+        this.audioClipCache = audioClipCache;
+        this.aiBulkheadService = aiBulkheadService;
     }
 
     @Override
     public AITextToSpeechResponseDto execute(AITextToSpeechRequestDto input) {
         validateInput(input);
 
-        String textToConvert = input.getText();
+        String textToConvert = resolveText(input);
 
-        // If summary requested, generate it first
-        if (Objects.equals(input.getOutputType(), AudioOutputType.SUMMARY)) {
-            textToConvert = generateSummary(input.getText(), input.getSummaryWordCount());
-            log.debug("Generated summary for TTS: {}", textToConvert);
-        }
-
-        // Convert to speech
-        byte[] audioBytes = convertToSpeech(textToConvert, input);
+        // Convert to speech, reusing the cached clip when the same text was already spoken;
+        // only a cache miss takes an audio bulkhead permit
+        String clipId = clipId(textToConvert, input);
+        byte[] audioBytes = audioClipCache.getOrCompute(clipId, () -> aiBulkheadService.execute(
+                AIBulkheadService.audioBulkhead(AIProviderEnum.OPENAI),
+                () -> synthesize(textToConvert, input)));
 
         // Build response
         return AITextToSpeechResponseDto.builder()
@@ -72,9 +83,62 @@ public class TextToSpeechStrategy implements AIAudioOperationStrategy<AITextToSp
                 .outputType(input.getOutputType())
                 .processedText(textToConvert)
                 .model(DEFAULT_TTS_MODEL)
+                .clipId(clipId)
                 .build();
     }
 
+    /**
+     * Content hash of the clip produced for this text with the request's voice and speed.
+     */
+    public String clipId(String text, AITextToSpeechRequestDto request) {
+        return audioClipCache.clipId(text, request.getVoice().name(), request.getSpeed(), DEFAULT_TTS_MODEL);
+    }
+
+    /**
+     * Validate a streaming request and return the text to be spoken (the summary for SUMMARY requests).
+     * Streaming accepts text up to MAX_CHUNKED_AUDIO_TEXT_LENGTH since it may be synthesized in chunks.
+     */
+    public String resolveStreamText(AITextToSpeechRequestDto input) {
+        validateText(input.getText(), MAX_CHUNKED_AUDIO_TEXT_LENGTH);
+        return resolveText(input);
+    }
+
+    /**
+     * Stream synthesized audio to the given output as the provider produces it.
+     * Chunks are written and flushed immediately so playback can start before synthesis finishes.
+     *
+     * @param text Text to speak, at most MAX_AUDIO_TEXT_LENGTH characters
+     * @return Total number of audio bytes written
+     */
+    public long streamAudio(String text, AITextToSpeechRequestDto input, OutputStream outputStream) {
+        validateText(text, MAX_AUDIO_TEXT_LENGTH);
+
+        SpeechPrompt speechPrompt = new SpeechPrompt(text, buildSpeechOptions(input));
+
+        long bytesWritten = 0;
+        try {
+            for (SpeechResponse chunk : speechModel.stream(speechPrompt).toIterable()) {
+                byte[] audio = chunk.getResult().getOutput();
+                outputStream.write(audio);
+                outputStream.flush();
+                bytesWritten += audio.length;
+            }
+        } catch (IOException e) {
+            throw new ServiceException(AI_AUDIO_STREAM_FAILED, ErrorCode.SERVICE_AI_GENERATION_ERROR, e);
+        }
+        return bytesWritten;
+    }
+
+    private String resolveText(AITextToSpeechRequestDto input) {
+        // If summary requested, generate it first
+        if (Objects.equals(input.getOutputType(), AudioOutputType.SUMMARY)) {
+            String summary = generateSummary(input.getText(), input.getSummaryWordCount());
+            log.debug("Generated summary for TTS: {}", summary);
+            return summary;
+        }
+        return input.getText();
+    }
+
     private String generateSummary(String text, Integer wordCount) {
         Map<String, Object> variables = Map.of(
                 "text", text,
@@ -92,32 +156,41 @@ public class TextToSpeechStrategy implements AIAudioOperationStrategy<AITextToSp
         return summary.trim();
     }
 
-    private byte[] convertToSpeech(String text, AITextToSpeechRequestDto request) {
-        OpenAiAudioSpeechOptions options = OpenAiAudioSpeechOptions.builder()
+    /**
+     * Synthesize a complete MP3 clip using the voice and speed of the request.
+     */
+    public byte[] synthesize(String text, AITextToSpeechRequestDto request) {
+        SpeechPrompt speechPrompt = new SpeechPrompt(text, buildSpeechOptions(request));
+        SpeechResponse response = speechModel.call(speechPrompt);
+
+        return response.getResult().getOutput();
+    }
+
+    private OpenAiAudioSpeechOptions buildSpeechOptions(AITextToSpeechRequestDto request) {
+        return OpenAiAudioSpeechOptions.builder()
                 .model(DEFAULT_TTS_MODEL)
                 .voice(OpenAiAudioApi.SpeechRequest.Voice.valueOf(request.getVoice().name()))
                 .responseFormat(OpenAiAudioApi.SpeechRequest.AudioResponseFormat.valueOf(DEFAULT_AUDIO_FORMAT.toUpperCase()))
                 .speed(request.getSpeed().floatValue())
                 .build();
-
-        SpeechPrompt speechPrompt = new SpeechPrompt(text, options);
-        SpeechResponse response = speechModel.call(speechPrompt);
-
-        return response.getResult().getOutput();
     }
 
     @Override
     public void validateInput(AITextToSpeechRequestDto input) {
-        if (isBlank(input.getText())) {
+        validateText(input.getText(), MAX_AUDIO_TEXT_LENGTH);
+    }
+
+    private void validateText(String text, int maxLength) {
+        if (isBlank(text)) {
             throw new ServiceException(
                     "Text is required for text-to-speech conversion",
                     ErrorCode.SERVICE_VALIDATION_ERROR
             );
         }
 
-        if (input.getText().length() > MAX_AUDIO_TEXT_LENGTH) {
+        if (text.length() > maxLength) {
             throw new ServiceException(
-                    AI_TEXT_LENGTH_EXCEEDED.formatted(MAX_AUDIO_TEXT_LENGTH),
+                    AI_TEXT_LENGTH_EXCEEDED.formatted(maxLength),
                     ErrorCode.SERVICE_AI_INVALID_CONTENT
             );
         }
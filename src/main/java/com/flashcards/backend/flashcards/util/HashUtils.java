@@ -0,0 +1,43 @@
+package com.flashcards.backend.flashcards.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Content hashes used as ids and lookup keys, e.g. for tokens that must not be stored in the clear.
+ */
+public final class HashUtils {
+
+    private static final String SHA_256 = "SHA-256";
+
+    private HashUtils() {
+        // Utility class
+    }
+
+    /**
+     * Lowercase hex SHA-256 of the given bytes.
+     *
+     * @param data Bytes to hash
+     * @return 64-character hex digest
+     */
+    public static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(SHA_256).digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Lowercase hex SHA-256 of the UTF-8 encoding of the given text.
+     *
+     * @param text Text to hash
+     * @return 64-character hex digest
+     */
+    public static String sha256Hex(String text) {
+        return sha256Hex(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
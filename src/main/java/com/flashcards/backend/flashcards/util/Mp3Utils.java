@@ -0,0 +1,113 @@
+package com.flashcards.backend.flashcards.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Minimal MP3 helpers for joining separately encoded clips.
+ * MPEG audio frames are self-contained, so clips concatenate cleanly once tags and the
+ * per-clip Xing/Info header (whose frame count would describe only the first clip) are removed.
+ */
+public final class Mp3Utils {
+
+    private static final int ID3V2_HEADER_LENGTH = 10;
+    private static final int ID3V2_FOOTER_FLAG = 0x10;
+    private static final int ID3V1_TAG_LENGTH = 128;
+    private static final int FRAME_HEADER_LENGTH = 4;
+    private static final int MAX_INFO_TAG_OFFSET = 36;
+
+    private static final int MPEG_VERSION_1 = 3;
+    private static final int LAYER_III = 1;
+    private static final int[] MPEG1_LAYER3_KBPS = {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 0};
+    private static final int[] MPEG2_LAYER3_KBPS = {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160, 0};
+    private static final int[][] SAMPLE_RATES = {
+            {11025, 12000, 8000, 0},  // MPEG 2.5
+            {0, 0, 0, 0},             // reserved
+            {22050, 24000, 16000, 0}, // MPEG 2
+            {44100, 48000, 32000, 0}  // MPEG 1
+    };
+
+    private Mp3Utils() {
+        // Utility class
+    }
+
+    /**
+     * Strip ID3v2/ID3v1 tags and a leading Xing/Info/VBRI frame, leaving only audio frames.
+     *
+     * @param mp3 Complete MP3 clip
+     * @return Raw MPEG audio frames safe to concatenate with other clips of the same format
+     */
+    public static byte[] audioFrames(byte[] mp3) {
+        int start = id3v2Length(mp3);
+        int end = mp3.length;
+
+        if (end - start >= ID3V1_TAG_LENGTH && startsWith(mp3, end - ID3V1_TAG_LENGTH, "TAG")) {
+            end -= ID3V1_TAG_LENGTH;
+        }
+
+        int frameLength = frameLength(mp3, start);
+        if (frameLength > 0 && start + frameLength <= end && isInfoFrame(mp3, start)) {
+            start += frameLength;
+        }
+
+        return Arrays.copyOfRange(mp3, start, end);
+    }
+
+    private static int id3v2Length(byte[] mp3) {
+        if (mp3.length < ID3V2_HEADER_LENGTH || !startsWith(mp3, 0, "ID3")) {
+            return 0;
+        }
+        // Tag size is a 28-bit syncsafe integer excluding the header (and footer, if flagged)
+        int size = ((mp3[6] & 0x7F) << 21) | ((mp3[7] & 0x7F) << 14) | ((mp3[8] & 0x7F) << 7) | (mp3[9] & 0x7F);
+        int footer = (mp3[5] & ID3V2_FOOTER_FLAG) != 0 ? ID3V2_HEADER_LENGTH : 0;
+        return Math.min(mp3.length, ID3V2_HEADER_LENGTH + size + footer);
+    }
+
+    /**
+     * Length in bytes of the Layer III frame starting at offset, or -1 if no valid header is there.
+     */
+    private static int frameLength(byte[] mp3, int offset) {
+        if (offset + FRAME_HEADER_LENGTH > mp3.length
+                || (mp3[offset] & 0xFF) != 0xFF || (mp3[offset + 1] & 0xE0) != 0xE0) {
+            return -1;
+        }
+
+        int version = (mp3[offset + 1] >> 3) & 0x03;
+        int layer = (mp3[offset + 1] >> 1) & 0x03;
+        int bitrateIndex = (mp3[offset + 2] >> 4) & 0x0F;
+        int sampleRateIndex = (mp3[offset + 2] >> 2) & 0x03;
+        int padding = (mp3[offset + 2] >> 1) & 0x01;
+
+        if (layer != LAYER_III) {
+            return -1;
+        }
+
+        int kbps = version == MPEG_VERSION_1 ? MPEG1_LAYER3_KBPS[bitrateIndex] : MPEG2_LAYER3_KBPS[bitrateIndex];
+        int sampleRate = SAMPLE_RATES[version][sampleRateIndex];
+        if (kbps == 0 || sampleRate == 0) {
+            return -1;
+        }
+
+        int frameSizeFactor = version == MPEG_VERSION_1 ? 144 : 72; // samples per frame / 8
+        return frameSizeFactor * kbps * 1000 / sampleRate + padding;
+    }
+
+    private static boolean isInfoFrame(byte[] mp3, int frameStart) {
+        int from = frameStart + FRAME_HEADER_LENGTH;
+        int to = Math.min(mp3.length - 4, from + MAX_INFO_TAG_OFFSET);
+        for (int i = from; i <= to; i++) {
+            if (startsWith(mp3, i, "Xing") || startsWith(mp3, i, "Info") || startsWith(mp3, i, "VBRI")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(byte[] data, int offset, String marker) {
+        byte[] expected = marker.getBytes(StandardCharsets.US_ASCII);
+        if (offset < 0 || offset + expected.length > data.length) {
+            return false;
+        }
+        return Arrays.equals(data, offset, offset + expected.length, expected, 0, expected.length);
+    }
+}
@@ -0,0 +1,61 @@
+package com.flashcards.backend.flashcards.util;
+
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits long text into chunks on sentence boundaries.
+ * Used to synthesize long TTS input as several independent requests.
+ */
+public final class TextChunker {
+
+    private TextChunker() {
+        // Utility class
+    }
+
+    /**
+     * Group whole sentences into chunks of roughly targetChars.
+     * A single sentence longer than maxChars is split at the last whitespace before the limit.
+     *
+     * @param text Text to split
+     * @param targetChars Preferred chunk size; sentences are packed until adding one would exceed it
+     * @param maxChars Hard upper bound for any chunk
+     * @return Non-blank chunks in original order
+     */
+    public static List<String> splitSentences(String text, int targetChars, int maxChars) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        BreakIterator sentences = BreakIterator.getSentenceInstance(Locale.ROOT);
+        sentences.setText(text);
+
+        int start = sentences.first();
+        for (int end = sentences.next(); end != BreakIterator.DONE; start = end, end = sentences.next()) {
+            String sentence = text.substring(start, end);
+
+            if (current.length() > 0 && current.length() + sentence.length() > targetChars) {
+                addChunk(chunks, current.toString());
+                current.setLength(0);
+            }
+
+            while (sentence.length() > maxChars) {
+                int split = sentence.lastIndexOf(' ', maxChars);
+                split = split > 0 ? split : maxChars;
+                addChunk(chunks, sentence.substring(0, split));
+                sentence = sentence.substring(split);
+            }
+            current.append(sentence);
+        }
+        addChunk(chunks, current.toString());
+        return chunks;
+    }
+
+    private static void addChunk(List<String> chunks, String chunk) {
+        String trimmed = chunk.strip();
+        if (!trimmed.isEmpty()) {
+            chunks.add(trimmed);
+        }
+    }
+}
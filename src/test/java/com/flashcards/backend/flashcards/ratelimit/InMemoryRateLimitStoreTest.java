@@ -0,0 +1,97 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitStoreTest {
+
+    private static final int CAPACITY = 10;
+    private static final long REFILL_PERIOD_MS = 60_000;
+
+    private MutableClock clock;
+    private InMemoryRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        store = new InMemoryRateLimitStore(new AIConfigProperties(), clock);
+    }
+
+    @Test
+    void deniesOnceCapacityIsSpent() {
+        assertThat(store.tryConsume("user:a", 6, CAPACITY, REFILL_PERIOD_MS).remaining()).isEqualTo(4);
+        assertThat(store.tryConsume("user:a", 4, CAPACITY, REFILL_PERIOD_MS).allowed()).isTrue();
+
+        RateLimitResult denied = store.tryConsume("user:a", 1, CAPACITY, REFILL_PERIOD_MS);
+
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfterSeconds()).isEqualTo(6);
+    }
+
+    @Test
+    void refillsOverTime() {
+        store.tryConsume("user:a", CAPACITY, CAPACITY, REFILL_PERIOD_MS);
+
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(store.tryConsume("user:a", 5, CAPACITY, REFILL_PERIOD_MS).allowed()).isTrue();
+        assertThat(store.tryConsume("user:a", 1, CAPACITY, REFILL_PERIOD_MS).allowed()).isFalse();
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        store.tryConsume("user:a", CAPACITY, CAPACITY, REFILL_PERIOD_MS);
+
+        assertThat(store.tryConsume("user:b", CAPACITY, CAPACITY, REFILL_PERIOD_MS).allowed()).isTrue();
+    }
+
+    @Test
+    void concurrentConsumersNeverOverspend() throws Exception {
+        int capacity = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                attempts.add(() -> store.tryConsume("user:a", 1, capacity, REFILL_PERIOD_MS).allowed());
+            }
+
+            long allowed = 0;
+            for (Future<Boolean> result : executor.invokeAll(attempts)) {
+                if (result.get()) {
+                    allowed++;
+                }
+            }
+
+            assertThat(allowed).isEqualTo(capacity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void evictsOnlyFullyRefilledBuckets() {
+        int capacity = new AIConfigProperties().getLimits().getRateLimitPerMinute();
+        store.tryConsume("user:idle", 1, capacity, REFILL_PERIOD_MS);
+        clock.advance(Duration.ofMillis(REFILL_PERIOD_MS));
+        store.tryConsume("user:busy", capacity, capacity, REFILL_PERIOD_MS);
+
+        store.evictIdleBuckets();
+
+        // The busy bucket survived eviction, so it is still empty
+        assertThat(store.tryConsume("user:busy", 1, capacity, REFILL_PERIOD_MS).allowed()).isFalse();
+        assertThat(store.tryConsume("user:idle", capacity, capacity, REFILL_PERIOD_MS).allowed()).isTrue();
+    }
+}
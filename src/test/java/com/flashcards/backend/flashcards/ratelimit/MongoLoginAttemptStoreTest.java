@@ -0,0 +1,116 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import com.flashcards.backend.flashcards.config.BruteForceProperties;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.service.LoginAttemptService;
+import com.flashcards.backend.flashcards.support.MutableClock;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.flashcards.backend.flashcards.constants.AuthConstants.LOGIN_ATTEMPT_KEY_ACCOUNT_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the Mongo instance named by MONGO_URL, like the application context test.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGO_URL", matches = ".+")
+class MongoLoginAttemptStoreTest {
+
+    private MongoClient mongoClient;
+    private MutableClock clock;
+    private BruteForceProperties properties;
+    private MongoLoginAttemptStore store;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        mongoClient = MongoClients.create(System.getenv("MONGO_URL"));
+        String database = System.getenv().getOrDefault("MONGODB_DATABASE", "flashcards");
+        clock = new MutableClock(Instant.now());
+        properties = new BruteForceProperties();
+        store = new MongoLoginAttemptStore(new MongoTemplate(mongoClient, database), properties, clock);
+        userId = "test-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.delete(LOGIN_ATTEMPT_KEY_ACCOUNT_PREFIX + userId);
+        mongoClient.close();
+    }
+
+    @Test
+    void concurrentAttemptsCannotExceedTheLimit() throws Exception {
+        LoginAttemptService service = new LoginAttemptService(store, properties, clock);
+        int threads = 4 * properties.getMaxAccountFailures();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            attempts.add(() -> {
+                start.await();
+                try {
+                    service.reserve(userId); // held, as if every password check were still running
+                    return true;
+                } catch (ServiceException e) {
+                    return false;
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            attempts.forEach(attempt -> results.add(executor.submit(attempt)));
+            start.countDown();
+
+            int admitted = 0;
+            for (Future<Boolean> result : results) {
+                admitted += result.get() ? 1 : 0;
+            }
+            assertThat(admitted).isEqualTo(properties.getMaxAccountFailures());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reservationsMatchTheInMemoryWindow() {
+        InMemoryLoginAttemptStore expected = new InMemoryLoginAttemptStore(properties, clock);
+        String key = LOGIN_ATTEMPT_KEY_ACCOUNT_PREFIX + userId;
+        int maxFailures = properties.getMaxAccountFailures();
+        long retentionMs = 2 * properties.getWindowMs();
+
+        // Up to the first lockout, rejected while locked, a doubled lockout, then a quiet window and a rolled one
+        List<Duration> steps = new ArrayList<>();
+        for (int i = 0; i < maxFailures + 1; i++) {
+            steps.add(Duration.ofSeconds(1));
+        }
+        steps.add(Duration.ofMillis(properties.getBaseLockoutMs()));
+        steps.add(Duration.ofMillis(properties.getWindowMs() / 2));
+        steps.add(Duration.ofMillis(properties.getWindowMs()));
+        steps.add(Duration.ofMillis(3 * properties.getWindowMs()));
+
+        for (Duration step : steps) {
+            clock.advance(step);
+            long now = clock.millis();
+            assertThat(store.reserve(key, now, maxFailures, retentionMs))
+                    .isEqualTo(expected.reserve(key, now, maxFailures, retentionMs));
+            assertThat(store.find(key)).isEqualTo(expected.find(key));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.support.MutableClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.flashcards.backend.flashcards.constants.AIConstants.RATE_LIMIT_HEADER_REMAINING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the interceptor against the in-memory store, the local stand-in for the Mongo store.
+ */
+class RateLimitInterceptorTest {
+
+    private AIConfigProperties aiProperties;
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        aiProperties = new AIConfigProperties();
+        aiProperties.getLimits().setRateLimitPerMinute(10);
+        aiProperties.getRateLimit().getOperationCosts().put("/api/ai/images/generate", 5);
+
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(aiProperties, new MutableClock(Instant.EPOCH));
+        interceptor = new RateLimitInterceptor(store, aiProperties);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void chargesConfiguredCostPerPath() {
+        authenticate("user-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(post("/api/ai/images/generate"), response, null);
+
+        assertThat(response.getHeader(RATE_LIMIT_HEADER_REMAINING)).isEqualTo("5");
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenBucketIsEmpty() {
+        authenticate("user-1");
+        interceptor.preHandle(post("/api/ai/images/generate"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(post("/api/ai/images/generate"), new MockHttpServletResponse(), null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> interceptor.preHandle(post("/api/ai/flashcards/generate"), response, null))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVICE_AI_RATE_LIMIT_EXCEEDED);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("6");
+    }
+
+    @Test
+    void limitsUsersIndependently() {
+        authenticate("user-1");
+        interceptor.preHandle(post("/api/ai/images/generate"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(post("/api/ai/images/generate"), new MockHttpServletResponse(), null);
+
+        authenticate("user-2");
+
+        assertThat(interceptor.preHandle(post("/api/ai/images/generate"), new MockHttpServletResponse(), null)).isTrue();
+    }
+
+    @Test
+    void keysAnonymousRequestsByRemoteAddress() {
+        MockHttpServletRequest first = post("/api/ai/images/generate");
+        first.setRemoteAddr("203.0.113.7");
+        interceptor.preHandle(first, new MockHttpServletResponse(), null);
+        interceptor.preHandle(first, new MockHttpServletResponse(), null);
+
+        MockHttpServletRequest other = post("/api/ai/images/generate");
+        other.setRemoteAddr("203.0.113.8");
+
+        assertThat(interceptor.preHandle(other, new MockHttpServletResponse(), null)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(first, new MockHttpServletResponse(), null))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    void skipsPreflightAndDisabledLimiter() {
+        authenticate("user-1");
+        MockHttpServletRequest preflight = new MockHttpServletRequest("OPTIONS", "/api/ai/images/generate");
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preHandle(preflight, new MockHttpServletResponse(), null)).isTrue();
+        }
+
+        aiProperties.getRateLimit().setEnabled(false);
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preHandle(post("/api/ai/images/generate"), new MockHttpServletResponse(), null)).isTrue();
+        }
+    }
+
+    private MockHttpServletRequest post(String uri) {
+        return new MockHttpServletRequest("POST", uri);
+    }
+
+    private void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+}
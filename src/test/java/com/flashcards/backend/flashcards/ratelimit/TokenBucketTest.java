@@ -0,0 +1,57 @@
+package com.flashcards.backend.flashcards.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final int CAPACITY = 10;
+    private static final long REFILL_PERIOD_MS = 60_000;
+
+    @Test
+    void refillsProportionallyToElapsedTime() {
+        TokenBucket bucket = new TokenBucket(0, 0);
+
+        assertThat(bucket.refill(30_000, CAPACITY, REFILL_PERIOD_MS).tokens()).isEqualTo(5.0);
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        TokenBucket bucket = new TokenBucket(8, 0);
+
+        TokenBucket refilled = bucket.refill(10 * REFILL_PERIOD_MS, CAPACITY, REFILL_PERIOD_MS);
+
+        assertThat(refilled.tokens()).isEqualTo(CAPACITY);
+        assertThat(refilled.isFull(CAPACITY)).isTrue();
+    }
+
+    @Test
+    void refillIgnoresClockGoingBackwards() {
+        TokenBucket bucket = new TokenBucket(3, 10_000);
+
+        TokenBucket refilled = bucket.refill(5_000, CAPACITY, REFILL_PERIOD_MS);
+
+        assertThat(refilled.tokens()).isEqualTo(3.0);
+        assertThat(refilled.lastRefillAt()).isEqualTo(10_000);
+    }
+
+    @Test
+    void takeRequiresEnoughTokens() {
+        TokenBucket bucket = new TokenBucket(4, 0);
+
+        assertThat(bucket.canTake(4)).isTrue();
+        assertThat(bucket.canTake(5)).isFalse();
+        assertThat(bucket.take(4).tokens()).isZero();
+    }
+
+    @Test
+    void retryAfterCoversMissingTokensRoundedUp() {
+        TokenBucket bucket = new TokenBucket(1, 0);
+
+        // 4 tokens missing at 10 per minute is 24 seconds
+        assertThat(bucket.retryAfterSeconds(5, CAPACITY, REFILL_PERIOD_MS)).isEqualTo(24);
+        // Never advertise less than a second
+        assertThat(new TokenBucket(4.99, 0).retryAfterSeconds(5, CAPACITY, REFILL_PERIOD_MS)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.flashcards.backend.flashcards.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import static com.flashcards.backend.flashcards.constants.AuthConstants.BCRYPT_STRENGTH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpgradingBCryptPasswordEncoderTest {
+
+    private final UpgradingBCryptPasswordEncoder encoder = new UpgradingBCryptPasswordEncoder(BCRYPT_STRENGTH);
+
+    @Test
+    void upgradesHashesWithALowerCost() {
+        assertThat(encoder.upgradeEncoding(hashWithCost(BCRYPT_STRENGTH - 2))).isTrue();
+    }
+
+    @Test
+    void keepsHashesWithTheCurrentCost() {
+        assertThat(encoder.upgradeEncoding(hashWithCost(BCRYPT_STRENGTH))).isFalse();
+    }
+
+    @Test
+    void neverDowngradesHashesWithAHigherCost() {
+        assertThat(encoder.upgradeEncoding(hashWithCost(BCRYPT_STRENGTH + 1))).isFalse();
+    }
+
+    @Test
+    void ignoresMalformedHashes() {
+        assertThat(encoder.upgradeEncoding("$2a$xx$not-a-bcrypt-hash")).isFalse();
+        assertThat(encoder.upgradeEncoding("")).isFalse();
+    }
+
+    private static String hashWithCost(int cost) {
+        return BCrypt.hashpw("password", BCrypt.gensalt(cost));
+    }
+}
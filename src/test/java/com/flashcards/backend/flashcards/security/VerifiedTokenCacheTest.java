@@ -0,0 +1,56 @@
+package com.flashcards.backend.flashcards.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+    @Test
+    void returnsCachedTokenUntilItExpires() {
+        cache.put("live", token("user-a", Duration.ofMinutes(5)));
+        cache.put("expired", token("user-a", Duration.ofSeconds(-1)));
+
+        assertThat(cache.get("live")).isPresent();
+        assertThat(cache.get("expired")).isEmpty();
+    }
+
+    @Test
+    void dropsTokensClosestToExpiryWhenFull() {
+        for (int i = 0; i < 10; i++) {
+            cache.put("token-" + i, token("user-" + i, Duration.ofMinutes(10 + i)));
+        }
+
+        cache.put("newest", token("user-new", Duration.ofMinutes(30)));
+
+        assertThat(cache.get("newest")).isPresent();
+        assertThat(cache.get("token-0")).isEmpty();
+        assertThat(cache.get("token-1")).isEmpty();
+        assertThat(cache.get("token-9")).isPresent();
+    }
+
+    @Test
+    void evictsEveryTokenOfAUser() {
+        cache.put("first", token("user-a", Duration.ofMinutes(5)));
+        cache.put("second", token("user-a", Duration.ofMinutes(5)));
+        cache.put("other", token("user-b", Duration.ofMinutes(5)));
+
+        cache.evictUser("user-a");
+
+        assertThat(cache.get("first")).isEmpty();
+        assertThat(cache.get("second")).isEmpty();
+        assertThat(cache.get("other")).isPresent();
+    }
+
+    private static VerifiedToken token(String userId, Duration expiresIn) {
+        Instant now = Instant.now();
+        return new VerifiedToken(userId, userId, userId + "@example.com", List.of("ROLE_USER"),
+                false, userId + "-jti", now, now.plus(expiresIn));
+    }
+}
@@ -0,0 +1,165 @@
+package com.flashcards.backend.flashcards.service;
+
+import com.flashcards.backend.flashcards.config.BruteForceProperties;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.ratelimit.InMemoryLoginAttemptStore;
+import com.flashcards.backend.flashcards.support.MutableClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptServiceTest {
+
+    private static final String USER_ID = "user-a";
+
+    private MutableClock clock;
+    private BruteForceProperties properties;
+    private LoginAttemptService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        properties = new BruteForceProperties();
+        service = new LoginAttemptService(new InMemoryLoginAttemptStore(properties, clock), properties, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void locksAccountOnceFailuresReachTheLimit() {
+        failAttempts(USER_ID, properties.getMaxAccountFailures());
+
+        assertLocked(USER_ID);
+    }
+
+    @Test
+    void doublesTheLockoutWhileFailuresContinue() {
+        failAttempts(USER_ID, properties.getMaxAccountFailures());
+
+        clock.advance(Duration.ofMillis(properties.getBaseLockoutMs() + 1));
+        service.reserve(USER_ID); // one more wrong guess after the first lockout
+
+        clock.advance(Duration.ofMillis(properties.getBaseLockoutMs() + 1));
+        assertLocked(USER_ID);
+
+        clock.advance(Duration.ofMillis(properties.getBaseLockoutMs()));
+        service.release(service.reserve(USER_ID));
+    }
+
+    @Test
+    void forgetsFailuresOutsideTheWindow() {
+        failAttempts(USER_ID, properties.getMaxAccountFailures() - 1);
+
+        clock.advance(Duration.ofMillis(2 * properties.getWindowMs()));
+
+        failAttempts(USER_ID, properties.getMaxAccountFailures() - 1);
+        service.release(service.reserve(USER_ID));
+    }
+
+    @Test
+    void successClearsTheAccountFailures() {
+        failAttempts(USER_ID, properties.getMaxAccountFailures() - 1);
+
+        service.recordSuccess(service.reserve(USER_ID));
+
+        failAttempts(USER_ID, properties.getMaxAccountFailures() - 1);
+        service.release(service.reserve(USER_ID));
+    }
+
+    @Test
+    void releaseUndoesTheLockoutTheAttemptTriggered() {
+        failAttempts(USER_ID, properties.getMaxAccountFailures() - 1);
+
+        // The last allowed attempt locks the account while it is verified, e.g. a missing TOTP code
+        LoginAttemptService.Reservation attempt = service.reserve(USER_ID);
+        assertLocked(USER_ID);
+
+        service.release(attempt);
+        service.release(service.reserve(USER_ID));
+    }
+
+    @Test
+    void concurrentAttemptsCannotExceedTheLimit() throws Exception {
+        int threads = 4 * properties.getMaxAccountFailures();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            attempts.add(() -> {
+                start.await();
+                try {
+                    service.reserve(USER_ID); // held, as if every password check were still running
+                    return true;
+                } catch (ServiceException e) {
+                    return false;
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            attempts.forEach(attempt -> results.add(executor.submit(attempt)));
+            start.countDown();
+
+            int admitted = 0;
+            for (Future<Boolean> result : results) {
+                admitted += result.get() ? 1 : 0;
+            }
+            assertThat(admitted).isEqualTo(properties.getMaxAccountFailures());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsClientFailuresAcrossAccountsAfterASuccess() {
+        properties.setMaxClientFailures(3);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        failAttempts("user-b", 1);
+        failAttempts("user-c", 1);
+        service.recordSuccess(service.reserve(USER_ID));
+
+        failAttempts("user-d", 1);
+
+        assertThatThrownBy(service::checkClient)
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+    }
+
+    private void failAttempts(String userId, int count) {
+        for (int i = 0; i < count; i++) {
+            service.reserve(userId); // never released: the credentials were wrong
+        }
+    }
+
+    private void assertLocked(String userId) {
+        assertThatThrownBy(() -> service.reserve(userId))
+                .isInstanceOf(ServiceException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+    }
+}
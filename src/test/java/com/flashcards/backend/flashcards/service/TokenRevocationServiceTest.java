@@ -0,0 +1,109 @@
+package com.flashcards.backend.flashcards.service;
+
+import com.flashcards.backend.flashcards.dao.RevokedTokenDao;
+import com.flashcards.backend.flashcards.model.RevokedToken;
+import com.flashcards.backend.flashcards.security.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationServiceTest {
+
+    private static final long ACCESS_TOKEN_LIFETIME_MS = 900_000;
+
+    private InMemoryRevokedTokenDao revokedTokenDao;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenDao = new InMemoryRevokedTokenDao();
+        service = new TokenRevocationService(revokedTokenDao, ACCESS_TOKEN_LIFETIME_MS);
+    }
+
+    @Test
+    void revokesTokensIssuedEarlierInTheSameSecond() {
+        // iat has second precision, so a token issued just before the cutoff carries the cutoff's second
+        VerifiedToken earlier = token("earlier", Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        service.revokeUser("user-a", "replacement");
+
+        assertThat(service.isRevoked(earlier)).isTrue();
+    }
+
+    @Test
+    void keepsTheReplacementTokenIssuedInTheSameSecond() {
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        service.revokeUser("user-a", "replacement");
+
+        assertThat(service.isRevoked(token("replacement", issuedAt))).isFalse();
+        assertThat(service.isRevoked(token("other", issuedAt))).isTrue();
+    }
+
+    @Test
+    void keepsTokensIssuedAfterTheCutoff() {
+        service.revokeUser("user-a", null);
+
+        VerifiedToken later = token("later", Instant.now().plusSeconds(1).truncatedTo(ChronoUnit.SECONDS));
+
+        assertThat(service.isRevoked(later)).isFalse();
+    }
+
+    @Test
+    void appliesCutoffSyncedFromAnotherInstance() {
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        service.revokeUser("user-a", "replacement");
+
+        TokenRevocationService otherInstance = new TokenRevocationService(revokedTokenDao, ACCESS_TOKEN_LIFETIME_MS);
+        otherInstance.sync();
+
+        assertThat(otherInstance.isRevoked(token("earlier", issuedAt))).isTrue();
+        assertThat(otherInstance.isRevoked(token("replacement", issuedAt))).isFalse();
+    }
+
+    @Test
+    void appliesRevocationsFromAnInstanceWithASlowClock() {
+        service.sync();
+        // Written after the last sync, but stamped by a node whose clock runs a minute behind
+        Instant skewedRevokedAt = Instant.now().minusSeconds(60).truncatedTo(ChronoUnit.MILLIS);
+        revokedTokenDao.insert(RevokedToken.builder()
+                .id("skewed")
+                .userId("user-a")
+                .revokedAt(skewedRevokedAt)
+                .expiresAt(Date.from(skewedRevokedAt.plusMillis(ACCESS_TOKEN_LIFETIME_MS)))
+                .build());
+
+        service.sync();
+
+        assertThat(service.isRevoked(token("earlier", skewedRevokedAt.minusSeconds(1)))).isTrue();
+    }
+
+    private static VerifiedToken token(String tokenId, Instant issuedAt) {
+        return new VerifiedToken("user-a", "alice", "alice@example.com", List.of("ROLE_USER"),
+                false, tokenId, issuedAt, issuedAt.plusMillis(ACCESS_TOKEN_LIFETIME_MS));
+    }
+
+    private static class InMemoryRevokedTokenDao implements RevokedTokenDao {
+        private final List<RevokedToken> revocations = new CopyOnWriteArrayList<>();
+
+        @Override
+        public RevokedToken insert(RevokedToken revokedToken) {
+            revocations.add(revokedToken);
+            return revokedToken;
+        }
+
+        @Override
+        public List<RevokedToken> findActive(Date now) {
+            return revocations.stream()
+                    .filter(revocation -> revocation.getExpiresAt().after(now))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.flashcards.backend.flashcards.service;
+
+import com.flashcards.backend.flashcards.dao.TotpUsedStepDao;
+import com.flashcards.backend.flashcards.exception.ErrorCode;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import com.flashcards.backend.flashcards.support.MutableClock;
+import dev.samstevens.totp.code.DefaultCodeGenerator;
+import dev.samstevens.totp.code.HashingAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_CODE_LENGTH;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_TIME_STEP_SECONDS;
+import static com.flashcards.backend.flashcards.constants.AuthConstants.TOTP_WINDOW;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOTP_CODE_INVALID;
+import static com.flashcards.backend.flashcards.constants.ErrorMessages.AUTH_TOTP_CODE_REUSED;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TotpServiceTest {
+
+    private static final String USER_ID = "user-a";
+
+    private MutableClock clock;
+    private InMemoryTotpUsedStepDao totpUsedStepDao;
+    private TotpService totpService;
+    private String secret;
+    private long step;
+
+    @BeforeEach
+    void setUp() {
+        // Mid-step, so nothing depends on where in the step the test happens to run
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:15Z"));
+        totpUsedStepDao = new InMemoryTotpUsedStepDao();
+        totpService = new TotpService("Flashcards", totpUsedStepDao, clock);
+        secret = totpService.generateSecret();
+        step = clock.instant().getEpochSecond() / TOTP_TIME_STEP_SECONDS;
+    }
+
+    @Test
+    void acceptsAValidCodeOnce() {
+        String code = code(step);
+
+        assertThatCode(() -> totpService.validateTotpCode(USER_ID, secret, code)).doesNotThrowAnyException();
+        assertRejected(code, AUTH_TOTP_CODE_REUSED);
+    }
+
+    @Test
+    void rejectsAnEarlierStepAfterALaterOneWasUsed() {
+        totpService.validateTotpCode(USER_ID, secret, code(step));
+
+        assertRejected(code(step - 1), AUTH_TOTP_CODE_REUSED);
+    }
+
+    @Test
+    void rejectsReplayOnAnotherInstance() {
+        String code = code(step);
+        totpService.validateTotpCode(USER_ID, secret, code);
+
+        TotpService otherInstance = new TotpService("Flashcards", totpUsedStepDao, clock);
+
+        assertThatThrownBy(() -> otherInstance.validateTotpCode(USER_ID, secret, code))
+                .isInstanceOf(ServiceException.class)
+                .hasMessage(AUTH_TOTP_CODE_REUSED);
+    }
+
+    @Test
+    void tracksUsedStepsPerUser() {
+        String code = code(step);
+        totpService.validateTotpCode(USER_ID, secret, code);
+
+        assertThatCode(() -> totpService.validateTotpCode("user-b", secret, code)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsAWrongCodeWithoutConsumingTheStep() {
+        String code = code(step);
+        String wrong = String.format("%0" + TOTP_CODE_LENGTH + "d", (Integer.parseInt(code) + 1) % (int) Math.pow(10, TOTP_CODE_LENGTH));
+
+        assertRejected(wrong, AUTH_TOTP_CODE_INVALID);
+        assertThatCode(() -> totpService.validateTotpCode(USER_ID, secret, code)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void acceptsACodeFromTheWindowAndRejectsOneBeyondIt() {
+        String code = code(step);
+
+        clock.advance(Duration.ofSeconds((TOTP_WINDOW + 1L) * TOTP_TIME_STEP_SECONDS));
+        assertRejected(code, AUTH_TOTP_CODE_INVALID);
+
+        clock.advance(Duration.ofSeconds(-TOTP_TIME_STEP_SECONDS));
+        assertThatCode(() -> totpService.validateTotpCode(USER_ID, secret, code)).doesNotThrowAnyException();
+    }
+
+    private void assertRejected(String code, String message) {
+        assertThatThrownBy(() -> totpService.validateTotpCode(USER_ID, secret, code))
+                .isInstanceOf(ServiceException.class)
+                .hasMessage(message)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTH_TOTP_INVALID);
+    }
+
+    private String code(long counter) {
+        try {
+            return new DefaultCodeGenerator(HashingAlgorithm.SHA1, TOTP_CODE_LENGTH).generate(secret, counter);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Same contract as the Mongo DAO: a step is accepted only if it is later than the last used one.
+     */
+    private static class InMemoryTotpUsedStepDao implements TotpUsedStepDao {
+        private final Map<String, Long> lastUsedSteps = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean markStepUsed(String userId, long step, Date expiresAt) {
+            AtomicBoolean marked = new AtomicBoolean();
+            lastUsedSteps.compute(userId, (key, lastUsed) -> {
+                marked.set(lastUsed == null || lastUsed < step);
+                return marked.get() ? step : lastUsed;
+            });
+            return marked.get();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.flashcards.backend.flashcards.service.ai;
+
+import com.flashcards.backend.flashcards.config.AIConfigProperties;
+import com.flashcards.backend.flashcards.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.MimeTypeUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImagePreprocessorTest {
+
+    private AIConfigProperties properties;
+    private ImagePreprocessor preprocessor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AIConfigProperties();
+        preprocessor = new ImagePreprocessor(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void appliesExifRotationToTheRaster() throws IOException {
+        byte[] jpeg = withExifOrientation(jpeg(40, 20), 6);
+
+        ImagePreprocessor.PreprocessedImage result = preprocessor.preprocess(upload(jpeg));
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(result.data()));
+        assertThat(decoded.getWidth()).isEqualTo(20);
+        assertThat(decoded.getHeight()).isEqualTo(40);
+    }
+
+    @Test
+    void readsOrientationInBothByteOrders() {
+        assertThat(ImagePreprocessor.exifOrientation(exifSegment(8, ByteOrder.BIG_ENDIAN))).isEqualTo(8);
+        assertThat(ImagePreprocessor.exifOrientation(exifSegment(3, ByteOrder.LITTLE_ENDIAN))).isEqualTo(3);
+        assertThat(ImagePreprocessor.exifOrientation(exifSegment(42, ByteOrder.BIG_ENDIAN))).isEqualTo(1);
+        assertThat(ImagePreprocessor.exifOrientation("Exif".getBytes(StandardCharsets.US_ASCII))).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsImagesOverThePixelLimitBeforeDecoding() throws IOException {
+        properties.getImagePreprocessing().setMaxSourcePixels(799);
+
+        assertThatThrownBy(() -> preprocessor.preprocess(upload(jpeg(40, 20))))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("40x20");
+    }
+
+    @Test
+    void sendsOriginalBytesWhenDecodingFails() throws IOException {
+        byte[] full = jpeg(40, 20);
+        byte[] truncated = Arrays.copyOf(full, full.length / 3);
+
+        ImagePreprocessor.PreprocessedImage result = preprocessor.preprocess(upload(truncated));
+
+        assertThat(result.data()).isEqualTo(truncated);
+        assertThat(result.mimeType()).isEqualTo(MimeTypeUtils.IMAGE_JPEG);
+    }
+
+    private static MockMultipartFile upload(byte[] bytes) {
+        return new MockMultipartFile("image", "photo.jpg", MimeTypeUtils.IMAGE_JPEG_VALUE, bytes);
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Insert an APP1 Exif segment after SOI and the JFIF APP0 segment ImageIO writes.
+     */
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        int app0End = 4 + ((jpeg[4] & 0xFF) << 8 | (jpeg[5] & 0xFF));
+        byte[] exif = exifSegment(orientation, ByteOrder.BIG_ENDIAN);
+        ByteBuffer out = ByteBuffer.allocate(jpeg.length + exif.length + 4);
+        out.put(jpeg, 0, app0End);
+        out.put((byte) 0xFF).put((byte) 0xE1).putShort((short) (exif.length + 2));
+        out.put(exif);
+        out.put(jpeg, app0End, jpeg.length - app0End);
+        return out.array();
+    }
+
+    private static byte[] exifSegment(int orientation, ByteOrder order) {
+        ByteBuffer tiff = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4).order(order);
+        tiff.put("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        tiff.put(order == ByteOrder.LITTLE_ENDIAN ? (byte) 'I' : (byte) 'M');
+        tiff.put(order == ByteOrder.LITTLE_ENDIAN ? (byte) 'I' : (byte) 'M');
+        tiff.putShort((short) 42).putInt(8);
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putInt(0);
+        return tiff.array();
+    }
+}